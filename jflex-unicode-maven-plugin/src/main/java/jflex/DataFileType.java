@@ -1,24 +1,20 @@
 package jflex;
 
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.IOException;
-import java.net.URL;
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
 
 public enum DataFileType {
   PROPERTY_ALIASES("PropertyAliases") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       PropertyAliasesScanner scanner = new PropertyAliasesScanner(reader, version);
       scanner.scan();
     }
   },
     
   PROPERTY_VALUE_ALIASES("PropertyValueAliases") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       PropertyValueAliasesScanner scanner 
         = new PropertyValueAliasesScanner(reader, version);
       scanner.scan();
@@ -26,16 +22,14 @@ public enum DataFileType {
   },
 
   UNICODE_DATA("UnicodeData") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       UnicodeDataScanner scanner = new UnicodeDataScanner(reader, version);
       scanner.scan();
     }
   },
 
   PROPLIST("PropList") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       // Before Unicode 3.1, PropList-X.X.X.txt used a different format.
       // Before Unicode 2.0, PropList-X.X.X.txt did not exist.
       if (version.majorMinorVersion.equals("2.0")
@@ -53,8 +47,7 @@ public enum DataFileType {
   },
 
   DERIVED_CORE_PROPERTIES("DerivedCoreProperties") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       BinaryPropertiesFileScanner scanner
         = new BinaryPropertiesFileScanner(reader, version);
       scanner.scan();
@@ -62,7 +55,7 @@ public enum DataFileType {
   },
 
   SCRIPTS("Scripts") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       // Prior to Unicode 5.0, the default Script property value is "Common".
       // From Unicode 5.0 onward, the default Script property value is "Unknown".
       // Prior to Unicode 3.1, Scripts(-X.X.X).txt did not exist.
@@ -73,7 +66,6 @@ public enum DataFileType {
           || version.majorMinorVersion.equals("4.1")) {
         defaultPropertyValue = "Common";
       }
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
       EnumeratedPropertyFileScanner scanner = new EnumeratedPropertyFileScanner
         (reader, version, "Script", defaultPropertyValue);
       scanner.scan();
@@ -81,8 +73,7 @@ public enum DataFileType {
   },
 
   BLOCKS("Blocks") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       // Before Unicode 3.1, Blocks-X.txt used a different format.
       // Before Unicode 2.0, Blocks-X.txt did not exist.
       if (version.majorMinorVersion.equals("2.0")
@@ -99,8 +90,7 @@ public enum DataFileType {
   },
   
   LINE_BREAK("LineBreak") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       // In Unicode 3.0, LineBreak-X.txt used a different format.
       // Before Unicode 3.0, LineBreak-X.txt did not exist.
       if (version.majorMinorVersion.equals("3.0")) {
@@ -116,8 +106,7 @@ public enum DataFileType {
   },
   
   GRAPHEME_BREAK_PROPERTY("GraphemeBreakProperty") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       EnumeratedPropertyFileScanner scanner = new EnumeratedPropertyFileScanner
         (reader, version, "Grapheme_Cluster_Break", "Other");
       scanner.scan(); 
@@ -125,8 +114,7 @@ public enum DataFileType {
   },
   
   SENTENCE_BREAK_PROPERTY("SentenceBreakProperty") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       EnumeratedPropertyFileScanner scanner = new EnumeratedPropertyFileScanner
         (reader, version, "Sentence_Break", "Other");
       scanner.scan(); 
@@ -134,8 +122,7 @@ public enum DataFileType {
   },
   
   WORD_BREAK_PROPERTY("WordBreakProperty") {
-    public void scan(URL url, UnicodeVersion version) throws IOException {
-      Reader reader = new InputStreamReader(url.openStream(), "UTF-8");
+    public void scan(Reader reader, UnicodeVersion version) throws IOException {
       EnumeratedPropertyFileScanner scanner = new EnumeratedPropertyFileScanner
         (reader, version, "Word_Break", "Other");
       scanner.scan(); 
@@ -150,10 +137,15 @@ public enum DataFileType {
       = Pattern.compile("<a\\s+href\\s*=\\s*\"(" + fileNamePrefix 
                         + "(?:|-\\d+(?:\\.\\d+){0,2})\\.txt)\"\\s*>",
                         Pattern.CASE_INSENSITIVE);
+    nonBetaFileNamePattern
+      = Pattern.compile(fileNamePrefix + "(?:|-\\d+(?:\\.\\d+){0,2})\\.txt",
+                        Pattern.CASE_INSENSITIVE);
   }
   
   private Pattern nonBetaHTMLLinkPattern;
 
+  private Pattern nonBetaFileNamePattern;
+
   /**
    * Attempts to find a non-beta file name for this Unicode data file type in
    * the passed-in HTML directory listing.
@@ -166,5 +158,23 @@ public enum DataFileType {
     return matcher.find() ? matcher.group(1) : null;
   }
   
-  public abstract void scan(URL url, UnicodeVersion version) throws IOException;
+  /**
+   * Tests whether the given file name, e.g. from a local copy of the
+   * Unicode data, is a non-beta file name for this Unicode data file type.
+   * 
+   * @param fileName The file name, without directory
+   * @return true iff the file name matches this data file type.
+   */
+  public boolean isFileName(String fileName) {
+    return nonBetaFileNamePattern.matcher(fileName).matches();
+  }
+  
+  /**
+   * Parses the contents of a data file of this type.
+   * 
+   * @param reader The contents of the data file
+   * @param version Where to store the parsed property values
+   * @throws IOException If there is a problem reading or parsing the data
+   */
+  public abstract void scan(Reader reader, UnicodeVersion version) throws IOException;
 }
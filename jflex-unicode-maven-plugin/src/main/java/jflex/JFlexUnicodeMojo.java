@@ -27,14 +27,26 @@ import org.apache.maven.plugin.MojoFailureException;
 import java.net.URL;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.ArrayList;
 import java.util.SortedMap;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.Date;
 import java.util.EnumMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.text.SimpleDateFormat;
 
@@ -60,8 +72,12 @@ public class JFlexUnicodeMojo extends AbstractMojo {
     ("<a\\s+href\\s*=\\s*\"((\\d+(?:\\.\\d+){1,2})(?i:-(Update(\\d*)))?/)\"\\s*>",
      Pattern.CASE_INSENSITIVE);
 
-  /** Buffer size to use when reading web page content */
-  private static final int BUF_SIZE = 4096;
+  /**
+   * Pattern for Unicode version directory names in local Unicode data,
+   * with the same groups as {@link #UNICODE_VERSION_LINK_PATTERN}
+   */
+  private static final Pattern UNICODE_VERSION_DIRECTORY_PATTERN
+    = Pattern.compile("((\\d+(?:\\.\\d+){1,2})(?i:-(Update(\\d*)))?/)");
 
   /** The date, for use in comments on the output class. */
   private static final String date
@@ -74,6 +90,56 @@ public class JFlexUnicodeMojo extends AbstractMojo {
    */
   private File outputDirectory = null;
 
+  /**
+   * Format of the generated per-version Unicode data: "java" for classes
+   * jflex.unicode.data.Unicode_X_X holding the data as String constants,
+   * or "binary" for resources jflex/unicode/data/Unicode_X_X.bin, which
+   * are much smaller and need no class loading.
+   *
+   * @parameter expression="${jflex.unicode.outputFormat}" default-value="java"
+   */
+  private String outputFormat = "java";
+
+  /**
+   * Name of the directory into which binary Unicode data is generated.
+   *
+   * @parameter expression="${basedir}/src/main/resources/jflex/unicode/data"
+   */
+  private File resourceDirectory = null;
+
+  /**
+   * Local copy of the Unicode data, either a directory or a zip archive,
+   * laid out like {@value #UNICODE_DOT_ORG_URL}: one directory per version,
+   * e.g. 6.0.0/ucd/UnicodeData.txt, optionally below a common top-level
+   * directory.  If given, the data is read from here, and unicode.org is
+   * not accessed at all.
+   *
+   * @parameter expression="${jflex.unicode.data}"
+   */
+  private File unicodeDataLocation = null;
+
+  /**
+   * Regenerate the data for all versions, even for those whose data files
+   * have not changed since the data was last generated.
+   *
+   * @parameter expression="${jflex.unicode.force}" default-value="false"
+   */
+  private boolean forceRegeneration = false;
+
+  /** The location that relative version directory URLs are resolved against */
+  private URL unicodeDataURL;
+
+  /**
+   * For local Unicode data, maps relative paths of version directories to
+   * the paths of all files below them, relative to the version directory.
+   * Null when downloading from unicode.org.
+   */
+  private Map<String,List<String>> localFiles = null;
+
+  /** major.minor versions whose generated data is up to date */
+  private Set<String> unchangedVersions
+    = Collections.synchronizedSet(new HashSet<String>());
+
   /**
    * Maps validated major.minor unicode versions to information about the
    * version.
@@ -99,13 +165,14 @@ public class JFlexUnicodeMojo extends AbstractMojo {
   /**
    * <ol>
    *   <li>Collects and validates Unicode versions to support from
-   *       <a href="http://www.unicode.org/Public/">Unicode.org</a>;
+   *       <a href="http://www.unicode.org/Public/">Unicode.org</a>,
+   *       or from a local copy given by {@link #unicodeDataLocation};
    *       finds the most recent updates for non-beta versions, so that
    *       JFlex scanner specs can specify major or major.minor Unicode
    *       versions as an optional parameter to the %unicode option.</li>
-   *   <li>For each version:
+   *   <li>For each version, in parallel:
    *     <ol type="a">
-   *       <li>Downloads the following Unicode data files:
+   *       <li>Downloads (or reads) the following Unicode data files:
    *         <ul>
    *           <li>UnicodeData(-X.X.X).txt</li>
    *           <li>PropertyAliases(-X.X.X).txt</li>
@@ -122,7 +189,9 @@ public class JFlexUnicodeMojo extends AbstractMojo {
    *       <li>Parses the data files, extracting ranges of code points
    *           and property values associated with them (see
    *           <a href="http://www.unicode.org/reports/tr23/">The Unicode
-   *           Character Property Model</a>).</li>
+   *           Character Property Model</a>).  This is skipped if the
+   *           data files have the same content as those the version's
+   *           data was last generated from.</li>
    *     </ol>
    *   </li>
    *   <li>Generates Java source for class UnicodeProperties:
@@ -149,9 +218,18 @@ public class JFlexUnicodeMojo extends AbstractMojo {
    * </ol>
    */
   public void execute() throws MojoExecutionException, MojoFailureException {
+    if ( ! outputFormat.equals("java") && ! outputFormat.equals("binary")) {
+      throw new MojoFailureException
+        ("Unknown outputFormat '" + outputFormat + "' - expected 'java' or 'binary'");
+    }
     try {
-      getLog().info("Downloading Unicode data from " + UNICODE_DOT_ORG_URL + "\n");
-      collectUnicodeVersions();
+      if (null != unicodeDataLocation) {
+        getLog().info("Reading Unicode data from " + unicodeDataLocation + "\n");
+        collectLocalUnicodeVersions();
+      } else {
+        getLog().info("Downloading Unicode data from " + UNICODE_DOT_ORG_URL + "\n");
+        collectUnicodeVersions();
+      }
       emitUnicodeProperties();
       emitVersionedUnicodeData();
     } catch (Exception e) {
@@ -163,38 +241,163 @@ public class JFlexUnicodeMojo extends AbstractMojo {
    * Searches unicode.org for available Unicode versions, and collects all
    * supported property data for each version.
    *
-   * @throws IOException If there is a problem fetching or parsing the data
+   * @throws Exception If there is a problem fetching or parsing the data
    */
-  private void collectUnicodeVersions() throws IOException {
+  private void collectUnicodeVersions() throws Exception {
     // Maps available versions to maps from update numbers to relative URLs.
     // A version with no update is given update number "-1" for the purposes
     // of comparison.
     SortedMap<String,SortedMap<Integer,String>> allUnicodeVersions
       = new TreeMap<String,SortedMap<Integer,String>>();
 
-    URL unicodeURL = new URL(UNICODE_DOT_ORG_URL);
+    unicodeDataURL = new URL(UNICODE_DOT_ORG_URL);
     Matcher matcher
-      = UNICODE_VERSION_LINK_PATTERN.matcher(getPageContent(unicodeURL));
+      = UNICODE_VERSION_LINK_PATTERN.matcher(getPageContent(unicodeDataURL));
     while (matcher.find()) {
-      String relativeURL = matcher.group(1);
-      String baseVersion = matcher.group(2);
-      String update = matcher.group(3);
-      int updateNumber = -1;
-      if (null != update) {
-        updateNumber = 0;
-        if (null != matcher.group(4) && matcher.group(4).length() > 0) {
-          updateNumber = Integer.parseInt(matcher.group(4));
+      addUnicodeVersion(allUnicodeVersions, matcher, matcher.group(1));
+    }
+    populateUnicodeVersions(allUnicodeVersions);
+  }
+
+  /**
+   * Searches the local copy of the Unicode data for available Unicode
+   * versions, and collects all supported property data for each version.
+   *
+   * @throws Exception If there is a problem reading or parsing the data
+   */
+  private void collectLocalUnicodeVersions() throws Exception {
+    SortedMap<String,SortedMap<Integer,String>> allUnicodeVersions
+      = new TreeMap<String,SortedMap<Integer,String>>();
+
+    List<String> paths = new ArrayList<String>();
+    if (unicodeDataLocation.isDirectory()) {
+      unicodeDataURL = unicodeDataLocation.toURI().toURL();
+      listFiles(unicodeDataLocation, "", paths);
+    } else {
+      unicodeDataURL = new URL("jar:" + unicodeDataLocation.toURI() + "!/");
+      ZipFile zipFile = new ZipFile(unicodeDataLocation);
+      try {
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+          ZipEntry entry = entries.nextElement();
+          if ( ! entry.isDirectory()) {
+            paths.add(entry.getName());
+          }
+        }
+      } finally {
+        zipFile.close();
+      }
+    }
+
+    // The version directory is the outermost one with a version as name
+    localFiles = new TreeMap<String,List<String>>();
+    for (String path : paths) {
+      int start = 0;
+      int end;
+      while (-1 != (end = path.indexOf('/', start))) {
+        Matcher matcher = UNICODE_VERSION_DIRECTORY_PATTERN.matcher
+          (path.substring(start, end + 1));
+        if (matcher.matches()) {
+          String versionDirectory = path.substring(0, end + 1);
+          List<String> files = localFiles.get(versionDirectory);
+          if (null == files) {
+            files = new ArrayList<String>();
+            localFiles.put(versionDirectory, files);
+            addUnicodeVersion(allUnicodeVersions, matcher, versionDirectory);
+          }
+          files.add(path.substring(end + 1));
+          break;
         }
+        start = end + 1;
+      }
+    }
+    populateUnicodeVersions(allUnicodeVersions);
+  }
+
+  /**
+   * Recursively collects the paths of all files below the given directory.
+   *
+   * @param directory The directory to list
+   * @param prefix The path of the directory, relative to the top-level one
+   * @param paths Where to put the relative paths of the files found
+   */
+  private void listFiles(File directory, String prefix, List<String> paths) {
+    File[] files = directory.listFiles();
+    if (null == files) {
+      return;
+    }
+    for (File file : files) {
+      if (file.isDirectory()) {
+        listFiles(file, prefix + file.getName() + "/", paths);
+      } else {
+        paths.add(prefix + file.getName());
       }
-      SortedMap<Integer,String> updates = allUnicodeVersions.get(baseVersion);
-      if (null == updates) {
-        updates = new TreeMap<Integer,String>(Collections.reverseOrder());
-        allUnicodeVersions.put(baseVersion, updates);
+    }
+  }
+
+  /**
+   * Records an available Unicode version.
+   *
+   * @param allUnicodeVersions Maps versions to maps from update numbers to
+   *  relative URLs
+   * @param matcher A match of {@link #UNICODE_VERSION_LINK_PATTERN} or
+   *  {@link #UNICODE_VERSION_DIRECTORY_PATTERN}
+   * @param relativeURL The version directory, relative to {@link #unicodeDataURL}
+   */
+  private void addUnicodeVersion
+    (SortedMap<String,SortedMap<Integer,String>> allUnicodeVersions,
+     Matcher matcher, String relativeURL) {
+
+    String baseVersion = matcher.group(2);
+    String update = matcher.group(3);
+    int updateNumber = -1;
+    if (null != update) {
+      updateNumber = 0;
+      if (null != matcher.group(4) && matcher.group(4).length() > 0) {
+        updateNumber = Integer.parseInt(matcher.group(4));
       }
-      updates.put(updateNumber, relativeURL);
     }
-    for (String version : allUnicodeVersions.keySet()) {
-      populateUnicodeVersion(version, allUnicodeVersions.get(version));
+    SortedMap<Integer,String> updates = allUnicodeVersions.get(baseVersion);
+    if (null == updates) {
+      updates = new TreeMap<Integer,String>(Collections.reverseOrder());
+      allUnicodeVersions.put(baseVersion, updates);
+    }
+    updates.put(updateNumber, relativeURL);
+  }
+
+  /**
+   * Populates properties for all given Unicode versions.  Versions are
+   * independent of each other, so they are fetched and parsed in parallel.
+   *
+   * @param allUnicodeVersions Maps versions to maps from update numbers to
+   *  relative URLs
+   * @throws Exception If there is a problem fetching or parsing the data
+   */
+  private void populateUnicodeVersions
+    (SortedMap<String,SortedMap<Integer,String>> allUnicodeVersions)
+    throws Exception {
+
+    ExecutorService executor
+      = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    try {
+      List<Future<UnicodeVersion>> results
+        = new ArrayList<Future<UnicodeVersion>>();
+      for (final Map.Entry<String,SortedMap<Integer,String>> entry
+             : allUnicodeVersions.entrySet()) {
+        results.add(executor.submit(new Callable<UnicodeVersion>() {
+          public UnicodeVersion call() throws IOException {
+            return populateUnicodeVersion(entry.getKey(), entry.getValue());
+          }
+        }));
+      }
+      for (Future<UnicodeVersion> result : results) {
+        UnicodeVersion unicodeVersion = result.get();
+        if (null != unicodeVersion) {
+          unicodeVersions.put(unicodeVersion.majorMinorVersion, unicodeVersion);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
     }
   }
 
@@ -205,11 +408,11 @@ public class JFlexUnicodeMojo extends AbstractMojo {
    *
    * @param version The Unicode version, either in form "X.X.X" or "X.X"
    * @param relativeURLs A sorted map from update number to relative URL
+   * @return The populated version, or null if it is a beta version.
    * @throws IOException If there is a problem fetching or parsing the data
    */
-  private void populateUnicodeVersion(String version,
-                                      SortedMap<Integer,String> relativeURLs)
-    throws IOException {
+  private UnicodeVersion populateUnicodeVersion
+    (String version, SortedMap<Integer,String> relativeURLs) throws IOException {
     
     EnumMap<DataFileType,URL> dataFiles 
       = new EnumMap<DataFileType,URL>(DataFileType.class);
@@ -219,51 +422,118 @@ public class JFlexUnicodeMojo extends AbstractMojo {
     // etc.  The first relative URL with a non-beta UnicodeData-X.X.X.txt
     // will be used.
     for (String relativeURL : relativeURLs.values()) {
-      URL baseURL = new URL(UNICODE_DOT_ORG_URL + relativeURL);
-      String versionedDirectoryListing = getPageContent(baseURL);
-
-      // As of version 4.1.0, UnicodeData.txt lives in the ucd/ subdir.
-      if (-1 != versionedDirectoryListing.indexOf("<a href=\"ucd/\">")) {
-        baseURL = new URL(baseURL, "ucd/");
-        versionedDirectoryListing = getPageContent(baseURL);
+      URL versionURL = new URL(unicodeDataURL, relativeURL);
+      if (null != localFiles) {
+        findLocalDataFiles(versionURL, localFiles.get(relativeURL), dataFiles);
+      } else {
+        findDataFiles(versionURL, dataFiles);
       }
+    }
+    if (null == dataFiles.get(DataFileType.UNICODE_DATA)) {
+      return null;
+    }
+    // If UnicodeData(-X.X.X).txt was found, then this version of Unicode
+    // is not a beta version, so we can proceed to fetch, parse, and emit.
+    UnicodeVersion unicodeVersion = new UnicodeVersion(version, dataFiles);
+    unicodeVersion.fetchDataFiles(getLog());
+    if ( ! forceRegeneration && unicodeVersion.isUnchanged(getDataDirectory(), isBinaryOutput())) {
+      unchangedVersions.add(unicodeVersion.majorMinorVersion);
+      getLog().info("Unicode " + unicodeVersion.majorMinorVersion
+                    + " data files are unchanged, skipping.\n");
+    } else {
+      unicodeVersion.parseDataFiles(getLog());
+      unicodeVersion.addCompatibilityProperties();
+      getLog().info("Completed fetching and parsing Unicode "
+                    + unicodeVersion.majorMinorVersion + " data.\n");
+    }
+    return unicodeVersion;
+  }
+
+  /**
+   * Finds the data files of one update of a Unicode version on unicode.org.
+   * Data file types already present in <code>dataFiles</code> are skipped.
+   *
+   * @param baseURL The update's directory
+   * @param dataFiles Where to put the URLs of the data files found
+   * @throws IOException If there is a problem fetching a directory listing
+   */
+  private void findDataFiles(URL baseURL, EnumMap<DataFileType,URL> dataFiles)
+    throws IOException {
 
+    String versionedDirectoryListing = getPageContent(baseURL);
+
+    // As of version 4.1.0, UnicodeData.txt lives in the ucd/ subdir.
+    if (-1 != versionedDirectoryListing.indexOf("<a href=\"ucd/\">")) {
+      baseURL = new URL(baseURL, "ucd/");
+      versionedDirectoryListing = getPageContent(baseURL);
+    }
+
+    for (DataFileType fileType : DataFileType.values()) {
+      if (null == dataFiles.get(fileType)) {
+        String fileName = fileType.getFileName(versionedDirectoryListing);
+        if (null != fileName) {
+          dataFiles.put(fileType, new URL(baseURL, fileName));
+        }
+      }
+    }
+      
+    // Visit nested directories, e.g. <a href="auxiliary/">
+    Matcher matcher
+      = DIRECTORY_LINK_PATTERN.matcher(versionedDirectoryListing);
+    while (matcher.find()) {
+      URL nestedBaseURL = new URL(baseURL, matcher.group(1));
+      String nestedVersionedDirectoryListing = getPageContent(nestedBaseURL);
       for (DataFileType fileType : DataFileType.values()) {
         if (null == dataFiles.get(fileType)) {
-          String fileName = fileType.getFileName(versionedDirectoryListing);
+          String fileName 
+            = fileType.getFileName(nestedVersionedDirectoryListing);
           if (null != fileName) {
-            dataFiles.put(fileType, new URL(baseURL, fileName));
+            dataFiles.put(fileType, new URL(nestedBaseURL, fileName));
           }
         }
       }
-      
-      // Visit nested directories, e.g. <a href="auxiliary/">
-      Matcher matcher
-        = DIRECTORY_LINK_PATTERN.matcher(versionedDirectoryListing);
-      while (matcher.find()) {
-        URL nestedBaseURL = new URL(baseURL, matcher.group(1));
-        String nestedVersionedDirectoryListing = getPageContent(nestedBaseURL);
-        for (DataFileType fileType : DataFileType.values()) {
-          if (null == dataFiles.get(fileType)) {
-            String fileName 
-              = fileType.getFileName(nestedVersionedDirectoryListing);
-            if (null != fileName) {
-              dataFiles.put(fileType, new URL(nestedBaseURL, fileName));
-            }
-          }
+    }
+  }
+
+  /**
+   * Finds the data files of one update of a Unicode version in the local
+   * copy of the Unicode data.  As on unicode.org, files closer to the
+   * version directory take precedence over those in nested directories.
+   * Data file types already present in <code>dataFiles</code> are skipped.
+   *
+   * @param baseURL The update's directory
+   * @param files The paths of all files below the update's directory,
+   *  relative to it
+   * @param dataFiles Where to put the URLs of the data files found
+   * @throws IOException If a file's URL cannot be constructed
+   */
+  private void findLocalDataFiles(URL baseURL, List<String> files,
+                                  EnumMap<DataFileType,URL> dataFiles)
+    throws IOException {
+
+    List<String> sortedFiles = new ArrayList<String>(files);
+    Collections.sort(sortedFiles, new Comparator<String>() {
+      public int compare(String path1, String path2) {
+        int depthDifference = getDepth(path1) - getDepth(path2);
+        return 0 != depthDifference ? depthDifference : path1.compareTo(path2);
+      }
+    });
+    for (String path : sortedFiles) {
+      String fileName = path.substring(path.lastIndexOf('/') + 1);
+      for (DataFileType fileType : DataFileType.values()) {
+        if (null == dataFiles.get(fileType) && fileType.isFileName(fileName)) {
+          dataFiles.put(fileType, new URL(baseURL, path));
         }
       }
     }
-    if (null != dataFiles.get(DataFileType.UNICODE_DATA)) {
-      // If UnicodeData(-X.X.X).txt was found, then this version of Unicode
-      // is not a beta version, so we can proceed to fetch, parse, and emit.
-      UnicodeVersion unicodeVersion = new UnicodeVersion(version, dataFiles);
-      unicodeVersion.fetchAndParseDataFiles(getLog());
-      unicodeVersion.addCompatibilityProperties();
-      unicodeVersions.put(unicodeVersion.majorMinorVersion, unicodeVersion);
-      getLog().info("Completed downloading and parsing Unicode "
-                    + unicodeVersion.majorMinorVersion + " data.\n");
+  }
+
+  private static int getDepth(String path) {
+    int depth = 0;
+    for (int i = path.indexOf('/') ; -1 != i ; i = path.indexOf('/', i + 1)) {
+      ++depth;
     }
+    return depth;
   }
 
   /**
@@ -274,14 +544,7 @@ public class JFlexUnicodeMojo extends AbstractMojo {
    * @throws IOException If there is an error fetching the given page.
    */
   private String getPageContent(URL url) throws IOException {
-    InputStreamReader reader = new InputStreamReader(url.openStream(), "UTF-8");
-    StringBuilder builder = new StringBuilder();
-    char[] buf = new char[BUF_SIZE];
-    int charsRead;
-    while ((charsRead = reader.read(buf)) > 0) {
-      builder.append(buf, 0, charsRead);
-    }
-    return builder.toString();
+    return new String(UnicodeVersion.readFully(url), "UTF-8");
   }
 
   /**
@@ -294,6 +557,8 @@ public class JFlexUnicodeMojo extends AbstractMojo {
     UnicodePropertiesSkeleton skeleton
       = new UnicodePropertiesSkeleton(SKELETON_FILENAME);
     skeleton.emitNext(builder); // Header
+    emitDataImports(builder);
+    skeleton.emitNext(builder);
     emitClassComment(builder);
     // Class declaration, static vars and fixed method definitions, part 1
     skeleton.emitNext(builder);
@@ -325,8 +590,38 @@ public class JFlexUnicodeMojo extends AbstractMojo {
   }
 
   private void emitVersionedUnicodeData() throws IOException {
+    File dataDirectory = getDataDirectory();
+    if (isBinaryOutput()) {
+      dataDirectory.mkdirs();
+    }
     for (UnicodeVersion unicodeVersion : unicodeVersions.values()) {
-      unicodeVersion.emitToDir(new File(outputDirectory, "data"));
+      if ( ! unchangedVersions.contains(unicodeVersion.majorMinorVersion)) {
+        if (isBinaryOutput()) {
+          unicodeVersion.emitBinaryToDir(dataDirectory);
+        } else {
+          unicodeVersion.emitToDir(dataDirectory);
+        }
+      }
+    }
+  }
+
+  private boolean isBinaryOutput() {
+    return outputFormat.equals("binary");
+  }
+
+  /**
+   * Returns the directory into which the versioned Unicode data classes
+   * are generated.
+   *
+   * @return The directory for the versioned data.
+   */
+  private File getDataDirectory() {
+    return isBinaryOutput() ? resourceDirectory : new File(outputDirectory, "data");
+  }
+
+  private void emitDataImports(StringBuilder builder) {
+    if ( ! isBinaryOutput()) {
+      builder.append("import jflex.unicode.data.*;\n");
     }
   }
 
@@ -357,14 +652,20 @@ public class JFlexUnicodeMojo extends AbstractMojo {
       String versionSuffix = unicodeVersion.getVersionSuffix();
       builder.append("version.equals(\"").append(majorMinorVersion)
         .append("\") || version.equals(\"")
-        .append(unicodeVersion.majorMinorUpdateVersion).append("\")) {\n")
-        .append("      bind(Unicode").append(versionSuffix).append(".propertyValues")
-        .append(", Unicode").append(versionSuffix).append(".intervals")
-        .append(", Unicode").append(versionSuffix).append(".propertyValueAliases")
-        .append(",\n         Unicode").append(versionSuffix).append(".maximumCodePoint")
-        .append(", Unicode").append(versionSuffix).append(".caselessMatchPartitions")
-        .append(", Unicode").append(versionSuffix).append(".caselessMatchPartitionSize")
-        .append(");\n");
+        .append(unicodeVersion.majorMinorUpdateVersion).append("\")) {\n");
+      if (isBinaryOutput()) {
+        builder.append("      bindResource(\"").append(majorMinorVersion)
+          .append("\", \"Unicode").append(versionSuffix).append("\");\n");
+      } else {
+        builder.append("      bind(\"").append(majorMinorVersion).append("\"")
+          .append(", new UnicodePropertyData\n         (Unicode").append(versionSuffix).append(".propertyValues")
+          .append(", Unicode").append(versionSuffix).append(".intervals")
+          .append(", Unicode").append(versionSuffix).append(".propertyValueAliases")
+          .append(",\n          Unicode").append(versionSuffix).append(".maximumCodePoint")
+          .append(", Unicode").append(versionSuffix).append(".caselessMatchPartitions")
+          .append(", Unicode").append(versionSuffix).append(".caselessMatchPartitionSize")
+          .append("));\n");
+      }
     }
     builder.append("    } else {\n")
       .append("      throw new UnsupportedUnicodeVersionException();\n")
@@ -0,0 +1,205 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex Unicode Maven 2 plugin                                            *
+ * Copyright (c) 2008 Steve Rowe <steve_rowe@users.sf.net>                 *
+ *                                                                         *
+ *                                                                         *
+ * This program is free software; you can redistribute it and/or modify    *
+ * it under the terms of the GNU General Public License. See the file      *
+ * COPYRIGHT for more information.                                         *
+ *                                                                         *
+ * This program is distributed in the hope that it will be useful,         *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of          *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the           *
+ * GNU General Public License for more details.                            *
+ *                                                                         *
+ * You should have received a copy of the GNU General Public License along *
+ * with this program; if not, write to the Free Software Foundation, Inc., *
+ * 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA                 *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+
+
+/**
+ * Writes the property data of one Unicode version in the compact binary
+ * form read by jflex.unicode.UnicodePropertyData, where the format is
+ * documented.
+ * <p/>
+ * This plugin cannot depend on the jflex module it generates code for, so
+ * the two sides of the format live in separate classes; keep them in sync.
+ */
+class UnicodePropertyDataWriter {
+
+  /** First bytes of the binary form: "JFUD" */
+  static final int MAGIC = 0x4A465544;
+
+  /** The binary format version written by this class */
+  static final int FORMAT_VERSION = 1;
+
+  private UnicodePropertyDataWriter() {}
+
+  /**
+   * Writes the given property data to the given file.
+   *
+   * @param file Where to write the data
+   * @param inputDigest The digest of the Unicode data files the property
+   *  data was parsed from, or "" if unknown
+   * @param maximumCodePoint The maximum code point
+   * @param propertyValues The property values
+   * @param intervals The code point ranges of each property value, in the
+   *  same order as propertyValues
+   * @param propertyValueAliases Alternating aliases and their target
+   *  property values
+   * @param caselessMatchPartitions Sets of caselessly equivalent code points
+   * @throws IOException If there is an error writing the file
+   */
+  static void write(File file, String inputDigest, int maximumCodePoint,
+                    List<String> propertyValues, List<List<NamedRange>> intervals,
+                    List<String> propertyValueAliases,
+                    Collection<SortedSet<Integer>> caselessMatchPartitions)
+    throws IOException {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 16);
+    out.write(MAGIC >>> 24);
+    out.write(MAGIC >>> 16);
+    out.write(MAGIC >>> 8);
+    out.write(MAGIC);
+    out.write(FORMAT_VERSION);
+    writeString(out, inputDigest);
+    writeInt(out, maximumCodePoint);
+
+    writeInt(out, propertyValues.size());
+    for (String propertyValue : propertyValues) {
+      writeString(out, propertyValue);
+    }
+    writeInt(out, propertyValueAliases.size() / 2);
+    for (String name : propertyValueAliases) {
+      writeString(out, name);
+    }
+
+    // The index: the length of each interval record
+    List<byte[]> records = new ArrayList<byte[]>(intervals.size());
+    for (List<NamedRange> ranges : intervals) {
+      byte[] record = encodeIntervals(ranges);
+      records.add(record);
+      writeInt(out, record.length);
+    }
+    for (byte[] record : records) {
+      out.write(record);
+    }
+
+    writeInt(out, caselessMatchPartitions.size());
+    for (SortedSet<Integer> partition : caselessMatchPartitions) {
+      writeInt(out, partition.size());
+      int previous = -1;
+      for (int c : partition) {
+        writeInt(out, c - previous - 1);
+        previous = c;
+      }
+    }
+
+    OutputStream fileOut = new FileOutputStream(file);
+    try {
+      out.writeTo(fileOut);
+    } finally {
+      fileOut.close();
+    }
+  }
+
+  /**
+   * Encodes the given code point ranges as an interval record: sorted,
+   * with overlapping and adjacent ranges merged.
+   *
+   * @param ranges The ranges to encode
+   * @return The interval record
+   */
+  private static byte[] encodeIntervals(List<NamedRange> ranges) {
+    List<NamedRange> sorted = new ArrayList<NamedRange>(ranges);
+    Collections.sort(sorted);
+    List<int[]> merged = new ArrayList<int[]>(sorted.size());
+    for (NamedRange range : sorted) {
+      int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+      if (null != last && range.start <= last[1] + 1) {
+        last[1] = Math.max(last[1], range.end);
+      } else {
+        merged.add(new int[] { range.start, range.end });
+      }
+    }
+    ByteArrayOutputStream record = new ByteArrayOutputStream();
+    writeInt(record, merged.size());
+    int previousEnd = -1;
+    for (int[] interval : merged) {
+      writeInt(record, interval[0] - previousEnd - 1);
+      writeInt(record, interval[1] - interval[0]);
+      previousEnd = interval[1];
+    }
+    return record.toByteArray();
+  }
+
+  /**
+   * Reads the input digest from a file written by
+   * {@link #write(File,String,int,List,List,List,Collection)}.
+   *
+   * @param file The file to read
+   * @return The digest, or null if the file is not in the expected format
+   * @throws IOException If there is an error reading the file
+   */
+  static String readInputDigest(File file) throws IOException {
+    DataInputStream in = new DataInputStream(new FileInputStream(file));
+    try {
+      if (MAGIC != in.readInt() || FORMAT_VERSION != in.read()) {
+        return null;
+      }
+      byte[] digest = new byte[readInt(in)];
+      in.readFully(digest);
+      return new String(digest, "UTF-8");
+    } finally {
+      in.close();
+    }
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+  private static int readInt(InputStream in) throws IOException {
+    int result = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = in.read();
+      if (b < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+      result |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return result;
+  }
+
+  private static void writeString(ByteArrayOutputStream out, String string)
+    throws IOException {
+    byte[] bytes = string.getBytes("UTF-8");
+    writeInt(out, bytes.length);
+    out.write(bytes);
+  }
+}
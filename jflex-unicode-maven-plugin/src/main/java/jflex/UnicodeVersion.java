@@ -22,10 +22,19 @@ package jflex;
 
 import org.apache.maven.plugin.logging.Log;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -103,6 +112,15 @@ class UnicodeVersion {
    */
   private static final int CASELESS_MATCH_PARTITIONS_PER_LINE = 3;
 
+  /** Buffer size to use when reading data files */
+  private static final int BUF_SIZE = 1 << 16;
+
+  /**
+   * Starts the first line of emitted data files, followed by the digest
+   * of the data files they were generated from.
+   */
+  private static final String INPUT_DIGEST_COMMENT = "// Input SHA-1: ";
+
   /** The property values that represent surrogates [U+D800-U+DFFF] */
   private static final Pattern SURROGATE_PATTERN
     = Pattern.compile("^cs$|surrogate", Pattern.CASE_INSENSITIVE);
@@ -156,6 +174,12 @@ class UnicodeVersion {
   
   private EnumMap<DataFileType,URL> dataFiles;
 
+  /** Contents of the data files, between fetching and parsing */
+  private EnumMap<DataFileType,byte[]> dataFileContents;
+
+  /** Hex SHA-1 digest over the contents of all data files */
+  private String inputDigest;
+
   /**
    * Instantiates a container for versioned Unicode data.
    *
@@ -169,20 +193,104 @@ class UnicodeVersion {
   }
 
   /**
-   * Fetches and parses the data files defined for this Unicode version.
+   * Fetches the data files defined for this Unicode version into memory,
+   * and computes the digest of their contents.
    * 
-   * @param log Where to put info about which files have been fetched and parsed
-   * @throws IOException If there is a problem fetching or parsing
-   *  any of this version's data files.
+   * @param log Where to put info about which files have been fetched
+   * @throws IOException If there is a problem fetching any of this version's
+   *  data files.
    */
-  public void fetchAndParseDataFiles(Log log) throws IOException {
-    // Use the enum ordering to process in the correct order 
+  public void fetchDataFiles(Log log) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+    dataFileContents = new EnumMap<DataFileType,byte[]>(DataFileType.class);
+    // Use the enum ordering, so that the digest is independent of the source
     for (EnumMap.Entry<DataFileType,URL> entry : dataFiles.entrySet()) {
       DataFileType fileType = entry.getKey();
       URL url = entry.getValue();
-      log.info("\t\tFetching/parsing: " + url.getPath());
-      fileType.scan(url, this);
-      log.info("\t\tCompleted: " + url.getPath());
+      log.debug("\t\tFetching: " + url);
+      byte[] contents = readFully(url);
+      dataFileContents.put(fileType, contents);
+      digest.update(fileType.name().getBytes("UTF-8"));
+      digest.update(contents);
+    }
+    StringBuilder builder = new StringBuilder();
+    for (byte b : digest.digest()) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16))
+        .append(Character.forDigit(b & 0xF, 16));
+    }
+    inputDigest = builder.toString();
+  }
+
+  /**
+   * Parses the data files fetched by {@link #fetchDataFiles(Log)}.
+   * 
+   * @param log Where to put info about which files have been parsed
+   * @throws IOException If there is a problem parsing any of this version's
+   *  data files.
+   */
+  public void parseDataFiles(Log log) throws IOException {
+    // Use the enum ordering to process in the correct order 
+    for (EnumMap.Entry<DataFileType,byte[]> entry : dataFileContents.entrySet()) {
+      DataFileType fileType = entry.getKey();
+      Reader reader = new InputStreamReader
+        (new ByteArrayInputStream(entry.getValue()), "UTF-8");
+      fileType.scan(reader, this);
+      log.info("\t\tParsed: " + dataFiles.get(fileType).getPath());
+    }
+    dataFileContents = null;
+  }
+
+  /**
+   * Reads the whole content at the given URL.
+   *
+   * @param url The location to read from
+   * @return The bytes read
+   * @throws IOException If there is an error reading from the URL
+   */
+  static byte[] readFully(URL url) throws IOException {
+    InputStream stream = url.openStream();
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(BUF_SIZE);
+      byte[] buf = new byte[BUF_SIZE];
+      int bytesRead;
+      while ((bytesRead = stream.read(buf)) > 0) {
+        out.write(buf, 0, bytesRead);
+      }
+      return out.toByteArray();
+    } finally {
+      stream.close();
+    }
+  }
+
+  /**
+   * Tests whether the data emitted into the given directory by an earlier
+   * run was generated from data files with the same content as this one's.
+   *
+   * @param outputDir The directory to look for earlier output in
+   * @param isBinary Whether to look for binary data instead of Java source
+   * @return true iff there is earlier output with the same input digest.
+   * @throws IOException If there is an error reading earlier output.
+   */
+  public boolean isUnchanged(File outputDir, boolean isBinary)
+    throws IOException {
+    File file = getOutputFile(outputDir, isBinary);
+    if (null == inputDigest || ! file.isFile()) {
+      return false;
+    }
+    if (isBinary) {
+      return inputDigest.equals(UnicodePropertyDataWriter.readInputDigest(file));
+    }
+    BufferedReader reader = new BufferedReader
+      (new InputStreamReader(new FileInputStream(file), "UTF-8"));
+    try {
+      return (INPUT_DIGEST_COMMENT + inputDigest).equals(reader.readLine());
+    } finally {
+      reader.close();
     }
   }
 
@@ -208,9 +316,42 @@ class UnicodeVersion {
     }
   }
 
+  private File getOutputFile(File outputDir, boolean isBinary) {
+    return new File(outputDir, "Unicode" + getVersionSuffix()
+                               + (isBinary ? ".bin" : ".java"));
+  }
+
+  /**
+   * Writes this version's property data in binary form, as resource
+   * Unicode_X_X.bin, to be read by jflex.unicode.UnicodePropertyData.
+   * The data is the same as that emitted by {@link #emitToDir(File)}.
+   *
+   * @param outputDir The directory to write the resource to
+   * @throws IOException If there is an error writing the resource
+   */
+  public void emitBinaryToDir(File outputDir) throws IOException {
+    List<String> propertyValues = new ArrayList<String>();
+    List<List<NamedRange>> intervals = new ArrayList<List<NamedRange>>();
+    for (SortedMap.Entry<String,List<NamedRange>> entry
+        : propertyValueIntervals.entrySet()) {
+      propertyValues.add(entry.getKey());
+      intervals.add(entry.getValue());
+    }
+    List<String> propertyValueAliases = new ArrayList<String>();
+    for (SortedMap.Entry<String,String> entry 
+         : getUsedPropertyValueAliases().entrySet()) {
+      propertyValueAliases.add(entry.getKey());
+      propertyValueAliases.add(entry.getValue());
+    }
+    UnicodePropertyDataWriter.write
+      (getOutputFile(outputDir, true), inputDigest, maximumCodePoint,
+       propertyValues, intervals, propertyValueAliases,
+       getUniqueCaselessMatchPartitions().values());
+  }
+
   public void emitToDir(File outputDir) throws IOException {
-    PrintWriter writer = new PrintWriter
-      (new File(outputDir, "Unicode" + getVersionSuffix() + ".java"), "UTF-8");
+    PrintWriter writer = new PrintWriter(getOutputFile(outputDir, false), "UTF-8");
+    writer.append(INPUT_DIGEST_COMMENT).append(inputDigest).append("\n");
     writer.append("package jflex.unicode.data;\n\n");
     writer.append("public class Unicode").append(getVersionSuffix()).append(" {\n");
     emitMaximumCodePoint(writer);
@@ -583,6 +724,22 @@ class UnicodeVersion {
     writer.append("\n  };\n");
   }
 
+  /**
+   * Returns the caseless match partitions without duplicates, keyed and
+   * sorted by their first code point.
+   *
+   * @return The unique caseless match partitions
+   */
+  private SortedMap<Integer,SortedSet<Integer>> getUniqueCaselessMatchPartitions() {
+    // Putting all of the partitions into a set ensures there are no duplicates
+    SortedMap<Integer,SortedSet<Integer>> partitions
+      = new TreeMap<Integer,SortedSet<Integer>>();
+    for (SortedSet<Integer> partition: caselessMatchPartitions.values()) {
+      partitions.put(partition.first(), partition);
+    }
+    return partitions;
+  }
+
   /**
    * Emits a constant assigned the size of each partition record (the maximum
    * partition size) and a string representing a sequence of fixed-length
@@ -598,12 +755,8 @@ class UnicodeVersion {
     writer.append("  public static final String caselessMatchPartitions")
       .append(" =\n");
 
-    // Putting all of the partitions into a set ensures there are no duplicates
     SortedMap<Integer,SortedSet<Integer>> partitions
-      = new TreeMap<Integer,SortedSet<Integer>>();
-    for (SortedSet<Integer> partition: caselessMatchPartitions.values()) {
-      partitions.put(partition.first(), partition);
-    }
+      = getUniqueCaselessMatchPartitions();
 
     int count = 0;
     boolean isFirstPartitionLine = true;
@@ -9,8 +9,8 @@
 
 package jflex;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  *
@@ -23,13 +23,31 @@ public class CharClasses {
   private static final boolean DEBUG = false;
 
   /** the largest character that can be used in char classes */
-  public static final char maxChar = '\uFFFF';
+  public static final int maxChar = 0x10FFFF;
 
-  /** the char classes */
-  private List<IntCharSet> classes;
+  /** the largest character of the Basic Multilingual Plane */
+  public static final int maxBMPChar = 0xFFFF;
+
+  /** 
+   * The char classes as partition of [0, maxChar] into intervals:
+   * interval i starts at bound[i] (ascending, bound[0] = 0) and all its
+   * characters belong to class code[i]. Adjacent intervals always belong 
+   * to different classes.
+   */
+  private int [] bound;
+  private int [] code;
+
+  /** the number of intervals in the partition */
+  private int numIntervals;
+
+  /** the number of characters in each class */
+  private int [] classSize;
+
+  /** the number of classes */
+  private int numClasses;
 
   /** the largest character actually used in a specification */
-  private char maxCharUsed;
+  private int maxCharUsed;
   
   private LexScan scanner;
 
@@ -41,26 +59,31 @@ public class CharClasses {
    *
    * @param maxCharCode the last character code to be
    *                    considered. (127 for 7bit Lexers, 
-   *                    255 for 8bit Lexers and 0xFFFF
-   *                    for Unicode Lexers).
+   *                    255 for 8bit Lexers, 0xFFFF for Unicode
+   *                    Lexers and 0x10FFFF for Lexers that read
+   *                    code points).
    * @param scanner     the scanner containing the UnicodeProperties instance
    *                    from which caseless partitions are obtained.
    */
   public CharClasses(int maxCharCode, LexScan scanner) {
-    if (maxCharCode < 0 || maxCharCode > 0xFFFF) 
+    if (maxCharCode < 0 || maxCharCode > maxChar) 
       throw new IllegalArgumentException();
 
-    maxCharUsed = (char) maxCharCode;
+    maxCharUsed = maxCharCode;
     this.scanner = scanner;
-    classes = new ArrayList<IntCharSet>();
-    classes.add(new IntCharSet(new Interval((char) 0, maxChar)));
+    bound = new int [] { 0 };
+    code = new int [] { 0 };
+    numIntervals = 1;
+    classSize = new int [16];
+    classSize[0] = maxChar+1;
+    numClasses = 1;
   }
 
 
   /**
    * Returns the greatest Unicode value of the current input character set.
    */
-  public char getMaxCharCode() {
+  public int getMaxCharCode() {
     return maxCharUsed;
   }
   
@@ -72,10 +95,30 @@ public class CharClasses {
    *                   (i.e. %7bit, %8bit, %16bit etc.)
    */
   public void setMaxCharCode(int charCode) {
-    if (charCode < 0 || charCode > 0xFFFF) 
+    if (charCode < 0 || charCode > maxChar) 
       throw new IllegalArgumentException();
 
-    maxCharUsed = (char) charCode;
+    maxCharUsed = charCode;
+  }
+
+
+  /**
+   * Returns true if the partition distinguishes characters outside of
+   * the Basic Multilingual Plane from each other or from all characters
+   * inside of it, i.e. if the specification
+   * uses supplementary characters (e.g. in Unicode properties or as 
+   * surrogate pairs in strings). Such scanners have to read code points
+   * instead of UTF-16 code units.
+   */
+  public boolean usesSupplementary() {
+    int i = indexOf(maxBMPChar+1);
+    if (end(i) < maxChar) return true;
+
+    // one class for all supplementary characters: does it contain BMP ones?
+    for (int j = 0; j < i; j++) 
+      if (code[j] == code[i]) return false;
+
+    return bound[i] > maxBMPChar;
   }
   
 
@@ -83,7 +126,7 @@ public class CharClasses {
    * Returns the current number of character classes.
    */
   public int getNumClasses() {
-    return classes.size();
+    return numClasses;
   }
 
 
@@ -99,6 +142,17 @@ public class CharClasses {
    * @param caseless  if true upper/lower/title case are considered equivalent  
    */
   public void makeClass(IntCharSet set, boolean caseless) {
+    makeClass(IntervalSet.of(set), caseless);
+  }
+
+  /**
+   * Updates the current partition, so that the specified set of characters
+   * gets a new character class.
+   *
+   * @param set       the set of characters to distinguish from the rest    
+   * @param caseless  if true upper/lower/title case are considered equivalent  
+   */
+  public void makeClass(IntervalSet set, boolean caseless) {
     if (caseless) set = set.getCaseless(scanner.getUnicodeProperties());
 
     if ( DEBUG ) {
@@ -106,51 +160,184 @@ public class CharClasses {
       dump();
     }
 
-    int oldSize = classes.size();
-    for (int i = 0; i < oldSize; i++) {
-      IntCharSet x  = classes.get(i);
-
-      if (x.equals(set)) return;
-
-      IntCharSet and = x.and(set);
+    // count the characters of set in each class
+    int [] covered = new int [numClasses];
+    for (int k = 0; k < set.numIntervals(); k++) {
+      int start = set.start(k);
+      int end = set.end(k);
+      for (int i = indexOf(start); i < numIntervals && bound[i] <= end; i++) 
+        covered[code[i]]+= Math.min(end(i), end) - Math.max(bound[i], start) + 1;
+    }
 
-      if ( and.containsElements() ) {
-        if ( x.equals(and) ) {          
-          set.sub(and);
-          continue;
+    // classes that are only partly contained in set are split,
+    // the new classes are numbered in the order of the old ones
+    int [] newCode = null;
+    for (int c = 0; c < covered.length; c++) {
+      if (covered[c] > 0 && covered[c] < classSize[c]) {
+        if (newCode == null) newCode = new int [covered.length];
+        if (numClasses == classSize.length) {
+          int [] newSize = new int [2*numClasses];
+          System.arraycopy(classSize, 0, newSize, 0, numClasses);
+          classSize = newSize;
         }
-        else if ( set.equals(and) ) {
-          x.sub(and);
-          classes.add(and);
-          if (DEBUG) {
-            Out.dump("makeClass(..) finished");
-            dump();
-          }
-          return;
-        }
-
-        set.sub(and);
-        x.sub(and);
-        classes.add(and);
+        classSize[c]-= covered[c];
+        classSize[numClasses] = covered[c];
+        newCode[c] = numClasses++;
       }
     }
-    
+
+    if (newCode != null) refine(set, newCode);
+
     if (DEBUG) {
       Out.dump("makeClass(..) finished");
       dump();
     }
   }
+
+  /**
+   * Moves the characters of <code>set</code> in class c to class
+   * <code>newCode[c]</code> (if that is not 0). Parts of the partition 
+   * outside of <code>set</code> are copied unchanged.
+   */
+  private void refine(IntervalSet set, int [] newCode) {
+    int [] newBound = new int [numIntervals + 2*set.numIntervals()];
+    int [] newCodes = new int [newBound.length];
+    int n = 0;
+    
+    int pos = 0; // the first character not in the new partition yet
+    for (int k = 0; k < set.numIntervals(); k++) {
+      int start = set.start(k);
+      int end = set.end(k);
+      
+      // [pos, start-1] is unchanged
+      if (pos < start) 
+        n = copy(pos, start-1, newBound, newCodes, n);
+
+      for (int i = indexOf(start); i < numIntervals && bound[i] <= end; i++) {
+        int c = newCode[code[i]] != 0 ? newCode[code[i]] : code[i];
+        n = append(Math.max(bound[i], start), c, newBound, newCodes, n);
+      }
+
+      pos = end+1;
+    }
+
+    if (pos <= maxChar) 
+      n = copy(pos, maxChar, newBound, newCodes, n);
+
+    bound = newBound;
+    code = newCodes;
+    numIntervals = n;
+  }
+
+  /**
+   * Appends the intervals of the current partition in [from, to] to
+   * a new partition with <code>n</code> intervals.
+   *
+   * @return the number of intervals in the new partition
+   */
+  private int copy(int from, int to, int [] newBound, int [] newCodes, int n) {
+    int first = indexOf(from);
+    int last = indexOf(to);
+
+    n = append(from, code[first], newBound, newCodes, n);
+
+    // adjacent intervals in the current partition have different classes
+    System.arraycopy(bound, first+1, newBound, n, last-first);
+    System.arraycopy(code, first+1, newCodes, n, last-first);
+    return n + last-first;
+  }
+
+  /**
+   * Appends an interval of class <code>c</code> that starts at <code>start</code>
+   * to a new partition with <code>n</code> intervals. Merges it with the last
+   * interval if that has the same class.
+   *
+   * @return the number of intervals in the new partition
+   */
+  private int append(int start, int c, int [] newBound, int [] newCodes, int n) {
+    if (n > 0 && newCodes[n-1] == c) return n;
+    newBound[n] = start;
+    newCodes[n] = c;
+    return n+1;
+  }
+
+  /**
+   * Returns the index of the interval in the partition that contains 
+   * character <code>c</code>.
+   */
+  private int indexOf(int c) {
+    int lo = 0;
+    int hi = numIntervals-1;
+    while (lo < hi) {
+      int mid = (lo+hi+1) >>> 1;
+      if (bound[mid] <= c) 
+        lo = mid;
+      else 
+        hi = mid-1;
+    }
+    return lo;
+  }
+
+  /**
+   * Returns the last character of interval <code>i</code> of the partition.
+   */
+  private int end(int i) {
+    return i+1 < numIntervals ? bound[i+1]-1 : maxChar;
+  }
   
 
   /**
-   * Returns the code of the character class the specified character belongs to.
+   * Merges character classes: all characters of class c end up in class
+   * <code>map[c]</code>. Adjacent intervals that now belong to the same
+   * class are joined.
+   *
+   * @param map            the new code of each class, all codes in
+   *                       [0, numNewClasses-1] must be used
+   * @param numNewClasses  the number of classes after merging
+   */
+  public void mergeClasses(int [] map, int numNewClasses) {
+    int [] newSize = new int [Math.max(16, numNewClasses)];
+    for (int c = 0; c < numClasses; c++)
+      newSize[map[c]]+= classSize[c];
+
+    // in place, the new partition never has more intervals than the old one
+    int n = 0;
+    for (int i = 0; i < numIntervals; i++)
+      n = append(bound[i], map[code[i]], bound, code, n);
+
+    numIntervals = n;
+    classSize = newSize;
+    numClasses = numNewClasses;
+  }
+
+
+  /**
+   * Replaces the partition by one class for each byte value: character
+   * c in [0, 255] belongs to class c, all larger characters to class 255.
+   * This is the input of a scanner that reads UTF-8 bytes (see
+   * {@link UTF8Encoder}), the classes can then be merged again.
    */
-  public int getClassCode(char letter) {
-    int i = -1;
-    while (true) {
-      IntCharSet x = classes.get(++i);
-      if ( x.contains(letter) ) return i;      
+  public void setByteClasses() {
+    bound = new int [256];
+    code = new int [256];
+    classSize = new int [256];
+    for (int c = 0; c < 256; c++) {
+      bound[c] = c;
+      code[c] = c;
+      classSize[c] = 1;
     }
+    classSize[255] = maxChar-254;
+    numIntervals = 256;
+    numClasses = 256;
+    maxCharUsed = 255;
+  }
+
+
+  /**
+   * Returns the code of the character class the specified character belongs to.
+   */
+  public int getClassCode(int letter) {
+    return code[indexOf(letter)];
   }
 
   /**
@@ -167,7 +354,20 @@ public class CharClasses {
    * @param theClass  the index of the class to
    */
   public String toString(int theClass) {
-    return classes.get(theClass).toString();
+    return getClass(theClass).toString();
+  }
+
+  /**
+   * Returns the set of characters of one class.
+   *
+   * @param theClass  the code of the class
+   */
+  private IntervalSet getClass(int theClass) {
+    IntervalSet.Builder result = new IntervalSet.Builder();
+    for (int i = 0; i < numIntervals; i++) 
+      if (code[i] == theClass) 
+        result.add(bound[i], end(i));
+    return result.build();
   }
 
 
@@ -182,8 +382,8 @@ public class CharClasses {
 
     result.append(Out.NL);
 
-    for (int i = 0; i < classes.size(); i++)
-      result.append("class ").append(i).append(":").append(Out.NL).append(classes.get(i)).append(Out.NL);    
+    for (int i = 0; i < numClasses; i++)
+      result.append("class ").append(i).append(":").append(Out.NL).append(getClass(i)).append(Out.NL);    
     
     return result.toString();
   }
@@ -194,18 +394,23 @@ public class CharClasses {
    *    
    * @param caseless  if true upper/lower/title case are considered equivalent  
    */
-  public void makeClass(char singleChar, boolean caseless) {
-    makeClass(new IntCharSet(singleChar), caseless);
+  public void makeClass(int singleChar, boolean caseless) {
+    makeClass(IntervalSet.of(singleChar), caseless);
   }
 
 
   /**
    * Creates a new character class for each character of the specified String.
+   * Surrogate pairs count as one (supplementary) character.
    *    
    * @param caseless  if true upper/lower/title case are considered equivalent  
    */
   public void makeClass(String str, boolean caseless) {
-    for (int i = 0; i < str.length(); i++) makeClass(str.charAt(i), caseless);
+    for (int i = 0; i < str.length(); ) {
+      int c = str.codePointAt(i);
+      makeClass(c, caseless);
+      i += Character.charCount(c);
+    }
   }  
 
 
@@ -223,7 +428,7 @@ public class CharClasses {
    * @param caseless  if true upper/lower/title case are considered equivalent  
    */
   public void makeClass(List<Interval> l, boolean caseless) {
-    makeClass(new IntCharSet(l), caseless);
+    makeClass(IntervalSet.of(l), caseless);
   }
   
 
@@ -243,7 +448,7 @@ public class CharClasses {
    * @param caseless  if true upper/lower/title case are considered equivalent  
    */
   public void makeClassNot(List<Interval> l, boolean caseless) {
-    makeClass(new IntCharSet(l), caseless);
+    makeClass(IntervalSet.of(l), caseless);
   }
 
 
@@ -251,7 +456,7 @@ public class CharClasses {
    * Returns an array that contains the character class codes of all characters
    * in the specified set of input characters.
    */
-  private int [] getClassCodes(IntCharSet set, boolean negate) {
+  private int [] getClassCodes(IntervalSet set, boolean negate) {
 
     if (DEBUG) {
       Out.dump("getting class codes for "+set);
@@ -259,30 +464,22 @@ public class CharClasses {
         Out.dump("[negated]");
     }
 
-    int size = classes.size();
+    // the classes of the intervals that overlap with set
+    BitSet codes = new BitSet(numClasses);
+    for (int k = 0; k < set.numIntervals(); k++) {
+      int end = set.end(k);
+      for (int i = indexOf(set.start(k)); i < numIntervals && bound[i] <= end; i++) 
+        codes.set(code[i]);
+    }
 
-    // [fixme: optimize]
-    int temp [] = new int [size];
-    int length  = 0;
+    if (negate) codes.flip(0, numClasses);
 
-    for (int i = 0; i < size; i++) {
-      IntCharSet x = classes.get(i);
-      if ( negate ) {
-        if ( !set.and(x).containsElements() ) {
-          temp[length++] = i;
-          if (DEBUG) Out.dump("code "+i);
-        }
-      }
-      else {
-        if ( set.and(x).containsElements() ) {
-          temp[length++] = i;
-          if (DEBUG) Out.dump("code "+i);
-        }
-      }
+    int result [] = new int [codes.cardinality()];
+    int length = 0;
+    for (int i = codes.nextSetBit(0); i >= 0; i = codes.nextSetBit(i+1)) {
+      result[length++] = i;
+      if (DEBUG) Out.dump("code "+i);
     }
-
-    int result [] = new int [length];
-    System.arraycopy(temp, 0, result, 0, length);
     
     return result;
   }
@@ -298,7 +495,7 @@ public class CharClasses {
    * @return an array with the class codes for intervalList
    */
   public int [] getClassCodes(List<Interval> intervalList) {
-    return getClassCodes(new IntCharSet(intervalList), false);
+    return getClassCodes(IntervalSet.of(intervalList), false);
   }
 
 
@@ -312,42 +509,34 @@ public class CharClasses {
    * @return an array with the class codes for the complement of intervalList
    */
   public int [] getNotClassCodes(List<Interval> intervalList) {
-    return getClassCodes(new IntCharSet(intervalList), true);
+    return getClassCodes(IntervalSet.of(intervalList), true);
   }
 
 
   /**
    * Check consistency of the stored classes [debug].
    *
-   * all classes must be disjoint, checks if all characters
-   * have a class assigned.
+   * adjacent intervals must belong to different classes, and
+   * the class sizes must match the intervals.
    */
   public void check() {
-    for (int i = 0; i < classes.size(); i++)
-      for (int j = i+1; j < classes.size(); j++) {
-        IntCharSet x = classes.get(i);
-        IntCharSet y = classes.get(j);
-        if ( x.and(y).containsElements() ) {
-          System.out.println("Error: non disjoint char classes "+i+" and "+j);
-          System.out.println("class "+i+": "+x);
-          System.out.println("class "+j+": "+y);
-        }
-      }
-
-    // check if each character has a classcode 
-    // (= if getClassCode terminates)
-    for (char c = 0; c < maxChar; c++) {
-      getClassCode(c);
-      if (c % 100 == 0) System.out.print(".");
+    int [] size = new int [numClasses];
+    for (int i = 0; i < numIntervals; i++) {
+      if (i > 0 && code[i] == code[i-1]) 
+        System.out.println("Error: adjacent intervals of class "+code[i]+" at "+bound[i]);
+      size[code[i]]+= end(i)-bound[i]+1;
     }
-    
-    getClassCode(maxChar);   
+
+    for (int i = 0; i < numClasses; i++)
+      if (size[i] != classSize[i]) 
+        System.out.println("Error: class "+i+" has "+size[i]+" characters, expected "+classSize[i]);
   }
 
 
   /**
    * Returns an array of all CharClassIntervals in this
-   * char class collection. 
+   * char class collection up to the largest character used
+   * (see {@link #getMaxCharCode()}). 
    *
    * The array is ordered by char code, i.e.
    * <code>result[i+1].start = result[i].end+1</code>
@@ -356,25 +545,11 @@ public class CharClasses {
    * char class it belongs to.
    */
   public CharClassInterval [] getIntervals() {
-    int i, c;
-    int size = classes.size();
-    int numIntervals = 0;   
-
-    for (i = 0; i < size; i++) 
-      numIntervals+= (classes.get(i)).numIntervals();    
-
-    CharClassInterval [] result = new CharClassInterval[numIntervals];
+    int n = indexOf(maxCharUsed)+1;
+    CharClassInterval [] result = new CharClassInterval[n];
     
-    i = 0; 
-    c = 0;
-    while (i < numIntervals) {
-      int       code = getClassCode((char) c);
-      IntCharSet set = classes.get(code);
-      Interval  iv  = set.getNext();
-      
-      result[i++]    = new CharClassInterval(iv.start, iv.end, code);
-      c              = iv.end+1;
-    }
+    for (int i = 0; i < n; i++) 
+      result[i] = new CharClassInterval(bound[i], Math.min(end(i), maxCharUsed), code[i]);
 
     return result;
   }
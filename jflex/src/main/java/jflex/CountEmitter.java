@@ -32,6 +32,16 @@ public class CountEmitter extends PackEmitter {
     super(name);
   }
 
+  /**
+   * Create a count/value emitter for a specific field.
+   * 
+   * @param name   name of the generated array
+   * @param lang   the output language
+   */
+  protected CountEmitter(String name, Language lang) {
+    super(name, lang);
+  }
+
   /**
    * Emits count/value unpacking code for the generated array. 
    * 
@@ -42,9 +52,9 @@ public class CountEmitter extends PackEmitter {
     println("\";");
     
     nl();
-    println("  "+Options.lang.method_header(false, false, false, true, Options.lang.array_type(Options.lang.int_type()), "zzUnpack"+name, "()",null)+" {");
-    println("    "+Options.lang.local(false, Options.lang.array_type(Options.lang.int_type()), "result", Options.lang.new_array(Options.lang.int_type(), ""+numEntries))+";");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "offset", "0")+";");
+    println("  "+lang.method_header(false, false, false, true, lang.array_type(lang.int_type()), "zzUnpack"+name, "()",null)+" {");
+    println("    "+lang.local(false, lang.array_type(lang.int_type()), "result", lang.new_array(lang.int_type(), ""+numEntries))+";");
+    println("    "+lang.local(true, lang.int_type(), "offset", "0")+";");
 
     for (int i = 0; i < chunks; i++) {
       println("    offset = zzUnpack"+name+"("+constName()+"_PACKED_"+i+", offset, result);");
@@ -54,20 +64,20 @@ public class CountEmitter extends PackEmitter {
     println("  }");
     nl();
 
-    println("  "+Options.lang.method_header(false, false, false, true, Options.lang.int_type(), "zzUnpack"+name, 
-        "("+Options.lang.formal(false, "String", "packed") + "," +
-        Options.lang.formal(false, Options.lang.int_type(), "offset")+","+
-        Options.lang.formal(false, Options.lang.array_type(Options.lang.int_type()), "result")+")",null)+" {");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "i", "0")+";       /* index in packed string  */");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "j", "offset")+";  /* index in unpacked array */");
-    println("    "+Options.lang.local(false, Options.lang.int_type(), "l", "packed.length()")+";");
+    println("  "+lang.method_header(false, false, false, true, lang.int_type(), "zzUnpack"+name, 
+        "("+lang.formal(false, "String", "packed") + "," +
+        lang.formal(false, lang.int_type(), "offset")+","+
+        lang.formal(false, lang.array_type(lang.int_type()), "result")+")",null)+" {");
+    println("    "+lang.local(true, lang.int_type(), "i", "0")+";       /* index in packed string  */");
+    println("    "+lang.local(true, lang.int_type(), "j", "offset")+";  /* index in unpacked array */");
+    println("    "+lang.local(false, lang.int_type(), "l", "packed.length()")+";");
     println("    while (i < l) {");
-    println("      "+Options.lang.local(true, Options.lang.int_type(), "count", "packed.charAt(i)")+"; i+= 1;");
-    println("      "+Options.lang.local(true, Options.lang.int_type(), "value", "packed.charAt(i);")+" i+= 1;");
+    println("      "+lang.local(true, lang.int_type(), "count", "packed.charAt(i)")+"; i+= 1;");
+    println("      "+lang.local(true, lang.int_type(), "value", "packed.charAt(i);")+" i+= 1;");
     if (translate != 0) {
       println("      value-= "+translate + ";");
     }
-    println("      do { "+Options.lang.array_index("result", "j")+" = value; j+=1; count -= 1; } while (count > 0);");
+    println("      do { "+lang.array_index("result", "j")+" = value; j+=1; count -= 1; } while (count > 0);");
     println("    }");
     println("    return j;");
     println("  }");
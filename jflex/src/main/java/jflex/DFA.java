@@ -12,6 +12,11 @@ package jflex;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -34,11 +39,24 @@ final public class DFA {
   public static final int NO_TARGET = -1;
 
   /**
-   * table[current_state][character] is the next state for <code>current_state</code>
-   * with input <code>character</code>, <code>NO_TARGET</code> if there is no transition for
-   * this input in <code>current_state</code>
+   * The transitions of each state, stored as a default target plus
+   * exceptions. With input <code>exceptions[s][2*i]</code> state 
+   * <code>s</code> goes to <code>exceptions[s][2*i+1]</code> 
+   * (<code>i < numExceptions[s]</code>, inputs in ascending order), with
+   * all other inputs it goes to <code>defaultTarget[s]</code>. 
+   * Targets may be <code>NO_TARGET</code>.
+   *
+   * @see #getTransition(int, int)
    */
-  int [][] table;
+  int [] defaultTarget;
+  int [][] exceptions;
+  int [] numExceptions;
+
+  /**
+   * The state that {@link #addTransition} added to last. Its row is 
+   * compressed when the next state is started.
+   */
+  private int lastStart = -1;
 
 
   /**
@@ -83,24 +101,29 @@ final public class DFA {
 
   /** True iff this DFA contains general lookahead */
   boolean lookaheadUsed;
+
+  /** settings of the generation run this DFA belongs to */
+  GeneratorContext context;
   
-  public DFA(int numEntryStates, int numInp, int numLexStates) {
+  public DFA(GeneratorContext context, int numEntryStates, int numInp, int numLexStates) {
+    this.context = context;
     numInput = numInp; 
     
     int statesNeeded = Math.max(numEntryStates, STATES);
     
-    table       = new int [statesNeeded] [numInput];
-    action      = new Action [statesNeeded];
-    isFinal     = new boolean [statesNeeded];
-    entryState  = new int [numEntryStates];
-    numStates   = 0;
+    defaultTarget = new int [statesNeeded];
+    exceptions    = new int [statesNeeded] [];
+    numExceptions = new int [statesNeeded];
+    action        = new Action [statesNeeded];
+    isFinal       = new boolean [statesNeeded];
+    entryState    = new int [numEntryStates];
+    numStates     = 0;
 
     this.numLexStates = numLexStates;
     
-    for (int i = 0; i < statesNeeded; i++) {
-      for (char j = 0; j < numInput; j++)
-	      table [i][j] = NO_TARGET;    
-    }
+    Arrays.fill(defaultTarget, NO_TARGET);
+
+    for (int c = 0; c < numInput; c++) weightSum+= weight(c);
   }
 
 
@@ -108,7 +131,7 @@ final public class DFA {
     entryState[eState] = trueState;
   }
 
-  private void ensureStateCapacity(int newNumStates) {
+  void ensureStateCapacity(int newNumStates) {
     int oldLength = isFinal.length;
     
     if ( newNumStates < oldLength ) return;
@@ -119,23 +142,23 @@ final public class DFA {
     boolean [] newFinal    = new boolean [newLength];
     boolean [] newPushback = new boolean [newLength];
     Action  [] newAction   = new Action  [newLength];
-    int [] []  newTable    = new int [newLength] [numInput];
+    int []     newDefault  = new int [newLength];
+    int [] []  newExcept   = new int [newLength] [];
+    int []     newNumExc   = new int [newLength];
     
     System.arraycopy(isFinal,0,newFinal,0,numStates);
     System.arraycopy(action,0,newAction,0,numStates);
-    System.arraycopy(table,0,newTable,0,oldLength);
-  
-    int i,j;
+    System.arraycopy(defaultTarget,0,newDefault,0,oldLength);
+    System.arraycopy(exceptions,0,newExcept,0,oldLength);
+    System.arraycopy(numExceptions,0,newNumExc,0,oldLength);
   
-    for (i = oldLength; i < newLength; i++) {
-      for (j = 0; j < numInput; j++) {
-        newTable[i][j] = NO_TARGET;
-      }
-    }
+    Arrays.fill(newDefault, oldLength, newLength, NO_TARGET);
 
-    isFinal    = newFinal;
-    action     = newAction;
-    table      = newTable;
+    isFinal       = newFinal;
+    action        = newAction;
+    defaultTarget = newDefault;
+    exceptions    = newExcept;
+    numExceptions = newNumExc;
   }
 
 
@@ -158,7 +181,247 @@ final public class DFA {
 
     //  Out.debug("Adding DFA transition ("+start+", "+(int)input+", "+dest+")");
 
-    table[start][input] = dest;
+    // the transitions of a state are usually added in one go
+    if (start != lastStart) {
+      if (lastStart >= 0) compressRow(lastStart);
+      lastStart = start;
+    }
+
+    int i = findException(start, input);
+
+    if (i >= 0) {
+      if (dest == defaultTarget[start]) 
+        removeException(start, i);
+      else
+        exceptions[start][2*i+1] = dest;
+    }
+    else if (dest != defaultTarget[start]) {
+      insertException(start, -i-1, input, dest);
+    }
+  }
+
+
+  /**
+   * Returns the target state of a transition.
+   *
+   * @param state  the state to start from
+   * @param input  the input character class
+   * @return the next state, <code>NO_TARGET</code> if there is none
+   */
+  public int getTransition(int state, int input) {
+    int i = findException(state, input);
+    return i >= 0 ? exceptions[state][2*i+1] : defaultTarget[state];
+  }
+
+
+  /**
+   * Copies all transitions of a state into an array.
+   *
+   * @param state  the state 
+   * @param row    an array of at least numInput elements, 
+   *               <code>row[c]</code> becomes the target for input c
+   */
+  public void expandRow(int state, int [] row) {
+    Arrays.fill(row, 0, numInput, defaultTarget[state]);
+    int [] e = exceptions[state];
+    for (int i = 0; i < numExceptions[state]; i++) 
+      row[e[2*i]] = e[2*i+1];
+  }
+
+
+  /**
+   * Returns true iff a state has a transition for some input.
+   */
+  public boolean hasTransition(int state) {
+    if (defaultTarget[state] != NO_TARGET && numExceptions[state] < numInput) 
+      return true;
+
+    int [] e = exceptions[state];
+    for (int i = 0; i < numExceptions[state]; i++) 
+      if (e[2*i+1] != NO_TARGET) return true;
+
+    return false;
+  }
+
+
+  /**
+   * Returns true iff two states have transitions to the same
+   * states for each input. If <code>map</code> is not null, the
+   * targets are compared after translation by <code>map</code>.
+   */
+  boolean sameTransitions(int s, int t, int [] map) {
+    int [] es = exceptions[s];
+    int [] et = exceptions[t];
+    int ns = numExceptions[s];
+    int nt = numExceptions[t];
+    int ds = image(defaultTarget[s], map);
+    int dt = image(defaultTarget[t], map);
+
+    int i = 0, j = 0, covered = 0;
+    while (i < ns || j < nt) {
+      int cs = i < ns ? es[2*i] : Integer.MAX_VALUE;
+      int ct = j < nt ? et[2*j] : Integer.MAX_VALUE;
+      int a, b;
+
+      if (cs == ct) {
+        a = image(es[2*i+1], map);
+        b = image(et[2*j+1], map);
+        i++; j++;
+      }
+      else if (cs < ct) {
+        a = image(es[2*i+1], map);
+        b = dt;
+        i++;
+      }
+      else {
+        a = ds;
+        b = image(et[2*j+1], map);
+        j++;
+      }
+
+      if (a != b) return false;
+      covered++;
+    }
+
+    return covered == numInput || ds == dt;
+  }
+
+
+  /**
+   * Returns a hash value of the transitions of a state, consistent
+   * with {@link #sameTransitions}. Takes time proportional to the
+   * number of exceptions of the state.
+   */
+  int hashTransitions(int s, int [] map) {
+    int d = image(defaultTarget[s], map);
+    int h = d*weightSum;
+
+    int [] e = exceptions[s];
+    for (int i = 0; i < numExceptions[s]; i++) 
+      h+= (image(e[2*i+1], map)-d)*weight(e[2*i]);
+
+    return h;
+  }
+
+  /** the sum of weight(c) for all inputs c */
+  private int weightSum;
+
+  /**
+   * A pseudo random weight for a hash value that is linear 
+   * in its summands.
+   */
+  static int weight(int x) {
+    x = (x+1)*0x9E3779B9;
+    return x ^ (x >>> 15);
+  }
+
+  private static int image(int target, int [] map) {
+    if (target == NO_TARGET || map == null) return target;
+    return map[target];
+  }
+
+
+  /**
+   * Returns the index of the exception for an input, 
+   * or <code>-(insertion point)-1</code> if there is none.
+   */
+  private int findException(int state, int input) {
+    int [] e = exceptions[state];
+    int lo = 0;
+    int hi = numExceptions[state]-1;
+    while (lo <= hi) {
+      int mid = (lo+hi) >>> 1;
+      int c = e[2*mid];
+      if (c < input) 
+        lo = mid+1;
+      else if (c > input) 
+        hi = mid-1;
+      else 
+        return mid;
+    }
+    return -lo-1;
+  }
+
+  private void insertException(int state, int i, int input, int dest) {
+    int [] e = exceptions[state];
+    int n = numExceptions[state];
+
+    if (e == null || e.length == 0) {
+      e = new int [4];
+    }
+    else if (2*n == e.length) {
+      int [] f = new int [Math.min(2*e.length, 2*numInput)];
+      System.arraycopy(e, 0, f, 0, 2*n);
+      e = f;
+    }
+
+    System.arraycopy(e, 2*i, e, 2*i+2, 2*(n-i));
+    e[2*i] = input;
+    e[2*i+1] = dest;
+
+    exceptions[state] = e;
+    numExceptions[state] = n+1;
+  }
+
+  private void removeException(int state, int i) {
+    int [] e = exceptions[state];
+    int n = numExceptions[state];
+    System.arraycopy(e, 2*i+2, e, 2*i, 2*(n-i-1));
+    numExceptions[state] = n-1;
+  }
+
+
+  /**
+   * Makes the most frequent target of a state its default target,
+   * and trims the exception list to its size.
+   */
+  private void compressRow(int state) {
+    int n = numExceptions[state];
+    int [] e = exceptions[state];
+    if (n == 0) {
+      exceptions[state] = null;
+      return;
+    }
+
+    int [] targets = new int [n];
+    for (int i = 0; i < n; i++) targets[i] = e[2*i+1];
+    Arrays.sort(targets);
+
+    int d = defaultTarget[state];
+    int best = d;
+    int bestCount = numInput-n;
+    for (int i = 0; i < n; ) {
+      int j = i;
+      while (j < n && targets[j] == targets[i]) j++;
+      if (j-i > bestCount) {
+        best = targets[i];
+        bestCount = j-i;
+      }
+      i = j;
+    }
+
+    int [] row = new int [2*(numInput-bestCount)];
+    int k = 0;
+    if (best == d) {
+      System.arraycopy(e, 0, row, 0, 2*n);
+      k = n;
+    }
+    else {
+      int i = 0;
+      for (int c = 0; c < numInput; c++) {
+        int t = d;
+        if (i < n && e[2*i] == c) t = e[2*(i++)+1];
+        if (t != best) {
+          row[2*k] = c;
+          row[2*k+1] = t;
+          k++;
+        }
+      }
+    }
+
+    defaultTarget[state] = best;
+    exceptions[state] = k > 0 ? row : null;
+    numExceptions[state] = k;
   }
 
 
@@ -180,8 +443,8 @@ final public class DFA {
       result.append(i+":"+Out.NL);
      
       for (char j=0; j < numInput; j++) {
-	      if ( table[i][j] >= 0 )
-          result.append("  with ").append((int) j).append(" in ").append(table[i][j]).append(Out.NL);	
+	      if ( getTransition(i,j) >= 0 )
+          result.append("  with ").append((int) j).append(" in ").append(getTransition(i,j)).append(Out.NL);	
       }
     }
     
@@ -218,8 +481,8 @@ final public class DFA {
 
     for (int i=0; i < numStates; i++) {
       for (int input = 0; input < numInput; input++) {
-	      if ( table[i][input] >= 0 ) {
-          result.append(i).append(" -> ").append(table[i][input]);
+	      if ( getTransition(i,input) >= 0 ) {
+          result.append(i).append(" -> ").append(getTransition(i,input));
           result.append(" [label=\"[").append(input).append("]\"]").append(Out.NL);
           // result.append(" [label=\"[").append(classes.toString(input)).append("]\"]\n");
         }
@@ -245,13 +508,104 @@ final public class DFA {
 
 
   /**
-   * Implementation of Hopcroft's O(n log n) minimization algorithm, follows
-   * description by D. Gries.
+   * Merges inputs that have the same target in every state into one
+   * input, so that minimization and emission work on the smaller
+   * alphabet. The remaining inputs are renumbered in ascending order
+   * of their first member.
    *
-   * Time: O(n log n)
-   * Space: O(c n), size < 4*(5*c*n + 13*n + 3*c) byte
+   * @return the new input of each old input, to be applied to the
+   *         character classes with {@link CharClasses#mergeClasses}
+   */
+  public int [] reduceInputs() {
+    if (lastStart >= 0) {
+      compressRow(lastStart);
+      lastStart = -1;
+    }
+
+    int [] map = new int [numInput];
+    boolean [] killed = new boolean [numInput];
+    int newNumInput = 0;
+
+    // equal columns have equal hash values, computed from
+    // the compressed rows in one pass
+    int [] hash = new int [numInput];
+    for (int s = 0; s < numStates; s++) {
+      int w = weight(s);
+      int d = defaultTarget[s];
+      int [] e = exceptions[s];
+      for (int i = 0; i < numExceptions[s]; i++)
+        hash[e[2*i]]+= w*(e[2*i+1]-d);
+    }
+
+    // inputs that have not been merged into another, by hash value
+    Map<Integer,List<Integer>> buckets = new HashMap<Integer,List<Integer>>();
+
+    for (int c = 0; c < numInput; c++) {
+      List<Integer> bucket = buckets.get(hash[c]);
+      if (bucket == null) {
+        bucket = new ArrayList<Integer>(1);
+        buckets.put(hash[c], bucket);
+      }
+
+      for (int b : bucket) {
+        int s = 0;
+        while (s < numStates && getTransition(s, c) == getTransition(s, b)) s++;
+        if (s == numStates) {
+          map[c] = map[b];
+          killed[c] = true;
+          break;
+        }
+      }
+
+      if (!killed[c]) {
+        map[c] = newNumInput++;
+        bucket.add(c);
+      }
+    }
+
+    if (newNumInput == numInput) return map;
+
+    // map is ascending on the inputs that are kept, so exceptions stay sorted
+    for (int s = 0; s < numStates; s++) {
+      int [] e = exceptions[s];
+      int k = 0;
+      for (int i = 0; i < numExceptions[s]; i++) {
+        if (!killed[e[2*i]]) {
+          e[2*k] = map[e[2*i]];
+          e[2*k+1] = e[2*i+1];
+          k++;
+        }
+      }
+      numExceptions[s] = k;
+    }
+
+    numInput = newNumInput;
+    weightSum = 0;
+    for (int c = 0; c < numInput; c++) weightSum+= weight(c);
+
+    for (int s = 0; s < numStates; s++) compressRow(s);
+
+    return map;
+  }
+
+
+  /**
+   * Minimizes this DFA. 
+   *
+   * Uses Hopcroft's algorithm on the full transition table, or
+   * partition refinement on the existing transitions only (see
+   * {@link #minimizeSparse}) if {@link GeneratorContext#sparse_minimize} 
+   * is set or if the tables of Hopcroft's algorithm would not fit
+   * comfortably into memory. With {@link GeneratorContext#parallel_minimize}
+   * the refinement runs on multiple threads (see {@link #minimizeParallel}).
+   * All of them produce the same DFA.
    */
   public void minimize() {
+    if (lastStart >= 0) {
+      compressRow(lastStart);
+      lastStart = -1;
+    }
+
     Out.print(numStates+" states before minimization, ");
 
     if (numStates == 0) {
@@ -259,11 +613,32 @@ final public class DFA {
       throw new GeneratorException();
     }
 
-    if (Options.no_minimize) {
+    if (context.no_minimize) {
       Out.println("minimization skipped.");
       return;
     }
 
+    if (context.parallel_minimize)
+      minimizeParallel();
+    else if (context.sparse_minimize || 
+             20L*(numStates+1)*numInput > Runtime.getRuntime().maxMemory()/4) 
+      minimizeSparse();
+    else
+      minimizeDense();
+  
+    Out.println(numStates+" states in minimized DFA");
+  }
+
+
+  /**
+   * Implementation of Hopcroft's O(n log n) minimization algorithm, follows
+   * description by D. Gries.
+   *
+   * Time: O(n log n)
+   * Space: O(c n), size < 4*(5*c*n + 13*n + 3*c) byte
+   */
+  private void minimizeDense() {
+
     // the algorithm needs the DFA to be total, so we add an error state 0,
     // and translate the rest of the states by +1
     final int n = numStates+1;
@@ -327,7 +702,7 @@ final public class DFA {
 
       // accumulate states of inverse delta into lists (inv_delta serves as head of list)
       for (int s = 1; s < n; s++) {
-        int t = table[s-1][c]+1;
+        int t = getTransition(s-1,c)+1;
 
         if (inv_list_last[t] == -1) { // if there are no elements in the list yet
           inv_delta[t][c] = s;  // mark t as first and last element
@@ -527,7 +902,7 @@ final public class DFA {
           SD[B_i] = 0;
           int t = b_forward[B_i];
           while (t != B_i && (t != 0 || block[0] == B_j) && 
-                 (t == 0 || block[table[t-1][a]+1] == B_j)) {
+                 (t == 0 || block[getTransition(t-1,a)+1] == B_j)) {
             SD[B_i]++;
             t = b_forward[t];
           }
@@ -642,34 +1017,45 @@ final public class DFA {
     System.out.println("check");
     */
 
-    // transform the transition table 
-    
     // trans[i] is the state j that will replace state i, i.e. 
     // states i and j are equivalent
     int trans [] = new int [numStates];
     
-    // kill[i] is true iff state i is redundant and can be removed
-    boolean kill [] = new boolean [numStates];
-    
-    // move[i] is the amount line i has to be moved in the transition table
-    // (because states j < i have been removed)
-    int move [] = new int [numStates];
-    
-    // fill arrays trans[] and kill[] (in O(n))
+    // fill array trans[] (in O(n))
     for (int b = b0+1; b <= lastBlock; b++) { // b0 contains the error state
       // get the state with smallest value in current block
       int s = b_forward[b];
       int min_s = s; // there are no empty blocks!
       for (; s != b; s = b_forward[s]) 
         if (min_s > s) min_s = s;
-      // now fill trans[] and kill[] for this block 
+      // now fill trans[] for this block 
       // (and translate states back to partial DFA)
       min_s--; 
-      for (s = b_forward[b]-1; s != b-1; s = b_forward[s+1]-1) {
+      for (s = b_forward[b]-1; s != b-1; s = b_forward[s+1]-1) 
         trans[s] = min_s;
-        kill[s] = s != min_s;
-      }
     }
+
+    mergeStates(trans);
+  }
+
+
+  /**
+   * Replaces each state by the representative of its equivalence class
+   * and removes the other states of the class from the transition table.
+   *
+   * @param trans  trans[i] is the smallest state equivalent to state i
+   */
+  private void mergeStates(int [] trans) {
+    // transform the transition table 
+    
+    // kill[i] is true iff state i is redundant and can be removed
+    boolean kill [] = new boolean [numStates];
+    for (int i = 0; i < numStates; i++) 
+      kill[i] = trans[i] != i;
+    
+    // move[i] is the amount line i has to be moved in the transition table
+    // (because states j < i have been removed)
+    int move [] = new int [numStates];
     
     // fill array move[] (in O(n))
     int amount = 0;
@@ -682,29 +1068,52 @@ final public class DFA {
 
     int i,j;
     // j is the index in the new transition table
-    // the transition table is transformed in place (in O(c n))
+    // the transition table is transformed in place (in O(n + number of exceptions))
     for (i = 0, j = 0; i < numStates; i++) {
       
       // we only copy lines that have not been removed
       if ( !kill[i] ) {
         
         // translate the target states 
-        for (int c = 0; c < numInput; c++) {
-          if ( table[i][c] >= 0 ) {
-            table[j][c] = trans[ table[i][c] ];
-            table[j][c]-= move[ table[j][c] ];
+        int d = defaultTarget[i];
+        if ( d >= 0 ) {
+          d = trans[d];
+          d-= move[d];
+        }
+
+        int [] e = exceptions[i];
+        int n = 0;
+        for (int k = 0; k < numExceptions[i]; k++) {
+          int t = e[2*k+1];
+          if ( t >= 0 ) {
+            t = trans[t];
+            t-= move[t];
           }
-          else {
-            table[j][c] = table[i][c];
+          // merged states may make an exception redundant
+          if ( t != d ) {
+            e[2*n] = e[2*k];
+            e[2*n+1] = t;
+            n++;
           }
         }
 
+        defaultTarget[j] = d;
+        exceptions[j] = e;
+        numExceptions[j] = n;
+        compressRow(j);
+
         isFinal[j] = isFinal[i];
         action[j] = action[i];
         
         j++;
       }
     }
+
+    for (i = j; i < numStates; i++) {
+      defaultTarget[i] = NO_TARGET;
+      exceptions[i] = null;
+      numExceptions[i] = 0;
+    }
     
     numStates = j;
     
@@ -713,10 +1122,411 @@ final public class DFA {
       entryState[i] = trans[ entryState[i] ];
       entryState[i]-= move[ entryState[i] ];
     }
-  
-    Out.println(numStates+" states in minimized DFA");
   }
 
+
+  /**
+   * Minimization by partition refinement on the transitions that
+   * are present in the table (A. Valmari, Fast brief practical 
+   * DFA minimization, 2012). 
+   *
+   * The states are refined together with a partition of the 
+   * transitions ("cords"), each cord is a set of transitions with 
+   * the same label into the same block. The implicit error state
+   * is not represented: a state with transitions on some input 
+   * can never be equivalent to one without, so the result is the
+   * same as the one of {@link #minimizeDense}.
+   *
+   * Time: O(m log n) with m = number of transitions
+   * Space: O(n + m), size about 4*(12*m + 8*n + c) byte
+   */
+  private void minimizeSparse() {
+    final int n = numStates;
+
+    // initial partition: all non-final states, and the final
+    // states grouped by equivalent action
+    int [] group = new int [n];
+    int numGroups = 1;
+    Map<Action, Integer> groups = new HashMap<Action, Integer>();
+    for (int s = 0; s < n; s++) {
+      if (isFinal[s]) {
+        Integer g = groups.get(action[s]);
+        if (g == null) {
+          g = numGroups++;
+          groups.put(action[s], g);
+        }
+        group[s] = g;
+      }
+    }
+
+    // the states sorted by group
+    int [] groupStart = new int [numGroups+1];
+    for (int s = 0; s < n; s++) groupStart[group[s]+1]++;
+    for (int g = 0; g < numGroups; g++) groupStart[g+1]+= groupStart[g];
+    int [] byGroup = new int [n];
+    int [] next = new int [numGroups];
+    System.arraycopy(groupStart, 0, next, 0, numGroups);
+    for (int s = 0; s < n; s++) byGroup[next[group[s]]++] = s;
+    group = null;
+    next = null;
+
+    Partition blocks = new Partition(n);
+    for (int g = 1; g < numGroups; g++) {
+      for (int i = groupStart[g]; i < groupStart[g+1]; i++) 
+        blocks.mark(byGroup[i]);
+      blocks.split();
+    }
+    groupStart = null;
+    byGroup = null;
+
+    // the transitions, sorted by label
+    int [] row = new int [numInput];
+    int [] labelStart = new int [numInput+1];
+    for (int s = 0; s < n; s++) {
+      expandRow(s, row);
+      for (int c = 0; c < numInput; c++) 
+        if (row[c] != NO_TARGET) labelStart[c+1]++;
+    }
+    for (int c = 0; c < numInput; c++) labelStart[c+1]+= labelStart[c];
+
+    final int m = labelStart[numInput];
+    int [] tail = new int [m];
+    int [] head = new int [m];
+    next = new int [numInput];
+    System.arraycopy(labelStart, 0, next, 0, numInput);
+    for (int s = 0; s < n; s++) {
+      expandRow(s, row);
+      for (int c = 0; c < numInput; c++) {
+        int t = row[c];
+        if (t != NO_TARGET) {
+          int k = next[c]++;
+          tail[k] = s;
+          head[k] = t;
+        }
+      }
+    }
+    next = null;
+
+    // initial cords: the transitions with the same label
+    Partition cords = new Partition(m);
+    cords.z = 0;
+    for (int c = 0; c < numInput; c++) {
+      if (labelStart[c] < labelStart[c+1]) {
+        cords.first[cords.z] = labelStart[c];
+        cords.past[cords.z] = labelStart[c+1];
+        for (int k = labelStart[c]; k < labelStart[c+1]; k++) 
+          cords.set[k] = cords.z;
+        cords.z++;
+      }
+    }
+    labelStart = null;
+
+    // incoming[inStart[s]..inStart[s+1]-1] are the transitions into s
+    int [] inStart = new int [n+1];
+    for (int k = 0; k < m; k++) inStart[head[k]+1]++;
+    for (int s = 0; s < n; s++) inStart[s+1]+= inStart[s];
+    int [] incoming = new int [m];
+    next = new int [n];
+    System.arraycopy(inStart, 0, next, 0, n);
+    for (int k = 0; k < m; k++) incoming[next[head[k]]++] = k;
+    next = null;
+    head = null;
+    row = null;
+
+    // split blocks by cords and cords by blocks until both are stable;
+    // block 0 need not be used as splitter: the transitions into it 
+    // are the ones that remain in their cord when all other blocks
+    // have been used
+    int b = 1;
+    int c = 0;
+    while (c < cords.z) {
+      for (int i = cords.first[c]; i < cords.past[c]; i++) 
+        blocks.mark(tail[cords.elems[i]]);
+      blocks.split();
+      c++;
+
+      while (b < blocks.z) {
+        for (int i = blocks.first[b]; i < blocks.past[b]; i++) {
+          int s = blocks.elems[i];
+          for (int j = inStart[s]; j < inStart[s+1]; j++) 
+            cords.mark(incoming[j]);
+        }
+        cords.split();
+        b++;
+      }
+    }
+
+    // the smallest state of each block
+    int [] min = new int [blocks.z];
+    Arrays.fill(min, n);
+    for (int s = 0; s < n; s++) 
+      if (s < min[blocks.set[s]]) min[blocks.set[s]] = s;
+
+    int [] trans = new int [n];
+    for (int s = 0; s < n; s++) 
+      trans[s] = min[blocks.set[s]];
+
+    mergeStates(trans);
+  }
+
+
+  /**
+   * Refinable partition of the set <code>0..n-1</code> for 
+   * {@link #minimizeSparse}.
+   *
+   * The elements of set <code>s</code> are 
+   * <code>elems[first[s]..past[s]-1]</code>, the marked ones of them
+   * come first.
+   */
+  private static final class Partition {
+    /** the number of sets */
+    int z;
+    /** the elements, grouped by set */
+    final int [] elems;
+    /** loc[e] is the index of element e in elems */
+    final int [] loc;
+    /** set[e] is the set of element e */
+    final int [] set;
+    final int [] first;
+    final int [] past;
+    /** the number of marked elements of each set */
+    final int [] marked;
+    /** the sets with marked elements */
+    final int [] touched;
+    int numTouched;
+
+    Partition(int n) {
+      elems   = new int [n];
+      loc     = new int [n];
+      set     = new int [n];
+      first   = new int [n];
+      past    = new int [n];
+      marked  = new int [n];
+      touched = new int [n];
+
+      for (int i = 0; i < n; i++) {
+        elems[i] = i;
+        loc[i] = i;
+      }
+
+      if (n > 0) {
+        z = 1;
+        past[0] = n;
+      }
+    }
+
+    /**
+     * Marks element e (moves it to the marked part of its set)
+     */
+    void mark(int e) {
+      int s = set[e];
+      int i = loc[e];
+      int j = first[s]+marked[s];
+      if (i < j) return; // already marked
+
+      elems[i] = elems[j];
+      loc[elems[i]] = i;
+      elems[j] = e;
+      loc[e] = j;
+
+      if (marked[s]++ == 0) touched[numTouched++] = s;
+    }
+
+    /**
+     * Splits each set with marked elements into the marked and the
+     * unmarked part. The smaller part becomes a new set. 
+     * Clears all marks.
+     */
+    void split() {
+      while (numTouched > 0) {
+        int s = touched[--numTouched];
+        int j = first[s]+marked[s];
+
+        if (j == past[s]) {
+          marked[s] = 0;
+          continue;
+        }
+
+        if (marked[s] <= past[s]-j) {
+          first[z] = first[s];
+          past[z] = j;
+          first[s] = j;
+        }
+        else {
+          past[z] = past[s];
+          first[z] = j;
+          past[s] = j;
+        }
+
+        for (int i = first[z]; i < past[z]; i++) 
+          set[elems[i]] = z;
+
+        marked[s] = 0;
+        marked[z] = 0;
+        z++;
+      }
+    }
+  }
+
+  /** 
+   * Number of states below which a {@link RefineTask} does not
+   * split any further.
+   */
+  private static final int PARALLEL_GRAIN = 512;
+
+  /**
+   * Minimization by parallel rounds of refinement (Moore's algorithm).
+   *
+   * In each round, two states stay in the same block iff they were in
+   * the same block and have transitions into the same blocks for
+   * each input. The signatures of all states are computed on a 
+   * fork-join pool and collected in a concurrent table. The number of
+   * each block is the smallest state in it, so the result of a round
+   * does not depend on the order in which the threads work. Stops 
+   * when a round does not split any block. The fixed point is the
+   * coarsest stable partition, the same as the one computed by
+   * {@link #minimizeDense} and {@link #minimizeSparse}.
+   *
+   * Time: O(r c n / p) for r rounds (at most n, usually about the 
+   *       length of the longest token) on p processors
+   * Space: O(n)
+   */
+  private void minimizeParallel() {
+    final int n = numStates;
+
+    // block[s] is the smallest state in the block of s;
+    // initially the non-final states, and the final states grouped 
+    // by equivalent action
+    int [] block = new int [n];
+    int numBlocks = 0;
+    int nonFinal = -1;
+    Map<Action, Integer> groups = new HashMap<Action, Integer>();
+    for (int s = 0; s < n; s++) {
+      if (isFinal[s]) {
+        Integer g = groups.get(action[s]);
+        if (g == null) {
+          g = s;
+          groups.put(action[s], g);
+          numBlocks++;
+        }
+        block[s] = g;
+      }
+      else {
+        if (nonFinal < 0) {
+          nonFinal = s;
+          numBlocks++;
+        }
+        block[s] = nonFinal;
+      }
+    }
+    groups = null;
+
+    ForkJoinPool pool = new ForkJoinPool();
+    try {
+      AtomicInteger [] min = new AtomicInteger [n];
+      while (true) {
+        ConcurrentMap<Signature, AtomicInteger> blocks = 
+          new ConcurrentHashMap<Signature, AtomicInteger>(2*numBlocks);
+
+        pool.invoke(new RefineTask(block, blocks, min, 0, n));
+
+        if (blocks.size() == numBlocks) break;
+        numBlocks = blocks.size();
+
+        int [] newBlock = new int [n];
+        for (int s = 0; s < n; s++) 
+          newBlock[s] = min[s].get();
+        block = newBlock;
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+
+    mergeStates(block);
+  }
+
+
+  /**
+   * The signature of a state in one round of {@link #minimizeParallel}:
+   * its block and the blocks of its transitions.
+   */
+  private final class Signature {
+    private final int state;
+    private final int [] block;
+    private final int hash;
+
+    Signature(int state, int [] block) {
+      this.state = state;
+      this.block = block;
+      this.hash = 31*block[state] + hashTransitions(state, block);
+    }
+
+    public int hashCode() {
+      return hash;
+    }
+
+    public boolean equals(Object o) {
+      if (!(o instanceof Signature)) return false;
+      Signature x = (Signature) o;
+      return hash == x.hash && block[state] == block[x.state] &&
+             sameTransitions(state, x.state, block);
+    }
+  }
+
+
+  /**
+   * Computes the signatures of the states <code>start..end-1</code> for
+   * one round of {@link #minimizeParallel}. 
+   *
+   * Enters each signature in <code>blocks</code> together with the 
+   * smallest state that has it, and stores that (shared) counter in 
+   * <code>min</code> for each state.
+   */
+  private final class RefineTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int [] block;
+    private final ConcurrentMap<Signature, AtomicInteger> blocks;
+    private final AtomicInteger [] min;
+    private final int start, end;
+
+    RefineTask(int [] block, ConcurrentMap<Signature, AtomicInteger> blocks,
+               AtomicInteger [] min, int start, int end) {
+      this.block = block;
+      this.blocks = blocks;
+      this.min = min;
+      this.start = start;
+      this.end = end;
+    }
+
+    protected void compute() {
+      if ( end - start > PARALLEL_GRAIN ) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new RefineTask(block, blocks, min, start, mid),
+                  new RefineTask(block, blocks, min, mid, end));
+        return;
+      }
+
+      for (int s = start; s < end; s++) {
+        Signature sig = new Signature(s, block);
+        AtomicInteger m = blocks.get(sig);
+        if (m == null) {
+          AtomicInteger fresh = new AtomicInteger(s);
+          m = blocks.putIfAbsent(sig, fresh);
+          if (m == null) m = fresh;
+        }
+
+        int current = m.get();
+        while (s < current && !m.compareAndSet(current, s)) 
+          current = m.get();
+
+        min[s] = m;
+      }
+    }
+  }
+
+
   public String toString(int [] a) {
     String r = "{";
     int i;
@@ -781,7 +1591,7 @@ final public class DFA {
       throw new GeneratorException();
     }
 
-    if (Options.no_minimize) {
+    if (context.no_minimize) {
       Out.println("minimization skipped.");
       return null;
     }
@@ -823,8 +1633,8 @@ final public class DFA {
   
             if (equiv[i][j]) {              
 
-              int p = table[i][c]; 
-              int q = table[j][c];
+              int p = getTransition(i,c); 
+              int q = getTransition(j,c);
               if (p < q) {
                 int t = p;
                 p = q;
@@ -850,8 +1660,8 @@ final public class DFA {
       
             for (c = 0; c < numInput; c++) {
       
-              int p = table[i][c];
-              int q = table[j][c];
+              int p = getTransition(i,c);
+              int q = getTransition(j,c);
               if (p < q) {
                 int t = p;
                 p = q;
@@ -28,34 +28,44 @@ final public class Emitter {
   static final private int FINAL = 1;
   static final private int NOLOOK = 8;
 
+  // DFA states the lazy scanner caches (at least, rounded to a power of 2)
+  static final private int LAZY_STATES = 1024;
+
   static final private String date = (new SimpleDateFormat()).format(new Date());
 
   private File inputFile;
 
+  /** settings of this generation run */
+  private GeneratorContext context;
+
+  /** output language */
+  private Language lang;
+
   private PrintWriter out;
   private Skeleton skel;
   private LexScan scanner;
   private LexParse parser;
   private DFA dfa;
 
-  // for switch statement:
-  // table[i][j] is the set of input characters that leads from state i to state j
-  private CharSet table[][];
+  /** the NFA of the lazy code generation method (otherwise <tt>null</tt>) */
+  private NFA nfa;
+
+  // for the lazy code generation method:
+  // nfaStates[i] is the NFA state with number i in the generated tables,
+  // nfaIndex[s] the number of NFA state s (-1 if s is not reachable)
+  private int [] nfaStates;
+  private int [] nfaIndex;
+  private boolean lookaheadUsed;
 
   private boolean isTransition[];
-  
-  // noTarget[i] is the set of input characters that have no target state in state i
-  private CharSet noTarget[];
       
   // for row killing:
   private int numRows;
   private int [] rowMap;
   private boolean [] rowKilled;
   
-  // for col killing:
+  // the number of inputs (character classes)
   private int numCols;
-  private int [] colMap;
-  private boolean [] colKilled;
   
 
   /** maps actions to their switch label */
@@ -63,13 +73,21 @@ final public class Emitter {
 
   private CharClassInterval [] intervals;
 
+  /* the two stages of the character map, see splitCharMap() */
+  private StringBuilder cmapTop;
+  private StringBuilder cmapBlocks;
+
   private String visibility = "public";
 
-  public Emitter(File inputFile, LexParse parser, DFA dfa) throws IOException {
+  public Emitter(GeneratorContext context, File inputFile, LexParse parser, DFA dfa) 
+    throws IOException {
+
+    this.context = context;
+    this.lang = context.lang;
 
-    String name = getBaseName(parser.scanner.className) + "." + Options.lang.extension();
+    String name = getBaseName(parser.scanner.className) + "." + lang.extension();
 
-    File outputFile = normalize(name, inputFile);
+    File outputFile = normalize(context, name, inputFile);
 
     Out.println("Writing code to \""+outputFile+"\"");
     
@@ -79,7 +97,45 @@ final public class Emitter {
     this.visibility = scanner.visibility;
     this.inputFile = inputFile;
     this.dfa = dfa;
-    this.skel = new Skeleton(out);
+
+    String [] sections;
+    if (byteInput()) {
+      // the scanner on bytes has a runtime of its own
+      sections = Skeleton.loadSystemSkeleton(Skeleton.BYTES_LOC);
+      if (visibility.equals("private")) Skeleton.makePrivate(sections);
+    }
+    else {
+      sections = context.skeleton.clone();
+    }
+    setBufferPolicy(sections);
+    this.skel = new Skeleton(sections, out);
+  }
+
+  /**
+   * Sets the buffer policy constants of the skeleton to the values
+   * of <code>%maxtoken</code>, <code>%buffergrowth</code> and
+   * <code>%bufferpool</code>.
+   */
+  private void setBufferPolicy(String [] sections) {
+    setPolicy(sections, "ZZ_MAXTOKEN", "%maxtoken", scanner.maxToken);
+    setPolicy(sections, "ZZ_BUFFERGROWTH", "%buffergrowth", scanner.bufferGrowth);
+    setPolicy(sections, "ZZ_POOLSIZE", "%bufferpool", scanner.bufferPool);
+  }
+
+  private void setPolicy(String [] sections, String constant, String option, int value) {
+    if (value > 0 && !Skeleton.setConstant(sections, constant, value))
+      Out.warning(ErrorMessages.get(ErrorMessages.SKEL_NO_BUFFER_POLICY, constant, option));
+  }
+
+  /**
+   * Creates an emitter for the lazy code generation method. The 
+   * generated scanner builds the states of the DFA for <code>nfa</code>
+   * when it first needs them.
+   */
+  public Emitter(GeneratorContext context, File inputFile, LexParse parser, NFA nfa) 
+    throws IOException {
+    this(context, inputFile, parser, (DFA) null);
+    this.nfa = nfa;
   }
 
   /**
@@ -101,26 +157,28 @@ final public class Emitter {
   
 
   /**
-   * Constructs a file in Options.getDir() or in the same directory as
-   * another file. Makes a backup if the file already exists.
+   * Constructs a file in the output directory of <code>context</code> or 
+   * in the same directory as another file. Makes a backup if the file 
+   * already exists (unless switched off in <code>context</code>).
    *
+   * @param context  the settings of the generation run
    * @param name  the name (without path) of the file
    * @param input fall back location if path = <tt>null</tt>
    *              (expected to be a file in the directory to write to)   
    * @return The constructed File
    */
-  public static File normalize(String name, File input) {
+  public static File normalize(GeneratorContext context, String name, File input) {
     File outputFile;
 
-    if ( Options.getDir() == null ) 
+    if ( context.getDir() == null ) 
       if ( input == null || input.getParent() == null )
         outputFile = new File(name);
       else
         outputFile = new File(input.getParent(), name);
     else 
-      outputFile = new File(Options.getDir(), name);
+      outputFile = new File(context.getDir(), name);
         
-    if ( outputFile.exists() && !Options.no_backup ) {      
+    if ( outputFile.exists() && !context.no_backup ) {      
       File backup = new File( outputFile.toString()+"~" );
       
       if ( backup.exists() ) backup.delete();
@@ -171,25 +229,171 @@ final public class Emitter {
   }
 
   private boolean hasGenLookAhead() {
+    if (scanner.lazy) return lookaheadUsed;
     return dfa.lookaheadUsed;
   }
+
+  /**
+   * Returns the DFA state for entry state <code>i</code>. The lazy 
+   * scanner builds the entry states first, in the order of the NFA.
+   */
+  private int entryState(int i) {
+    if (scanner.lazy) return i;
+    return dfa.entryState[i];
+  }
+
+  /**
+   * Returns an expression for the successor of <code>state</code> 
+   * with character class <code>input</code>.
+   */
+  private String nextState(String state, String input) {
+    if (scanner.lazy) return "zzLazyNext("+state+", "+input+")";
+    return lang.array_index("zzTransL", lang.array_index("zzRowMapL",state)+" + "+input);
+  }
+
+  /**
+   * Returns an expression for the attributes of <code>state</code>.
+   */
+  private String attributes(String state) {
+    if (scanner.lazy) return lang.array_index("zzLazyAttr", state);
+    return lang.array_index("zzAttrL", state);
+  }
+
+  /**
+   * Returns true if the scanner reads Unicode code points (decoding
+   * surrogate pairs) instead of UTF-16 code units.
+   */
+  private boolean codePoints() {
+    return parser.getCharClasses().getMaxCharCode() > CharClasses.maxBMPChar;
+  }
+
+  /**
+   * Returns true if the character map is emitted as two stage table
+   * (see {@link #emitCharMapTwoStage()}) instead of a flat array.
+   * Scanners that read code points always use the two stage table,
+   * all others if it is at most half the size of the flat array.
+   */
+  private boolean twoStageMap() {
+    CharClasses cl = parser.getCharClasses();
+
+    if ( cl.getMaxCharCode() < 256 ) return false;
+    if ( codePoints() ) return true;
+
+    splitCharMap();
+    int size = cmapTop.length() + cmapBlocks.length() + 0x80;
+    return 2*size <= cl.getMaxCharCode()+1;
+  }
+
+  /**
+   * Returns an expression for the character class of <code>input</code>.
+   * With a two stage table, ASCII characters are looked up directly
+   * in ZZ_CMAP_A.
+   */
+  private String charClass(String input) {
+    if (!twoStageMap()) 
+      return lang.array_index("zzCMapL", input);
+
+    String block = lang.array_index("zzCMapL", 
+        "("+lang.array_index("ZZ_CMAP_Z", input+" >> 8")+" << 8) | ("+input+" & 0xFF)");
+    return "("+lang.conditional(input+" < 0x80", lang.array_index("ZZ_CMAP_A", input), block)+")";
+  }
+
+  /**
+   * Returns true iff the scanner reads bytes instead of characters
+   * (<code>%input utf8</code> or <code>latin1</code>).
+   */
+  private boolean byteInput() {
+    return scanner.utf8Input || scanner.latin1Input;
+  }
+
+  /**
+   * Returns an expression for the element at <code>pos</code> of the
+   * buffer, for scanners on bytes its value from 0 to 255.
+   */
+  private String bufferAt(String pos) {
+    if (byteInput()) return "(zzBufferL.get("+pos+") & 0xFF)";
+    return lang.array_index("zzBufferL", pos);
+  }
+
+  /**
+   * Returns an expression for the character at <code>pos</code> in the
+   * buffer. Scanners on UTF-8 bytes decode the character that starts
+   * there.
+   */
+  private String charAt(String pos) {
+    if (scanner.utf8Input) return "zzCodePointAt(zzBufferL, "+pos+")";
+    return bufferAt(pos);
+  }
+
+  /**
+   * Returns an expression for the character before <code>pos</code> in
+   * the buffer.
+   */
+  private String charBefore(String pos) {
+    if (scanner.utf8Input) return "zzCodePointAt(zzBufferL, zzCodePointStart(zzBufferL, "+pos+"))";
+    return bufferAt(pos+"-1");
+  }
+
+  /**
+   * Emits the statements that read the next input character at 
+   * <code>pos</code> into <code>zzInput</code> and advance 
+   * <code>pos</code> behind it.
+   */
+  private void emitReadInput(String indent, String pos, String end) {
+    if (byteInput()) {
+      println(indent + "zzInput = " + bufferAt(pos)+";");
+      println(indent + pos + " += 1;");
+    }
+    else if (codePoints()) {
+      println(indent + "zzInput = Character.codePointAt(zzBufferL, "+pos+", "+end+");");
+      println(indent + pos + " += Character.charCount(zzInput);");
+    }
+    else {
+      println(indent + "zzInput = " + lang.array_index("zzBufferL",pos)+";");
+      println(indent + pos + " += 1;");
+    }
+  }
   
+  /**
+   * Emits the encoding of the input of a scanner on bytes, which
+   * <code>yytext()</code> decodes.
+   */
+  private void emitCharset() {
+    if (!byteInput()) return;
+
+    String name = scanner.utf8Input ? "UTF-8" : "ISO-8859-1";
+    println("  /** the encoding of the input */");
+    println("  " + lang.field(false, true, false, "java.nio.charset.Charset", "ZZ_CHARSET",
+        "java.nio.charset.Charset.forName(\""+name+"\")")+";");
+    println();
+  }
+
+  /**
+   * Returns the element of <code>zzFinL</code> for buffer position
+   * <code>pos</code>. Scanners on bytes index it from the start of the
+   * match.
+   */
+  private String finAt(String pos) {
+    if (byteInput()) return lang.array_index("zzFinL", pos+"-zzStartRead");
+    return lang.array_index("zzFinL", pos);
+  }
+
   private void emitLookBuffer() {
     if (!hasGenLookAhead()) return;
     
     println("  /** For the backwards DFA of general lookahead statements */");
     // println("  private boolean [] zzFin = new boolean [ZZ_BUFFERSIZE+1];");
-    println("  " + Options.lang.field(false, false, true, 
-        Options.lang.array_type(Options.lang.boolean_type()), 
-        "zzFin", Options.lang.new_array(Options.lang.boolean_type(),
+    println("  " + lang.field(false, false, true, 
+        lang.array_type(lang.boolean_type()), 
+        "zzFin", lang.new_array(lang.boolean_type(),
             "ZZ_BUFFERSIZE+1"))+";");
     println();
   }
   
   private void emitScanError() {
     //print("  private void zzScanError(int errorCode)");
-    print("  " + Options.lang.method_header(false, false, true, false, Options.lang.void_type(), 
-        "zzScanError", "(" + Options.lang.formal(false, Options.lang.int_type(), "errorCode")+")", null));
+    print("  " + lang.method_header(false, false, true, false, lang.void_type(), 
+        "zzScanError", "(" + lang.formal(false, lang.int_type(), "errorCode")+")", null));
     
     if (scanner.scanErrorException != null) 
       print(" throws "+scanner.scanErrorException);
@@ -206,9 +410,9 @@ final public class Emitter {
     skel.emitNext();
 
     // print("  "+visibility+" void yypushback(int number) "); 
-    print("  "+Options.lang.method_header(false, visibility.equals("public"), true, false, 
-          Options.lang.void_type(), "yypushback", 
-          "(" + Options.lang.formal(false, Options.lang.int_type(), "number") + ")", null));
+    print("  "+lang.method_header(false, visibility.equals("public"), true, false, 
+          lang.void_type(), "yypushback", 
+          "(" + lang.formal(false, lang.int_type(), "number") + ")", null));
     
     if (scanner.scanErrorException == null)
       println(" {");
@@ -337,8 +541,23 @@ final public class Emitter {
     println("        "+className+" scanner = null;");
     println("        try {");
     println("          java.io.FileInputStream stream = new java.io.FileInputStream(argv[i]);");
-    println("          java.io.Reader reader = new java.io.InputStreamReader(stream, encodingName);");
-    println("          scanner = new "+className+"(reader);");
+    if (byteInput()) {
+      // the scanner decodes its input itself, the encoding is ignored
+      println("          scanner = new "+className+"(stream);");
+    }
+    else if (scanner.charSequenceInput) {
+      println("          java.io.Reader reader = new java.io.InputStreamReader(stream, encodingName);");
+      println("          StringBuilder text = new StringBuilder();");
+      println("          char [] buffer = new char [ZZ_BUFFERSIZE];");
+      println("          int numRead;");
+      println("          while ((numRead = reader.read(buffer)) != -1) text.append(buffer, 0, numRead);");
+      println("          reader.close();");
+      println("          scanner = new "+className+"(text);");
+    }
+    else {
+      println("          java.io.Reader reader = new java.io.InputStreamReader(stream, encodingName);");
+      println("          scanner = new "+className+"(reader);");
+    }
     if ( scanner.standalone ) {      
       println("          while ( !scanner.zzAtEOF ) scanner."+scanner.functionName+"();");
     }
@@ -376,17 +595,29 @@ final public class Emitter {
   
   private void emitNextInput() {
     println("          if (zzCurrentPosL < zzEndReadL) {");
-    println("            zzInput = " + Options.lang.array_index("zzBufferL","zzCurrentPosL")+";");
-    println("            zzCurrentPosL += 1;");
+    emitReadInput("            ", "zzCurrentPosL", "zzEndReadL");
+    if (scanner.charSequenceInput) {
+      // all input is in the buffer, there is nothing to refill
+      println("          }");
+      println("          else {");
+      println("            zzInput = YYEOF;");
+      println("            " + lang.break_block("zzForAction")+";");
+      println("          }");
+      return;
+    }
     println("          } else if (zzAtEOF) {");
     println("            zzInput = YYEOF;");
-    println("            " + Options.lang.break_block("zzForAction")+";");
+    println("            " + lang.break_block("zzForAction")+";");
     println("          }");
     println("          else {");
+    if (scanner.maxToken > 0) {
+      println("            if (zzCurrentPosL-zzStartRead >= ZZ_MAXTOKEN)");
+      println("              zzScanError(ZZ_TOKEN_2BIG);");
+    }
     println("            // store back cached positions");
     println("            zzCurrentPos  = zzCurrentPosL;");
     println("            zzMarkedPos   = zzMarkedPosL;");
-    println("            " + Options.lang.local(false, Options.lang.boolean_type(), "eof", "zzRefill()") + ";");
+    println("            " + lang.local(false, lang.boolean_type(), "eof", "zzRefill()") + ";");
     println("            // get translated positions and possibly new buffer");
     println("            zzCurrentPosL  = zzCurrentPos;");
     println("            zzMarkedPosL   = zzMarkedPos;");
@@ -394,15 +625,41 @@ final public class Emitter {
     println("            zzEndReadL     = zzEndRead;");
     println("            if (eof) {");
     println("              zzInput = YYEOF;");
-    println("              " + Options.lang.break_block("zzForAction")+";"); 
+    println("              " + lang.break_block("zzForAction")+";"); 
     println("            }");
     println("            else {");
-    println("              zzInput = " + Options.lang.array_index("zzBufferL","zzCurrentPosL")+";");
-    println("              zzCurrentPosL += 1;");
+    emitReadInput("              ", "zzCurrentPosL", "zzEndReadL");
     println("            }");
     println("          }"); 
   }
 
+  /**
+   * Emits the else branches of a peek at the character behind the
+   * match, for the case that it is not in the buffer yet:
+   * <code>var</code> becomes false at the end of input, otherwise
+   * <code>value</code> after refilling the buffer.
+   */
+  private void emitPeekAtEnd(String indent, String var, String value) {
+    if (scanner.charSequenceInput) {
+      // all input is in the buffer, there is nothing to refill
+      println(indent + "else");
+      println(indent + "  " + var + " = false;");
+      return;
+    }
+    println(indent + "else if (zzAtEOF)");
+    println(indent + "  " + var + " = false;");
+    println(indent + "else {");
+    println(indent + "  " + lang.local(false, lang.boolean_type(), "eof", "zzRefill()")+";");
+    println(indent + "  zzMarkedPosL = zzMarkedPos;");
+    println(indent + "  zzEndReadL = zzEndRead;");
+    println(indent + "  zzBufferL = zzBuffer;");
+    println(indent + "  if (eof) ");
+    println(indent + "    " + var + " = false;");
+    println(indent + "  else ");
+    println(indent + "    " + var + " = " + value + ";");
+    println(indent + "}");
+  }
+
   private void emitHeader() {
     println("/* The following code was generated by JFlex "+Main.version+" on "+date+" */");   
     println(""); 
@@ -438,7 +695,7 @@ final public class Emitter {
     print("class ");
     print(scanner.className);
     
-    if (Options.lang == Language.SCALA) {
+    if (lang == Language.SCALA) {
       print("(private var zzReader : java.io.Reader");
       emitCtorArgs();
       print(")");
@@ -451,7 +708,7 @@ final public class Emitter {
 
     if ( scanner.isImplementing != null ) {
       //XXX: Workaround bad way %extends is written:
-      if (Options.lang == Language.SCALA)
+      if (lang == Language.SCALA)
         print(" extends ");
       else
         print(" implements ");
@@ -460,7 +717,7 @@ final public class Emitter {
     
     println(" {");
     
-    if (Options.lang == Language.SCALA) {
+    if (lang == Language.SCALA) {
       print("  def this(in : java.io.InputStream) = ");    
 
       print("this(new java.io.InputStreamReader(in)");
@@ -496,7 +753,7 @@ final public class Emitter {
       int num = scanner.states.getNumber(name);
 
       // println("  "+visibility+" static final int "+name+" = "+2*num+";");
-      println("  "+Options.lang.field(visibility.equals("public"), true, false, Options.lang.int_type(), name, ""+(2*num)) + ";");
+      println("  "+lang.field(visibility.equals("public"), true, false, lang.int_type(), name, ""+(2*num)) + ";");
     }
 
     // can't quite get rid of the indirection, even for non-bol lex states: 
@@ -510,14 +767,14 @@ final public class Emitter {
     println("   * l is of the form l = 2*k, k a non negative integer");
     println("   */");
     //println("  private static final int ZZ_LEXSTATE[] = { ");
-    println("  " + Options.lang.field(false, true, false, Options.lang.array_type(Options.lang.int_type()), 
-                                      "ZZ_LEXSTATE", Options.lang.array_literal_start(Options.lang.int_type())));
+    println("  " + lang.field(false, true, false, lang.array_type(lang.int_type()), 
+                                      "ZZ_LEXSTATE", lang.array_literal_start(lang.int_type())));
   
     int i, j = 0;
     print("    ");
     
-    for (i = 0; i < 2*dfa.numLexStates-1; i++) {
-      print( dfa.entryState[i], 2 );
+    for (i = 0; i < 2*scanner.states.number()-1; i++) {
+      print( entryState(i), 2 );
 
       print(", ");
 
@@ -528,35 +785,35 @@ final public class Emitter {
       }
     }
             
-    println( dfa.entryState[i] );
-    println("  "+Options.lang.array_literal_stop()+";");
+    println( entryState(i) );
+    println("  "+lang.array_literal_stop()+";");
   }
 
   private void emitDynamicInit() {    
     int count = 0;
-    int value = dfa.table[0][0];
+    int value = dfa.getTransition(0,0);
+    int [] row = new int [dfa.numInput];
 
     println("  /** ");
     println("   * The transition table of the DFA");
     println("   */");
 
-    CountEmitter e = new CountEmitter("Trans");
+    CountEmitter e = new CountEmitter("Trans", lang);
     e.setValTranslation(+1); // allow vals in [-1, 0xFFFE]
     e.emitInit();
     
     for (int i = 0; i < dfa.numStates; i++) {
       if ( !rowKilled[i] ) {
+        dfa.expandRow(i, row);
         for (int c = 0; c < dfa.numInput; c++) {
-          if ( !colKilled[c] ) {
-            if (dfa.table[i][c] == value) {
-              count++;
-            } 
-            else {
-              e.emit(count, value);
-
-              count = 1;
-              value = dfa.table[i][c];              
-            }
+          if (row[c] == value) {
+            count++;
+          } 
+          else {
+            e.emit(count, value);
+
+            count = 1;
+            value = row[c];              
           }
         }
       }
@@ -575,6 +832,11 @@ final public class Emitter {
     
     if ( cl.getMaxCharCode() < 256 ) return;
 
+    if ( twoStageMap() ) {
+      emitCharMapTwoStageInitFunction();
+      return;
+    }
+
     println("");
     println("  /** ");
     println("   * Unpacks the compressed character translation table.");
@@ -583,20 +845,46 @@ final public class Emitter {
     println("   * @return         the unpacked character translation table");
     println("   */");
     // println("  private static char [] zzUnpackCMap(String packed) {");
-    println("  " + Options.lang.method_header(false, false, true, true, 
-        Options.lang.array_type(Options.lang.char_type()), "zzUnpackCMap", 
-        "("+Options.lang.formal(false, "String", "packed") + ")", null) + "{");
+    println("  " + lang.method_header(false, false, true, true, 
+        lang.array_type(lang.char_type()), "zzUnpackCMap", 
+        "("+lang.formal(false, "String", "packed") + ")", null) + "{");
     // println("    char [] map = new char[0x10000];");
-    println("    " + Options.lang.local(false, Options.lang.array_type(Options.lang.char_type()), "map", 
-        Options.lang.new_array(Options.lang.char_type(), "0x10000"))+";");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "i", "0")+";  /* index in packed string  */");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "j", "0")+";  /* index in unpacked array */");
+    println("    " + lang.local(false, lang.array_type(lang.char_type()), "map", 
+        lang.new_array(lang.char_type(), "0x10000"))+";");
+    println("    "+lang.local(true, lang.int_type(), "i", "0")+";  /* index in packed string  */");
+    println("    "+lang.local(true, lang.int_type(), "j", "0")+";  /* index in unpacked array */");
     println("    while (i < "+2*intervals.length+") {");
-    println("      "+Options.lang.local(true, Options.lang.int_type(), "count", "packed.charAt(i)")+"; i+= 1;");
-    println("      "+Options.lang.local(true, Options.lang.char_type(), "value", "packed.charAt(i);")+" i+= 1;");
+    println("      "+lang.local(true, lang.int_type(), "count", "packed.charAt(i)")+"; i+= 1;");
+    println("      "+lang.local(true, lang.char_type(), "value", "packed.charAt(i);")+" i+= 1;");
     //println("      int  count = packed.charAt(i); i+=1;");
     //println("      char value = packed.charAt(i); i+=1;");
-    println("      do { "+Options.lang.array_index("map","j")+" = value; j+=1; count-=1; } while (count > 0);");
+    println("      do { "+lang.array_index("map","j")+" = value; j+=1; count-=1; } while (count > 0);");
+    println("    }");
+    println("    return map;");
+    println("  }");
+  }
+
+  private void emitCharMapTwoStageInitFunction() {
+    println("");
+    println("  /** ");
+    println("   * Unpacks a compressed stage of the character translation table.");
+    println("   *");
+    println("   * @param packed   the packed table");
+    println("   * @param size     the size of the unpacked table");
+    println("   * @return         the unpacked table");
+    println("   */");
+    println("  " + lang.method_header(false, false, true, true, 
+        lang.array_type(lang.char_type()), "zzUnpackCMap", 
+        "("+lang.formal(false, "String", "packed") + ", " + 
+        lang.formal(false, lang.int_type(), "size") + ")", null) + "{");
+    println("    " + lang.local(false, lang.array_type(lang.char_type()), "map", 
+        lang.new_array(lang.char_type(), "size"))+";");
+    println("    "+lang.local(true, lang.int_type(), "i", "0")+";  /* index in packed string  */");
+    println("    "+lang.local(true, lang.int_type(), "j", "0")+";  /* index in unpacked array */");
+    println("    while (i < packed.length()) {");
+    println("      "+lang.local(true, lang.int_type(), "count", "packed.charAt(i)")+"; i+= 1;");
+    println("      "+lang.local(true, lang.char_type(), "value", "packed.charAt(i);")+" i+= 1;");
+    println("      do { "+lang.array_index("map","j")+" = value; j+=1; count-=1; } while (count > 0);");
     println("    }");
     println("    return map;");
     println("  }");
@@ -606,13 +894,14 @@ final public class Emitter {
 
     int i,c;
     int n = 0;
+    int [] row = new int [dfa.numInput];
     
     println("  /** ");
     println("   * The transition table of the DFA");
     println("   */");
     // println("  private static final int ZZ_TRANS [] = {"); 
-    println("  " + Options.lang.field(false, true, false, Options.lang.array_type(Options.lang.int_type()), 
-        "ZZ_TRANS", Options.lang.array_literal_start(Options.lang.int_type())));
+    println("  " + lang.field(false, true, false, lang.array_type(lang.int_type()), 
+        "ZZ_TRANS", lang.array_literal_start(lang.int_type())));
 
     print("    ");
     
@@ -621,23 +910,22 @@ final public class Emitter {
     for (i = 0; i < dfa.numStates; i++) {
       
       if ( !rowKilled[i] ) {        
+        dfa.expandRow(i, row);
         for (c = 0; c < dfa.numInput; c++) {  
-          if ( !colKilled[c] ) {            
-            if (started) print(", "); else started = true;
-            if (n >= 10) {
-              println();
-              print("    ");
-              n = 0;
-            }
-            print( dfa.table[i][c] );
-            n++;
+          if (started) print(", "); else started = true;
+          if (n >= 10) {
+            println();
+            print("    ");
+            n = 0;
           }
+          print( row[c] );
+          n++;
         }
       }
     }
 
     println();
-    println("  "+ Options.lang.array_literal_stop()+";");
+    println("  "+ lang.array_literal_stop()+";");
   }
   
   private void emitCharMapArrayUnPacked() {
@@ -649,8 +937,8 @@ final public class Emitter {
     println("   * Translates characters to character classes");
     println("   */");
     // println("  private static final char [] ZZ_CMAP = {");
-    println("  " + Options.lang.field(false, true, false, Options.lang.array_type(Options.lang.char_type()), 
-        "ZZ_CMAP", Options.lang.array_literal_start(Options.lang.char_type())));
+    println("  " + lang.field(false, true, false, lang.array_type(lang.char_type()), 
+        "ZZ_CMAP", lang.array_literal_start(lang.char_type())));
 
     int n = 0;  // numbers of entries in current line    
     print("    ");
@@ -659,7 +947,7 @@ final public class Emitter {
 	
     // not very efficient, but good enough for <= 255 characters
     for (char c = 0; c <= max; c++) {
-      print(colMap[cl.getClassCode(c)],2);
+      print(cl.getClassCode(c),2);
       
       if (c < max) {
         print(", ");        
@@ -672,7 +960,126 @@ final public class Emitter {
     }
 
     println();
-    println("  "+ Options.lang.array_literal_stop()+";");
+    println("  "+ lang.array_literal_stop()+";");
+    println();
+  }
+
+  /**
+   * Splits the character map into blocks of 256 characters. Identical 
+   * blocks are stored only once in <code>cmapBlocks</code>, 
+   * <code>cmapTop</code> holds the block index for each 
+   * <code>c >> 8</code>.
+   */
+  private void splitCharMap() {
+    if (cmapTop != null) return;
+
+    CharClasses cl = parser.getCharClasses();
+    intervals = cl.getIntervals();
+
+    int numTop = (cl.getMaxCharCode() >> 8) + 1;
+    cmapTop = new StringBuilder(numTop);
+    cmapBlocks = new StringBuilder();
+    Map<String,Integer> blockIndex = new HashMap<String,Integer>();
+    
+    char [] block = new char[256];
+    int i = 0;
+    for (int b = 0; b < numTop; b++) {
+      for (int c = 0; c < 256; c++) {
+        int ch = (b << 8) | c;
+        while (intervals[i].end < ch) i++;
+        block[c] = (char) intervals[i].charClass;
+      }
+      String key = new String(block);
+      Integer index = blockIndex.get(key);
+      if (index == null) {
+        index = blockIndex.size();
+        blockIndex.put(key, index);
+        cmapBlocks.append(key);
+      }
+      cmapTop.append((char) index.intValue());
+    }
+  }
+
+  /**
+   * Emits the character map as two stage table.
+   *
+   * ZZ_CMAP_Z maps the upper bits of a character (<code>c >> 8</code>)
+   * to a block of 256 entries in ZZ_CMAP, which contains the character
+   * classes. Identical blocks are stored only once, so the table stays
+   * small even if it covers all of Unicode. ASCII characters are
+   * translated by ZZ_CMAP_A with a single lookup.
+   */
+  private void emitCharMapTwoStage() {
+    splitCharMap();
+
+    println("");
+    println("  /** ");
+    println("   * Translates ASCII characters to character classes");
+    println("   */");
+    println("  " + lang.field(false, true, false, lang.array_type(lang.char_type()), 
+        "ZZ_CMAP_A", lang.array_literal_start(lang.char_type())));
+
+    print("    ");
+    for (int c = 0; c < 0x80; c++) {
+      print((int) cmapBlocks.charAt(((int) cmapTop.charAt(0) << 8) | c), 2);
+      if (c < 0x7F) {
+        print(", ");
+        if ( (c+1) % 16 == 0 ) { 
+          println();
+          print("    ");
+        }
+      }
+    }
+    println();
+    println("  "+ lang.array_literal_stop()+";");
+    println();
+
+    println("  /** ");
+    println("   * Translates the upper bits of a character to a block in ZZ_CMAP");
+    println("   */");
+    emitCharMapRuns("ZZ_CMAP_Z", cmapTop);
+
+    println("  /** ");
+    println("   * Translates characters to character classes, in blocks of 256");
+    println("   */");
+    emitCharMapRuns("ZZ_CMAP", cmapBlocks);
+  }
+
+  /**
+   * Emits <code>data</code> as run length encoded String constant 
+   * <code>name</code>_PACKED and the unpacked array <code>name</code>.
+   */
+  private void emitCharMapRuns(String name, CharSequence data) {
+    println("  " + lang.field(false, true, false, "String", name+"_PACKED", ""));
+  
+    int n = 0;  // numbers of entries in current line    
+    print("    \"");
+    
+    int i = 0;
+    while ( i < data.length() ) {
+      char value = data.charAt(i);
+      int count = 1;
+      while (i+count < data.length() && data.charAt(i+count) == value && count < 0xFFFF) 
+        count++;
+      i += count;
+
+      printUC(count);
+      printUC(value);
+
+      if (i < data.length()) {
+        if ( ++n >= 10 ) { 
+          println("\"+");
+          print("    \"");
+          n = 0;
+        }
+      }
+    }
+      
+    println("\";");
+    println();
+
+    println("  " + lang.field(false, true, false, lang.array_type(lang.char_type()), 
+        name, "zzUnpackCMap("+name+"_PACKED, "+data.length()+")") + ";");
     println();
   }
 
@@ -684,6 +1091,11 @@ final public class Emitter {
       return;
     }
 
+    if ( twoStageMap() ) {
+      emitCharMapTwoStage();
+      return;
+    }
+
     // ignores cl.getMaxCharCode(), emits all intervals instead
 
     intervals = cl.getIntervals();
@@ -693,7 +1105,7 @@ final public class Emitter {
     println("   * Translates characters to character classes");
     println("   */");
     // println("  private static final String ZZ_CMAP_PACKED = ");
-    println("  " + Options.lang.field(false, true, false, "String", "ZZ_CMAP_PACKED", ""));
+    println("  " + lang.field(false, true, false, "String", "ZZ_CMAP_PACKED", ""));
   
     int n = 0;  // numbers of entries in current line    
     print("    \"");
@@ -702,7 +1114,7 @@ final public class Emitter {
     int count, value;
     while ( i < intervals.length ) {
       count = intervals[i].end-intervals[i].start+1;
-      value = colMap[intervals[i].charClass];
+      value = intervals[i].charClass;
 
       // count could be >= 0x10000
       while (count > 0xFFFF) {
@@ -732,7 +1144,7 @@ final public class Emitter {
     println("  /** ");
     println("   * Translates characters to character classes");
     println("   */");
-    println("  " + Options.lang.field(false, true, false, Options.lang.array_type(Options.lang.char_type()), 
+    println("  " + lang.field(false, true, false, lang.array_type(lang.char_type()), 
         "ZZ_CMAP", "zzUnpackCMap(ZZ_CMAP_PACKED)") + ";");
     println();
   }
@@ -745,7 +1157,7 @@ final public class Emitter {
    * @prec  0 <= c <= 0xFFFF 
    */
   private void printUC(int c) {
-    out.print(Options.lang.char_literal((char)c));
+    out.print(lang.char_literal((char)c));
   }
 
 
@@ -755,7 +1167,7 @@ final public class Emitter {
     println("   * Translates a state to a row index in the transition table");
     println("   */");
     
-    HiLowEmitter e = new HiLowEmitter("RowMap");
+    HiLowEmitter e = new HiLowEmitter("RowMap", lang);
     e.emitInit();
     for (int i = 0; i < dfa.numStates; i++) {
       e.emit(rowMap[i]*numCols);
@@ -770,7 +1182,7 @@ final public class Emitter {
     println("   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>");
     println("   */");
     
-    CountEmitter e = new CountEmitter("Attribute");    
+    CountEmitter e = new CountEmitter("Attribute", lang);    
     e.emitInit();
     
     int count = 1;
@@ -800,11 +1212,381 @@ final public class Emitter {
   }
 
 
+  /**
+   * Emits count/value pairs for <code>values</code> (runs longer than
+   * 0xFFFF are split).
+   */
+  private void emitRuns(CountEmitter e, int [] values) {
+    int i = 0;
+    while (i < values.length) {
+      int count = 1;
+      while (i+count < values.length && count < 0xFFFF && values[i+count] == values[i]) 
+        count++;
+      e.emit(count, values[i]);
+      i+= count;
+    }
+  }
+
+  private void emitNFATables() {
+    int n = nfaStates.length;
+    int numEntries = nfa.numEntryStates();
+
+    // priority ranks of the actions, 1 is the highest priority
+    SortedSet<Integer> priorities = new TreeSet<Integer>();
+    for (int i = 0; i < n; i++) {
+      Action action = nfa.action[nfaStates[i]];
+      if (nfa.isFinal[nfaStates[i]] && action != null) priorities.add(action.priority);
+    }
+    Map<Integer,Integer> rank = new HashMap<Integer,Integer>();
+    for (int priority : priorities) rank.put(priority, rank.size()+1);
+
+    println("  /** ");
+    println("   * The epsilon transitions of the NFA: the successors of state s are");
+    println("   * ZZ_EPS[ZZ_EPSROW[s]] .. ZZ_EPS[ZZ_EPSROW[s+1]-1]");
+    println("   */");
+
+    HiLowEmitter rows = new HiLowEmitter("EpsRow", lang);
+    HiLowEmitter targets = new HiLowEmitter("Eps", lang);
+    rows.emitInit();
+    targets.emitInit();
+
+    StateSetEnumerator states = new StateSetEnumerator();
+    int k = 0;
+    for (int i = 0; i < n; i++) {
+      rows.emit(k);
+      StateSet eps = nfa.epsilon[nfaStates[i]];
+      if (eps == null) continue;
+      states.reset(eps);
+      while (states.hasMoreElements()) {
+        targets.emit(nfaIndex[states.nextElement()]);
+        k++;
+      }
+    }
+    rows.emit(k);
+
+    rows.emitUnpack();
+    println(rows.toString());
+    targets.emitUnpack();
+    println(targets.toString());
+
+    println("  /** ");
+    println("   * The transitions of the NFA: the (input, successor) pairs of state s");
+    println("   * sorted by input are at ZZ_NFATRANS[2*ZZ_NFAROW[s]] .. ZZ_NFATRANS[2*ZZ_NFAROW[s+1]-1]");
+    println("   */");
+
+    rows = new HiLowEmitter("NfaRow", lang);
+    targets = new HiLowEmitter("NfaTrans", lang);
+    rows.emitInit();
+    targets.emitInit();
+
+    k = 0;
+    for (int i = 0; i < n; i++) {
+      rows.emit(k);
+      StateSet [] row = nfa.table[nfaStates[i]];
+      for (int c = 0; c < nfa.numInput; c++) {
+        if (row[c] == null) continue;
+        states.reset(row[c]);
+        while (states.hasMoreElements()) {
+          targets.emit(c);
+          targets.emit(nfaIndex[states.nextElement()]);
+          k++;
+        }
+      }
+    }
+    rows.emit(k);
+
+    rows.emitUnpack();
+    println(rows.toString());
+    targets.emitUnpack();
+    println(targets.toString());
+
+    int [] prio = new int [n];
+    int [] label = new int [n];
+    for (int i = 0; i < n; i++) {
+      if (!nfa.isFinal[nfaStates[i]]) continue;
+      Action action = nfa.action[nfaStates[i]];
+      if (action == null) {
+        prio[i] = rank.size()+1;
+      }
+      else {
+        prio[i] = rank.get(action.priority);
+        if (action.isEmittable()) label[i] = actionTable.get(action);
+      }
+    }
+
+    println("  /** ");
+    println("   * Priority rank of the action of each NFA state (1 = highest, 0 = not final)");
+    println("   */");
+    CountEmitter e = new CountEmitter("NfaPrio", lang);
+    e.emitInit();
+    emitRuns(e, prio);
+    e.emitUnpack();
+    println(e.toString());
+
+    println("  /** ");
+    println("   * Translates NFA states to action switch labels.");
+    println("   */");
+    e = new CountEmitter("NfaAction", lang);
+    e.emitInit();
+    emitRuns(e, label);
+    e.emitUnpack();
+    println(e.toString());
+
+    println("  /** number of entry states of the NFA, the first DFA states */");
+    println("  "+lang.field(false, true, false, lang.int_type(), "ZZ_NFA_ENTRIES", " "+numEntries)+";");
+    println();
+    println("  /** number of character classes */");
+    println("  "+lang.field(false, true, false, lang.int_type(), "ZZ_NFA_INPUTS", " "+nfa.numInput)+";");
+    println();
+    int lazyStates = LAZY_STATES;
+    while (lazyStates < 2*numEntries) lazyStates*= 2;
+
+    println("  /** maximum number of cached DFA states (a power of 2) */");
+    println("  "+lang.field(false, true, false, lang.int_type(), "ZZ_LAZY_STATES", " "+lazyStates)+";");
+    println();
+  }
+
+
+  /**
+   * Emits the fields and methods of the lazy scanner that build the 
+   * DFA states from the NFA tables on demand.
+   */
+  private void emitLazyDFA() {
+    int capacity = 64;
+    while (capacity <= nfa.numEntryStates()) capacity*= 2;
+
+    println("");
+    println("  /** the NFA states (sorted) of the DFA states built so far */");
+    println("  private int [][] zzLazySets;");
+    println("");
+    println("  /** successors of the DFA states built so far, -2 if not built yet */");
+    println("  private int [][] zzLazyNextTab;");
+    println("");
+    println("  /** attributes of the DFA states built so far */");
+    println("  private int [] zzLazyAttr;");
+    println("");
+    println("  /** action switch labels of the DFA states built so far */");
+    println("  private int [] zzLazyAction;");
+    println("");
+    println("  /** number of DFA states built so far */");
+    println("  private int zzLazyCount;");
+    println("");
+    println("  /** hash index of zzLazySets (open addressing), contains state+1, 0 if free */");
+    println("  private int [] zzLazyHash;");
+    println("");
+    println("  /** NFA states visited in the current closure are marked with zzLazyGen */");
+    println("  private int [] zzLazyMark;");
+    println("  private int zzLazyGen;");
+    println("");
+    println("  /** work list of the current closure */");
+    println("  private int [] zzLazyStack;");
+    println("");
+    println("  /** action switch label of the last final DFA state of the current match */");
+    println("  private int zzLazyMatch;");
+    println("");
+    println("");
+    println("  /**");
+    println("   * Drops all DFA states and builds the entry states again, which");
+    println("   * keep their numbers. Called when the cache is full, also in the");
+    println("   * middle of a match: the scanner keeps the position and action of");
+    println("   * the last final state (zzLazyMatch), not its number.");
+    println("   */");
+    println("  private void zzLazyReset() {");
+    println("    if (zzLazySets == null) {");
+    println("      zzLazyMark = new int [ZZ_NFAPRIO.length];");
+    println("      zzLazyStack = new int [ZZ_NFAPRIO.length];");
+    println("      zzLazySets = new int ["+capacity+"][];");
+    println("      zzLazyNextTab = new int ["+capacity+"][];");
+    println("      zzLazyAttr = new int ["+capacity+"];");
+    println("      zzLazyAction = new int ["+capacity+"];");
+    println("      zzLazyHash = new int ["+2*capacity+"];");
+    println("    }");
+    println("    else {");
+    println("      java.util.Arrays.fill(zzLazySets, null);");
+    println("      java.util.Arrays.fill(zzLazyNextTab, null);");
+    println("      java.util.Arrays.fill(zzLazyHash, 0);");
+    println("    }");
+    println("    zzLazyCount = 0;");
+    println("    for (int s = 0; s < ZZ_NFA_ENTRIES; s += 1) {");
+    println("      zzLazyNewGen();");
+    println("      zzLazyAdd(zzLazyCollect(zzLazyClose(zzLazyPush(s, 0))));");
+    println("    }");
+    println("  }");
+    println("");
+    println("  /**");
+    println("   * Returns the successor of DFA state <code>state</code> for character");
+    println("   * class <code>input</code>, -1 if there is none.");
+    println("   */");
+    println("  private int zzLazyNext(int state, int input) {");
+    println("    int next = zzLazyNextTab[state][input];");
+    println("    if (next == -2) next = zzLazyStep(state, input);");
+    println("    return next;");
+    println("  }");
+    println("");
+    println("  /**");
+    println("   * Computes the successor of DFA state <code>state</code> for character");
+    println("   * class <code>input</code>, adds it if it is new. If the cache is");
+    println("   * full, it is reset first and only the successor is added again, so");
+    println("   * <code>state</code> is gone afterwards.");
+    println("   */");
+    println("  private int zzLazyStep(int state, int input) {");
+    println("    int [] set = zzLazySets[state];");
+    println("    int top = 0;");
+    println("    zzLazyNewGen();");
+    println("    for (int i = 0; i < set.length; i += 1) {");
+    println("      int s = set[i];");
+    println("      int lo = ZZ_NFAROW[s];");
+    println("      int hi = ZZ_NFAROW[s+1];");
+    println("      while (lo < hi) {");
+    println("        int mid = (lo + hi) >>> 1;");
+    println("        if (ZZ_NFATRANS[2*mid] < input) lo = mid + 1;");
+    println("        else hi = mid;");
+    println("      }");
+    println("      hi = ZZ_NFAROW[s+1];");
+    println("      while (lo < hi && ZZ_NFATRANS[2*lo] == input) {");
+    println("        top = zzLazyPush(ZZ_NFATRANS[2*lo+1], top);");
+    println("        lo += 1;");
+    println("      }");
+    println("    }");
+    println("    int [] next = zzLazyCollect(zzLazyClose(top));");
+    println("    int target = -1;");
+    println("    if (next.length > 0) {");
+    println("      target = zzLazyFind(next);");
+    println("      if (target < 0) {");
+    println("        if (zzLazyCount == ZZ_LAZY_STATES) {");
+    println("          zzLazyReset();");
+    println("          target = zzLazyFind(next);");
+    println("          return target < 0 ? zzLazyAdd(next) : target;");
+    println("        }");
+    println("        target = zzLazyAdd(next);");
+    println("      }");
+    println("    }");
+    println("    zzLazyNextTab[state][input] = target;");
+    println("    return target;");
+    println("  }");
+    println("");
+    println("  /** Starts a new closure. */");
+    println("  private void zzLazyNewGen() {");
+    println("    zzLazyGen += 1;");
+    println("    if (zzLazyGen == 0) {");
+    println("      java.util.Arrays.fill(zzLazyMark, 0);");
+    println("      zzLazyGen = 1;");
+    println("    }");
+    println("  }");
+    println("");
+    println("  /** Puts NFA state <code>s</code> on the work list, if it is new. */");
+    println("  private int zzLazyPush(int s, int top) {");
+    println("    if (zzLazyMark[s] == zzLazyGen) return top;");
+    println("    zzLazyMark[s] = zzLazyGen;");
+    println("    zzLazyStack[top] = s;");
+    println("    return top + 1;");
+    println("  }");
+    println("");
+    println("  /** Adds the epsilon successors of all states on the work list. */");
+    println("  private int zzLazyClose(int top) {");
+    println("    int i = 0;");
+    println("    while (i < top) {");
+    println("      int s = zzLazyStack[i];");
+    println("      for (int k = ZZ_EPSROW[s]; k < ZZ_EPSROW[s+1]; k += 1)");
+    println("        top = zzLazyPush(ZZ_EPS[k], top);");
+    println("      i += 1;");
+    println("    }");
+    println("    return top;");
+    println("  }");
+    println("");
+    println("  /**");
+    println("   * Returns the NFA states on the work list that have transitions or are");
+    println("   * final (the others do not change the DFA state), in ascending order.");
+    println("   */");
+    println("  private int [] zzLazyCollect(int top) {");
+    println("    int n = 0;");
+    println("    for (int i = 0; i < top; i += 1) {");
+    println("      int s = zzLazyStack[i];");
+    println("      if (ZZ_NFAROW[s] < ZZ_NFAROW[s+1] || ZZ_NFAPRIO[s] != 0) {");
+    println("        zzLazyStack[n] = s;");
+    println("        n += 1;");
+    println("      }");
+    println("    }");
+    println("    int [] set = new int [n];");
+    println("    System.arraycopy(zzLazyStack, 0, set, 0, n);");
+    println("    java.util.Arrays.sort(set);");
+    println("    return set;");
+    println("  }");
+    println("");
+    println("  /** Returns the DFA state for the NFA states <code>set</code>, -1 if there is none. */");
+    println("  private int zzLazyFind(int [] set) {");
+    println("    int mask = zzLazyHash.length - 1;");
+    println("    int h = java.util.Arrays.hashCode(set) & mask;");
+    println("    while (zzLazyHash[h] != 0) {");
+    println("      if (java.util.Arrays.equals(set, zzLazySets[zzLazyHash[h] - 1])) return zzLazyHash[h] - 1;");
+    println("      h = (h + 1) & mask;");
+    println("    }");
+    println("    return -1;");
+    println("  }");
+    println("");
+    println("  /** Adds a new DFA state for the NFA states <code>set</code>. */");
+    println("  private int zzLazyAdd(int [] set) {");
+    println("    if (zzLazyCount == zzLazySets.length) zzLazyGrow();");
+    println("    int state = zzLazyCount;");
+    println("    zzLazyCount += 1;");
+    println("    zzLazySets[state] = set;");
+    println("    int [] next = new int [ZZ_NFA_INPUTS];");
+    println("    java.util.Arrays.fill(next, -2);");
+    println("    zzLazyNextTab[state] = next;");
+    println("");
+    println("    // the action of the final NFA state with the highest priority");
+    println("    int attributes = "+NOLOOK+";");
+    println("    int prio = 0;");
+    println("    int action = 0;");
+    println("    for (int i = 0; i < set.length; i += 1) {");
+    println("      int s = set[i];");
+    println("      if (ZZ_NFAROW[s] < ZZ_NFAROW[s+1]) attributes = 0;");
+    println("      if (ZZ_NFAPRIO[s] != 0 && (prio == 0 || ZZ_NFAPRIO[s] <= prio)) {");
+    println("        prio = ZZ_NFAPRIO[s];");
+    println("        action = ZZ_NFAACTION[s];");
+    println("      }");
+    println("    }");
+    println("    if (prio != 0) attributes |= "+FINAL+";");
+    println("    zzLazyAttr[state] = attributes;");
+    println("    zzLazyAction[state] = action;");
+    println("    zzLazyInsert(state);");
+    println("    return state;");
+    println("  }");
+    println("");
+    println("  /** Enters DFA state <code>state</code> into the hash index. */");
+    println("  private void zzLazyInsert(int state) {");
+    println("    int mask = zzLazyHash.length - 1;");
+    println("    int h = java.util.Arrays.hashCode(zzLazySets[state]) & mask;");
+    println("    while (zzLazyHash[h] != 0) h = (h + 1) & mask;");
+    println("    zzLazyHash[h] = state + 1;");
+    println("  }");
+    println("");
+    println("  /** Doubles the space for DFA states, up to ZZ_LAZY_STATES. */");
+    println("  private void zzLazyGrow() {");
+    println("    int size = Math.min(2*zzLazySets.length, ZZ_LAZY_STATES);");
+    println("    int [][] sets = new int [size][];");
+    println("    int [][] nextTab = new int [size][];");
+    println("    int [] attr = new int [size];");
+    println("    int [] action = new int [size];");
+    println("    System.arraycopy(zzLazySets, 0, sets, 0, zzLazyCount);");
+    println("    System.arraycopy(zzLazyNextTab, 0, nextTab, 0, zzLazyCount);");
+    println("    System.arraycopy(zzLazyAttr, 0, attr, 0, zzLazyCount);");
+    println("    System.arraycopy(zzLazyAction, 0, action, 0, zzLazyCount);");
+    println("    zzLazySets = sets;");
+    println("    zzLazyNextTab = nextTab;");
+    println("    zzLazyAttr = attr;");
+    println("    zzLazyAction = action;");
+    println("    zzLazyHash = new int [2*size];");
+    println("    for (int state = 0; state < zzLazyCount; state += 1) zzLazyInsert(state);");
+    println("  }");
+  }
+
+
   private void emitClassCode() {
     if ( scanner.eofCode != null ) {
       println("  /** denotes if the user-EOF-code has already been executed */");
       //println("  private boolean zzEOFDone;");
-      println("  "+Options.lang.field(false, false, true, Options.lang.boolean_type(), "zzEOFDone", "false"));
+      println("  "+lang.field(false, false, true, lang.boolean_type(), "zzEOFDone", "false"));
       println("");
     }
     
@@ -815,7 +1597,7 @@ final public class Emitter {
   }
 
   private void emitConstructorDecl() {
-    if (Options.lang == Language.SCALA) return;
+    if (lang == Language.SCALA) return;
     emitConstructorDecl(true);
     
     if ((scanner.standalone || scanner.debugOption) && 
@@ -831,23 +1613,26 @@ final public class Emitter {
     String warn = 
         "// WARNING: this is a default constructor for " +
         "debug/standalone only. Has no custom parameters or init code.";
-    
-    if (!printCtorArgs) println(warn); 
-    
-    print("  ");
 
-    if ( scanner.isPublic ) print("public ");   
-    print( getBaseName(scanner.className) );      
-    print("(java.io.Reader in");
-    if (printCtorArgs) emitCtorArgs();
-    print(")");
-    
-    if ( scanner.initThrow != null && printCtorArgs) {
-      print(" throws ");
-      print( scanner.initThrow );
+    if (scanner.charSequenceInput) {
+      emitCharSequenceConstructorDecl(printCtorArgs, warn);
+      return;
     }
+
+    if (byteInput()) {
+      emitByteConstructorDecl(printCtorArgs, warn);
+      return;
+    }
+
+    println("  /**");
+    println("   * Creates a new scanner");
+    println("   * There is also a java.io.InputStream version of this constructor.");
+    println("   *");
+    println("   * @param   in  the java.io.Reader to read input from.");
+    println("   */");
+    if (!printCtorArgs) println(warn); 
     
-    println(" {");
+    emitConstructorHead("java.io.Reader in", printCtorArgs);
 
     if ( scanner.initCode != null && printCtorArgs) {
       print("  ");
@@ -868,19 +1653,7 @@ final public class Emitter {
     println("   */");
     if (!printCtorArgs) println(warn);
     
-    print("  ");
-    if ( scanner.isPublic ) print("public ");    
-    print( getBaseName(scanner.className) );      
-    print("(java.io.InputStream in");
-    if (printCtorArgs) emitCtorArgs();
-    print(")");
-    
-    if ( scanner.initThrow != null && printCtorArgs ) {
-      print(" throws ");
-      print( scanner.initThrow );
-    }
-    
-    println(" {");    
+    emitConstructorHead("java.io.InputStream in", printCtorArgs);
 
     print("    this(new java.io.InputStreamReader(in)");
     if (printCtorArgs) {
@@ -891,6 +1664,200 @@ final public class Emitter {
     println("  }");
   }
 
+  /**
+   * Emits the constructors of a scanner with <code>%input charsequence</code>.
+   * They set up the input like <code>yyreset(CharSequence, int, int)</code>
+   * in the skeleton, but keep the lexical state set by init code.
+   */
+  private void emitCharSequenceConstructorDecl(boolean printCtorArgs, String warn) {
+    println("  /**");
+    println("   * Creates a new scanner for the characters <tt>start</tt> to");
+    println("   * <tt>end-1</tt> of <tt>in</tt>. Arrays and CharBuffers with an");
+    println("   * accessible array are scanned in place, other sequences are copied.");
+    println("   * There are also versions of this constructor for a complete");
+    println("   * sequence and for char arrays.");
+    println("   *");
+    println("   * @param   in     the characters to scan.");
+    println("   * @param   start  the index of the first character to scan.");
+    println("   * @param   end    the index behind the last character to scan.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("CharSequence in, int start, int end", printCtorArgs);
+
+    if ( scanner.initCode != null && printCtorArgs) {
+      print("  ");
+      print( scanner.initCode );
+    }
+
+    println("    zzSetInput(in, start, end);");
+    println("  }");
+    println();
+
+    println("  /**");
+    println("   * Creates a new scanner for all characters of <tt>in</tt>.");
+    println("   *");
+    println("   * @param   in  the characters to scan.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("CharSequence in", printCtorArgs);
+    print("    this(in, 0, in.length()");
+    if (printCtorArgs) emitCtorActuals();
+    println(");");
+    println("  }");
+    println();
+
+    println("  /**");
+    println("   * Creates a new scanner for the characters <tt>start</tt> to");
+    println("   * <tt>end-1</tt> of <tt>in</tt>, which are scanned in place.");
+    println("   *");
+    println("   * @param   in     the characters to scan.");
+    println("   * @param   start  the index of the first character to scan.");
+    println("   * @param   end    the index behind the last character to scan.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("char [] in, int start, int end", printCtorArgs);
+    print("    this(java.nio.CharBuffer.wrap(in), start, end");
+    if (printCtorArgs) emitCtorActuals();
+    println(");");
+    println("  }");
+  }
+
+  /**
+   * Emits the constructors of a scanner with <code>%input utf8</code>
+   * or <code>latin1</code>.
+   */
+  private void emitByteConstructorDecl(boolean printCtorArgs, String warn) {
+    String encoding = scanner.utf8Input ? "UTF-8" : "Latin-1";
+
+    println("  /**");
+    println("   * Creates a new scanner.");
+    println("   * There are also versions of this constructor for byte arrays,");
+    println("   * ByteBuffers and files.");
+    println("   *");
+    println("   * @param   in  the "+encoding+" encoded java.io.InputStream to read input from.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("java.io.InputStream in", printCtorArgs);
+
+    if ( scanner.initCode != null && printCtorArgs) {
+      print("  ");
+      print( scanner.initCode );
+    }
+
+    println("    this.zzStream = in;");
+    println("  }");
+    println();
+
+    println("  /**");
+    println("   * Creates a new scanner for the remaining bytes of <tt>in</tt>,");
+    println("   * which are scanned in place.");
+    println("   *");
+    println("   * @param   in  the "+encoding+" encoded input.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("java.nio.ByteBuffer in", printCtorArgs);
+
+    if ( scanner.initCode != null && printCtorArgs) {
+      print("  ");
+      print( scanner.initCode );
+    }
+
+    println("    zzSetInput(in);");
+    println("  }");
+    println();
+
+    println("  /**");
+    println("   * Creates a new scanner for the bytes <tt>start</tt> to");
+    println("   * <tt>end-1</tt> of <tt>in</tt>, which are scanned in place.");
+    println("   *");
+    println("   * @param   in     the "+encoding+" encoded input.");
+    println("   * @param   start  the index of the first byte to scan.");
+    println("   * @param   end    the index behind the last byte to scan.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("byte [] in, int start, int end", printCtorArgs);
+    print("    this(java.nio.ByteBuffer.wrap(in, start, end-start)");
+    if (printCtorArgs) emitCtorActuals();
+    println(");");
+    println("  }");
+    println();
+
+    println("  /**");
+    println("   * Creates a new scanner for a file from the current position of");
+    println("   * <tt>in</tt> on. The file is mapped into memory window by window.");
+    println("   *");
+    println("   * @param   in  the "+encoding+" encoded file.");
+    println("   * @exception java.io.IOException if the position or size of the file cannot be read.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("java.nio.channels.FileChannel in", printCtorArgs, "java.io.IOException");
+
+    if ( scanner.initCode != null && printCtorArgs) {
+      print("  ");
+      print( scanner.initCode );
+    }
+
+    println("    zzSetInput(in, ZZ_WINDOWSIZE);");
+    println("  }");
+    println();
+
+    println("  /**");
+    println("   * Creates a new scanner for a file, which is opened for reading");
+    println("   * and mapped into memory window by window. yyclose() closes it.");
+    println("   *");
+    println("   * @param   path  the "+encoding+" encoded file.");
+    println("   * @exception java.io.IOException if the file cannot be opened.");
+    println("   */");
+    if (!printCtorArgs) println(warn);
+
+    emitConstructorHead("java.nio.file.Path path", printCtorArgs, "java.io.IOException");
+    print("    this(java.nio.channels.FileChannel.open(path)");
+    if (printCtorArgs) emitCtorActuals();
+    println(");");
+    println("  }");
+  }
+
+  /**
+   * Emits a constructor declaration up to the opening brace: the
+   * parameters <code>params</code>, followed by the %ctorarg parameters
+   * and the %initthrow clause if <code>printCtorArgs</code> is set.
+   */
+  private void emitConstructorHead(String params, boolean printCtorArgs) {
+    emitConstructorHead(params, printCtorArgs, null);
+  }
+
+  /**
+   * Emits a constructor declaration up to the opening brace, which
+   * may throw <code>exception</code> in addition to the %initthrow
+   * clause (if it is not <code>null</code>).
+   */
+  private void emitConstructorHead(String params, boolean printCtorArgs, String exception) {
+    print("  ");
+    if ( scanner.isPublic ) print("public ");
+    print( getBaseName(scanner.className) );
+    print("("+params);
+    if (printCtorArgs) emitCtorArgs();
+    print(")");
+
+    String throwsClause = exception;
+    if ( scanner.initThrow != null && printCtorArgs ) 
+      throwsClause = exception == null ? scanner.initThrow : exception+", "+scanner.initThrow;
+
+    if ( throwsClause != null ) {
+      print(" throws ");
+      print( throwsClause );
+    }
+
+    println(" {");
+  }
+
   private void emitCtorActuals() {
     for (int i=0; i < scanner.ctorArgs.size(); i++) {
       print(", "+scanner.ctorArgs.get(i));
@@ -899,7 +1866,7 @@ final public class Emitter {
 
   private void emitCtorArgs() {
     for (int i = 0; i < scanner.ctorArgs.size(); i++) {
-      print(", "+Options.lang.formal(false, scanner.ctorTypes.get(i).toString(),scanner.ctorArgs.get(i).toString()));
+      print(", "+lang.formal(false, scanner.ctorTypes.get(i).toString(),scanner.ctorArgs.get(i).toString()));
     }    
   }
   
@@ -912,7 +1879,7 @@ final public class Emitter {
     println("   */");
     
     // print("  private void zzDoEOF()");
-    print("  " + Options.lang.method_header(false, false, false, false, Options.lang.void_type(), "zzDoEOF", "()", null));
+    print("  " + lang.method_header(false, false, false, false, lang.void_type(), "zzDoEOF", "()", null));
     
     if ( scanner.eofThrow != null ) {
       print(" throws ");
@@ -932,10 +1899,10 @@ final public class Emitter {
 
   private void emitLexFunctHeader() {
     boolean visible = scanner.cupCompatible || visibility.equals("public");
-    String rtype = scanner.tokenType == null ? (scanner.isInteger ? Options.lang.int_type() : scanner.isIntWrap ? "Integer" : "Yytoken") :
+    String rtype = scanner.tokenType == null ? (scanner.isInteger ? lang.int_type() : scanner.isIntWrap ? "Integer" : "Yytoken") :
       scanner.tokenType.toString();
     String excs = "java.io.IOException";
-    boolean isOverriding = false; // (Options.lang == Language.SCALA);
+    boolean isOverriding = false; // (lang == Language.SCALA);
     
     if ( scanner.lexThrow != null ) {
       excs = excs + ", " + scanner.lexThrow;
@@ -945,7 +1912,7 @@ final public class Emitter {
       excs = excs + ", " + scanner.scanErrorException;
     }
     
-    println("  " + Options.lang.method_header(isOverriding, visible, true, false, rtype, scanner.functionName, "()",excs));
+    println("  " + lang.method_header(isOverriding, visible, true, false, rtype, scanner.functionName, "()",excs));
     println(" {");
     
     skel.emitNext();
@@ -954,9 +1921,9 @@ final public class Emitter {
       //println("    int [] zzTransL = ZZ_TRANS;");
       //println("    int [] zzRowMapL = ZZ_ROWMAP;");
       //println("    int [] zzAttrL = ZZ_ATTRIBUTE;");
-      println("    " + Options.lang.local(false, Options.lang.array_type(Options.lang.int_type()), "zzTransL", "ZZ_TRANS")+";");
-      println("    " + Options.lang.local(false, Options.lang.array_type(Options.lang.int_type()), "zzRowMapL", "ZZ_ROWMAP")+";");
-      println("    " + Options.lang.local(false, Options.lang.array_type(Options.lang.int_type()), "zzAttrL", "ZZ_ATTRIBUTE")+";");
+      println("    " + lang.local(false, lang.array_type(lang.int_type()), "zzTransL", "ZZ_TRANS")+";");
+      println("    " + lang.local(false, lang.array_type(lang.int_type()), "zzRowMapL", "ZZ_ROWMAP")+";");
+      println("    " + lang.local(false, lang.array_type(lang.int_type()), "zzAttrL", "ZZ_ATTRIBUTE")+";");
     }
 
     skel.emitNext();    
@@ -967,29 +1934,29 @@ final public class Emitter {
     }
     
     if ( scanner.lineCount || scanner.columnCount ) {
-      println("      " + Options.lang.local(true, Options.lang.boolean_type(), "zzR", "false")+";");
+      println("      " + lang.local(true, lang.boolean_type(), "zzR", "false")+";");
       println("      zzCurrentPosL = zzStartRead");
       println("      while (zzCurrentPosL < zzMarkedPosL) {");
-      println("        "+ Options.lang.switch_header(Options.lang.array_index("zzBufferL","zzCurrentPosL")) + "{");
-      println("        "+Options.lang.start_case("'\\u000B'")); 
-      println("        "+Options.lang.add_case("'\\u000C'")); 
-      println("        "+Options.lang.add_case("'\\u0085'"));
-      println("        "+Options.lang.add_case("'\\u2028'")); 
-      println("        "+Options.lang.add_case("'\\u2029'") + Options.lang.start_case_body());
+      println("        "+ lang.switch_header(charAt("zzCurrentPosL")) + "{");
+      println("        "+lang.start_case("'\\u000B'")); 
+      println("        "+lang.add_case("'\\u000C'")); 
+      println("        "+lang.add_case("'\\u0085'"));
+      println("        "+lang.add_case("'\\u2028'")); 
+      println("        "+lang.add_case("'\\u2029'") + lang.start_case_body());
       if ( scanner.lineCount )
         println("          yyline+=1;");
       if ( scanner.columnCount )
         println("          yycolumn = 0;");
       println("          zzR = false;");
-      println("          "+Options.lang.end_case_body());      
-      println("        "+Options.lang.start_case("'\\r'" + Options.lang.start_case_body()));
+      println("          "+lang.end_case_body());      
+      println("        "+lang.start_case("'\\r'" + lang.start_case_body()));
       if ( scanner.lineCount )
         println("          yyline+=1;");
       if ( scanner.columnCount )
         println("          yycolumn = 0;");
       println("          zzR = true;");
-      println("          "+Options.lang.end_case_body());
-      println("        "+Options.lang.start_case("'\\n'" + Options.lang.start_case_body()));
+      println("          "+lang.end_case_body());
+      println("        "+lang.start_case("'\\n'" + lang.start_case_body()));
       println("          if (zzR)");
       println("            zzR = false;");
       println("          else {");
@@ -998,35 +1965,27 @@ final public class Emitter {
       if ( scanner.columnCount )
         println("            yycolumn = 0;");
       println("          }");
-      println("          "+Options.lang.end_case_body());
-      println("        "+Options.lang.gen_default()+ Options.lang.start_case_body());
+      println("          "+lang.end_case_body());
+      println("        "+lang.gen_default()+ lang.start_case_body());
       println("          zzR = false;");
       if ( scanner.columnCount ) 
         println("          yycolumn+=1;");
-      println("          " + Options.lang.end_case_body());
+      println("          " + lang.end_case_body());
       println("        }");
-      println("        zzCurrentPosL += 1;");
+      if (scanner.utf8Input)
+        println("        zzCurrentPosL += zzCharLength(zzBufferL.get(zzCurrentPosL));");
+      else
+        println("        zzCurrentPosL += 1;");
       println("      }");
       println();
 
       if ( scanner.lineCount ) {
         println("      if (zzR) {");
         println("        // peek one character ahead if it is \\n (if we have counted one line too much)");
-        println("        "+Options.lang.local(true, Options.lang.boolean_type(), "zzPeek", "false")+";");
+        println("        "+lang.local(true, lang.boolean_type(), "zzPeek", "false")+";");
         println("        if (zzMarkedPosL < zzEndReadL)");
-        println("          zzPeek = "+Options.lang.array_index("zzBufferL","zzMarkedPosL")+" == '\\n';");
-        println("        else if (zzAtEOF)");
-        println("          zzPeek = false;");
-        println("        else {");
-        println("          "+Options.lang.local(false, Options.lang.boolean_type(), "eof", "zzRefill()")+";");
-        println("          zzEndReadL = zzEndRead;");
-        println("          zzMarkedPosL = zzMarkedPos;");
-        println("          zzBufferL = zzBuffer;");
-        println("          if (eof) ");
-        println("            zzPeek = false;");
-        println("          else ");
-        println("            zzPeek = "+Options.lang.array_index("zzBufferL","zzMarkedPosL")+" == '\\n';");
-        println("        }");
+        println("          zzPeek = "+bufferAt("zzMarkedPosL")+" == '\\n';");
+        emitPeekAtEnd("        ", "zzPeek", bufferAt("zzMarkedPosL")+" == '\\n'");
         println("        if (zzPeek) yyline-= 1;");
         println("      }");
       }
@@ -1037,58 +1996,53 @@ final public class Emitter {
       // if match was empty, last value of zzAtBOL can be used
       // zzStartRead is always >= 0
       println("      if (zzMarkedPosL > zzStartRead) {");
-      println("        "+ Options.lang.switch_header(Options.lang.array_index("zzBufferL","zzMarkedPosL-1")));
-      println("        "+Options.lang.start_case("'\\n'")); 
-      println("        "+Options.lang.add_case("'\\u000B'")); 
-      println("        "+Options.lang.add_case("'\\u000C'")); 
-      println("        "+Options.lang.add_case("'\\u0085'"));
-      println("        "+Options.lang.add_case("'\\u2028'")); 
-      println("        "+Options.lang.add_case("'\\u2029'") + Options.lang.start_case_body());
+      println("        "+ lang.switch_header(charBefore("zzMarkedPosL")));
+      println("        "+lang.start_case("'\\n'")); 
+      println("        "+lang.add_case("'\\u000B'")); 
+      println("        "+lang.add_case("'\\u000C'")); 
+      println("        "+lang.add_case("'\\u0085'"));
+      println("        "+lang.add_case("'\\u2028'")); 
+      println("        "+lang.add_case("'\\u2029'") + lang.start_case_body());
       println("          zzAtBOL = true;");
-      println("          "+Options.lang.end_case_body()); 
-      println("        "+Options.lang.start_case("'\\r'")+Options.lang.start_case_body()); 
+      println("          "+lang.end_case_body()); 
+      println("        "+lang.start_case("'\\r'")+lang.start_case_body()); 
       println("          if (zzMarkedPosL < zzEndReadL)");
-      println("            zzAtBOL = "+Options.lang.array_index("zzBufferL","zzMarkedPosL")+" != '\\n';");
-      println("          else if (zzAtEOF)");
-      println("            zzAtBOL = false;");
-      println("          else {");
-      println("            "+Options.lang.local(false, Options.lang.boolean_type(), "eof", "zzRefill()")+";");
-      println("            zzMarkedPosL = zzMarkedPos;");
-      println("            zzEndReadL = zzEndRead;");
-      println("            zzBufferL = zzBuffer;");
-      println("            if (eof) ");
-      println("              zzAtBOL = false;");
-      println("            else ");
-      println("              zzAtBOL = "+Options.lang.array_index("zzBufferL","zzMarkedPosL")+" != '\\n';");
-      println("          }");      
-      println("          "+Options.lang.end_case_body()); 
-      println("        "+Options.lang.gen_default()+Options.lang.start_case_body()); 
+      println("            zzAtBOL = "+bufferAt("zzMarkedPosL")+" != '\\n';");
+      emitPeekAtEnd("          ", "zzAtBOL", bufferAt("zzMarkedPosL")+" != '\\n'");
+      println("          "+lang.end_case_body()); 
+      println("        "+lang.gen_default()+lang.start_case_body()); 
       println("          zzAtBOL = false;");
-      println("        "+Options.lang.end_case_body()); 
+      println("        "+lang.end_case_body()); 
       println("        }");
       println("      }"); 
     }
 
     skel.emitNext();
+
+    if (scanner.lazy) {
+      println("      if (zzLazySets == null) zzLazyReset();");
+      println();
+    }
     
     if (scanner.bolUsed) {
       println("      if (zzAtBOL)");
-      println("        zzState = "+Options.lang.array_index("ZZ_LEXSTATE","zzLexicalState+1")+";");
+      println("        zzState = "+lang.array_index("ZZ_LEXSTATE","zzLexicalState+1")+";");
       println("      else");    
-      println("        zzState = "+Options.lang.array_index("ZZ_LEXSTATE","zzLexicalState")+";");
+      println("        zzState = "+lang.array_index("ZZ_LEXSTATE","zzLexicalState")+";");
       println();
     }
     else {
-      println("      zzState = "+Options.lang.array_index("ZZ_LEXSTATE","zzLexicalState")+";");
+      println("      zzState = "+lang.array_index("ZZ_LEXSTATE","zzLexicalState")+";");
       println();
     }
 
-    if (scanner.useRowMap) {
+    if (scanner.useRowMap || scanner.lazy) {
       println("      // set up zzAction for empty match case:");
-      println("      " + Options.lang.local(true, Options.lang.int_type(), "zzAttributes", 
-					    Options.lang.array_index("zzAttrL", "zzState") +";"));
+      println("      " + lang.local(true, lang.int_type(), "zzAttributes", 
+					    attributes("zzState") +";"));
       println("      if ( (zzAttributes & 1) == 1 ) {");
       println("        zzAction = zzState;");
+      if (scanner.lazy) println("        zzLazyMatch = zzLazyAction[zzState];");
       println("      }");
       println();
     }
@@ -1098,52 +2052,49 @@ final public class Emitter {
 
   
   private void emitGetRowMapNext() {
-    println("          "+Options.lang.local(false, Options.lang.int_type(), "zzNext", 
-        Options.lang.array_index("zzTransL",
-            Options.lang.array_index("zzRowMapL","zzState")+" + "+
-            Options.lang.array_index("zzCMapL","zzInput")))+";");
-    println("          if (zzNext == "+DFA.NO_TARGET+") "+Options.lang.break_block("zzForAction")+";");
+    println("          "+lang.local(false, lang.int_type(), "zzNext", 
+        nextState("zzState", charClass("zzInput")))+";");
+    println("          if (zzNext == "+DFA.NO_TARGET+") "+lang.break_block("zzForAction")+";");
     println("          zzState = zzNext;");
     println();
 
-    println("          zzAttributes = "+ Options.lang.array_index("zzAttrL", "zzState") + ";");
+    println("          zzAttributes = "+ attributes("zzState") + ";");
 
     println("          if ( (zzAttributes & "+FINAL+") == "+FINAL+" ) {");
+    if (scanner.lazy) println("            zzLazyMatch = zzLazyAction[zzState];");
 
     skel.emitNext();
     
-    println("            if ( (zzAttributes & "+NOLOOK+") == "+NOLOOK+" ) "+Options.lang.break_block("zzForAction")+";");
+    println("            if ( (zzAttributes & "+NOLOOK+") == "+NOLOOK+" ) "+lang.break_block("zzForAction")+";");
 
     skel.emitNext();    
   }  
 
   private void emitTransitionTable() {
-    transformTransitionTable();
-    
-    println("          zzInput = "+Options.lang.array_index("zzCMapL","zzInput")+";");
+    println("          zzInput = "+charClass("zzInput")+";");
     println();
 
-    println("          "+Options.lang.local(true, Options.lang.boolean_type(), "zzIsFinal", "false")+";");
-    println("          "+Options.lang.local(true, Options.lang.boolean_type(), "zzNoLookAhead","false")+";");
+    println("          "+lang.local(true, lang.boolean_type(), "zzIsFinal", "false")+";");
+    println("          "+lang.local(true, lang.boolean_type(), "zzNoLookAhead","false")+";");
     println();
     
-    println("          "+Options.lang.start_label_block("zzForNext")+Options.lang.switch_header("zzState")+" {");
+    println("          "+lang.start_label_block("zzForNext")+lang.switch_header("zzState")+" {");
 
     for (int state = 0; state < dfa.numStates; state++)
       if (isTransition[state]) emitState(state);
 
-    println("            "+Options.lang.gen_default()+Options.lang.start_case_body());
+    println("            "+lang.gen_default()+lang.start_case_body());
     println("              // if this is ever reached, there is a serious bug in JFlex");
     println("              zzScanError(ZZ_UNKNOWN_ERROR);");
-    println("              "+Options.lang.end_case_body());
-    println("          } " + Options.lang.end_label_block("zzForNext"));
+    println("              "+lang.end_case_body());
+    println("          } " + lang.end_label_block("zzForNext"));
     println();
     
     println("          if ( zzIsFinal ) {");
     
     skel.emitNext();
     
-    println("            if ( zzNoLookAhead ) "+Options.lang.break_block("zzForAction")+";");
+    println("            if ( zzNoLookAhead ) "+lang.break_block("zzForAction")+";");
 
     skel.emitNext();    
   }
@@ -1183,7 +2134,7 @@ final public class Emitter {
     println("  /** ");
     println("   * Translates DFA states to action switch labels.");
     println("   */");
-    CountEmitter e = new CountEmitter("Action");    
+    CountEmitter e = new CountEmitter("Action", lang);    
     e.emitInit();
 
     for (int i = 0; i < dfa.numStates; i++) {
@@ -1217,7 +2168,9 @@ final public class Emitter {
   }
 
   private void emitActions() {
-    println("      "+Options.lang.switch_header(Options.lang.conditional("zzAction < 0","zzAction",Options.lang.array_index("ZZ_ACTION","zzAction")))+" {");
+    // the lazy scanner may have dropped the DFA state zzAction in the meantime
+    String actionLabel = scanner.lazy ? "zzLazyMatch" : lang.array_index("ZZ_ACTION","zzAction");
+    println("      "+lang.switch_header(lang.conditional("zzAction < 0","zzAction",actionLabel))+" {");
 
     int i = actionTable.size()+1;
     
@@ -1225,7 +2178,7 @@ final public class Emitter {
       Action action = entry.getKey();
       int label = entry.getValue();
 
-      println("        "+Options.lang.start_case(""+label)+Options.lang.start_case_body()); 
+      println("        "+lang.start_case(""+label)+lang.start_case_body()); 
       
       if (action.lookAhead() == Action.FIXED_BASE) {
         println("          // lookahead expression with fixed base length");
@@ -1240,29 +2193,47 @@ final public class Emitter {
       
       if (action.lookAhead() == Action.GENERAL_LOOK) {
         println("          // general lookahead, find correct zzMarkedPos");
-        println("          { "+Options.lang.local(true, Options.lang.int_type(), "zzFState", ""+dfa.entryState[action.getEntryState()])+";");
-        println("            "+Options.lang.local(true, Options.lang.int_type(), "zzFPos", "zzStartRead")+";");
-        println("            if (zzFin.length <= zzBufferL.length) { zzFin = "+
-            Options.lang.new_array(Options.lang.boolean_type(), "zzBufferL.length+1")+"; }");
-        println("            "+Options.lang.local(false, Options.lang.array_type(Options.lang.boolean_type()), "zzFinL", "zzFin")+";");
+        println("          { "+lang.local(true, lang.int_type(), "zzFState", ""+entryState(action.getEntryState()))+";");
+        println("            "+lang.local(true, lang.int_type(), "zzFPos", "zzStartRead")+";");
+        if (byteInput()) {
+          // a mapped window can be much larger than the match
+          println("            if (zzFin.length <= zzMarkedPos-zzStartRead) { zzFin = "+
+              lang.new_array(lang.boolean_type(), "zzMarkedPos-zzStartRead+1")+"; }");
+        }
+        else {
+          println("            if (zzFin.length <= zzBufferL.length) { zzFin = "+
+              lang.new_array(lang.boolean_type(), "zzBufferL.length+1")+"; }");
+        }
+        println("            "+lang.local(false, lang.array_type(lang.boolean_type()), "zzFinL", "zzFin")+";");
         println("            while (zzFState != -1 && zzFPos < zzMarkedPos) {");
-        println("              if (("+Options.lang.array_index("zzAttrL","zzFState")+" & 1) == 1) { "+Options.lang.array_index("zzFinL","zzFPos")+" = true; } ");
-        println("              zzInput = "+Options.lang.array_index("zzBufferL","zzFPos")+";");
-        println("              zzFPos += 1;");
-        println("              zzFState = "+Options.lang.array_index("zzTransL",
-            Options.lang.array_index("zzRowMapL","zzFState")+" + "+
-            Options.lang.array_index("zzCMapL","zzInput"))+";");
+        println("              if (("+attributes("zzFState")+" & 1) == 1) { "+finAt("zzFPos")+" = true; } ");
+        emitReadInput("              ", "zzFPos", "zzMarkedPos");
+        println("              zzFState = "+nextState("zzFState", charClass("zzInput"))+";");
         println("            }");
-        println("            if (zzFState != -1 && ("+Options.lang.array_index("zzAttrL","zzFState")+" & 1) == 1) { "+Options.lang.array_index("zzFinL","zzFPos")+" = true; } ");
+        println("            if (zzFState != -1 && ("+attributes("zzFState")+" & 1) == 1) { "+finAt("zzFPos")+" = true; } ");
         println();                
-        println("            zzFState = "+dfa.entryState[action.getEntryState()+1]+";");
+        println("            zzFState = "+entryState(action.getEntryState()+1)+";");
         println("            zzFPos = zzMarkedPos;");
-        println("            while (!"+Options.lang.array_index("zzFinL","zzFPos")+" || ("+Options.lang.array_index("zzAttrL","zzFState")+" & 1) != 1) {");
-        println("              zzFPos -= 1;");
-        println("              zzInput = "+Options.lang.array_index("zzBufferL","zzFPos")+";");
-        println("              zzFState = "+Options.lang.array_index("zzTransL",
-            Options.lang.array_index("zzRowMapL","zzFState")+" + "+
-            Options.lang.array_index("zzCMapL","zzInput"))+";");
+        println("            while (!"+finAt("zzFPos")+" || ("+attributes("zzFState")+" & 1) != 1) {");
+        if (scanner.utf8Input) {
+          // characters are read backwards, their bytes forwards
+          println("              "+lang.local(false, lang.int_type(), "zzFEnd", "zzFPos")+";");
+          println("              zzFPos = zzCodePointStart(zzBufferL, zzFPos);");
+          println("              for ("+lang.local(true, lang.int_type(), "zzFByte", "zzFPos")+"; zzFByte < zzFEnd; zzFByte++) {");
+          println("                zzInput = "+bufferAt("zzFByte")+";");
+          println("                zzFState = "+nextState("zzFState", charClass("zzInput"))+";");
+          println("              }");
+        }
+        else if (codePoints()) {
+          println("              zzInput = Character.codePointBefore(zzBufferL, zzFPos, zzStartRead);");
+          println("              zzFPos -= Character.charCount(zzInput);");
+        }
+        else {
+          println("              zzFPos -= 1;");
+          println("              zzInput = "+bufferAt("zzFPos")+";");
+        }
+        if (!scanner.utf8Input)
+          println("              zzFState = "+nextState("zzFState", charClass("zzInput"))+";");
         println("            };");
         println("            zzMarkedPos = zzFPos;");
         println("          }");
@@ -1275,15 +2246,15 @@ final public class Emitter {
         if ( scanner.columnCount )
           print("\"col: \"+(yycolumn+1)+\" \"+");
         println("\"match: --\"+yytext()+\"--\");");        
-        print("          System.out.println(\""+Options.lang.array_index("action",""+action.priority)+" { ");
+        print("          System.out.println(\""+lang.array_index("action",""+action.priority)+" { ");
         print(escapify(action.content));
         println(" }\");");
       }
       
       println("          { "+action.content);
       println("          }");
-      println("          " + Options.lang.end_case_body_unsafe());
-      println("        "+Options.lang.start_case("" + (i++))+Options.lang.start_case_body()+Options.lang.end_case_body()); 
+      println("          " + lang.end_case_body_unsafe());
+      println("        "+lang.start_case("" + (i++))+lang.start_case_body()+lang.end_case_body()); 
     }
   }
 
@@ -1294,18 +2265,18 @@ final public class Emitter {
       println("            zzDoEOF();");
       
     if ( eofActions.numActions() > 0 ) {
-      println("            "+Options.lang.switch_header("zzLexicalState")+" {");
+      println("            "+lang.switch_header("zzLexicalState")+" {");
       
       // pick a start value for break case labels. 
       // must be larger than any value of a lex state:
-      int last = dfa.numStates;
+      int last = scanner.lazy ? nfa.numEntryStates() : dfa.numStates;
       
       for (String name : scanner.states.names()) {
         int num = scanner.states.getNumber(name);
         Action action = eofActions.getAction(num);
 
         if (action != null) {
-          println("            "+Options.lang.start_case(name)+Options.lang.start_case_body()+" {");
+          println("            "+lang.start_case(name)+lang.start_case_body()+" {");
           if ( scanner.debugOption ) {
             print("              System.out.println(");
             if ( scanner.lineCount )
@@ -1319,12 +2290,12 @@ final public class Emitter {
           }
           println("              "+action.content);
           println("            }");
-          println("            " + Options.lang.end_case_body());
-          println("            "+Options.lang.start_case(""+(++last))+Options.lang.start_case_body()+Options.lang.end_case_body());
+          println("            " + lang.end_case_body());
+          println("            "+lang.start_case(""+(++last))+lang.start_case_body()+lang.end_case_body());
         }
       }
       
-      println("            "+Options.lang.gen_default()+Options.lang.start_case_body());
+      println("            "+lang.gen_default()+lang.start_case_body());
     }
 
     Action defaultAction = eofActions.getDefault();
@@ -1338,7 +2309,7 @@ final public class Emitter {
         if ( scanner.columnCount )
           print("\"col: \"+(yycolumn+1)+\" \"+");
         println("\"match: <<EOF>>\");");        
-        print("                System.out.println(\""+Options.lang.array_index("action ",""+defaultAction.priority)+" { ");
+        print("                System.out.println(\""+lang.array_index("action ",""+defaultAction.priority)+" { ");
         print(escapify(defaultAction.content));
         println(" }\");");
       }
@@ -1358,51 +2329,50 @@ final public class Emitter {
       println("            return null;");
 
     if (eofActions.numActions() > 0) {
-      println("              " + Options.lang.end_case_body());
+      println("              " + lang.end_case_body());
       println("            }");
     }
   }
   
   private void emitState(int state) {
     
-    println("            "+Options.lang.start_case(""+state)+Options.lang.start_case_body());
-    println("              "+Options.lang.switch_header("zzInput")+" {");
+    println("            "+lang.start_case(""+state)+lang.start_case_body());
+    println("              "+lang.switch_header("zzInput")+" {");
    
-    int defaultTransition = getDefaultTransition(state);
+    // targets.get(j) is the set of input characters that leads from state to state j,
+    // noTarget the set of input characters that have no target state
+    SortedMap<Integer,CharSet> targets = new TreeMap<Integer,CharSet>();
+    CharSet noTarget = transformTransitions(state, targets);
+
+    int defaultTransition = getDefaultTransition(targets, noTarget);
     
-    for (int next = 0; next < dfa.numStates; next++) {
-            
-      if ( next != defaultTransition && table[state][next] != null ) {
-        emitTransition(state, next);
+    for (Map.Entry<Integer,CharSet> next : targets.entrySet()) {
+      if ( next.getKey() != defaultTransition ) {
+        emitTransition(state, next.getKey(), next.getValue());
       }
     }
     
-    if ( defaultTransition != DFA.NO_TARGET && noTarget[state] != null ) {
-      emitTransition(state, DFA.NO_TARGET);
+    if ( defaultTransition != DFA.NO_TARGET && noTarget != null ) {
+      emitTransition(state, DFA.NO_TARGET, noTarget);
     }
     
     emitDefaultTransition(state, defaultTransition);
     
-    println("              } " + Options.lang.end_case_body());
+    println("              } " + lang.end_case_body());
     println("");
   }
   
-  private void emitTransition(int state, int nextState) {
+  private void emitTransition(int state, int nextState, CharSet charSet) {
 
-    CharSetEnumerator chars;
-    
-    if (nextState != DFA.NO_TARGET) 
-      chars = table[state][nextState].characters();
-    else 
-      chars = noTarget[state].characters();
+    CharSetEnumerator chars = charSet.characters();
   
-    print("                "+Options.lang.start_case(""+chars.nextElement()));
+    print("                "+lang.start_case(""+chars.nextElement()));
     
     while ( chars.hasMoreElements() ) {
-      print("                "+Options.lang.add_case(""+chars.nextElement()));
+      print("                "+lang.add_case(""+chars.nextElement()));
     } 
     
-    print("                  "+Options.lang.start_case_body());
+    print("                  "+lang.start_case_body());
     if ( nextState != DFA.NO_TARGET ) {
       if ( dfa.isFinal[nextState] )
         print("zzIsFinal = true; ");
@@ -1411,17 +2381,17 @@ final public class Emitter {
         print("zzNoLookAhead = true; ");
         
       if ( nextState == state ) 
-        println(Options.lang.break_block("zzForNext")+";");
+        println(lang.break_block("zzForNext")+";");
       else
-        println("zzState = "+nextState+"; "+Options.lang.break_block("zzForNext")+";");
+        println("zzState = "+nextState+"; "+lang.break_block("zzForNext")+";");
     }
     else
-      println(Options.lang.break_block("zzForAction")+";");
-    println("                "+Options.lang.end_case_body());
+      println(lang.break_block("zzForAction")+";");
+    println("                "+lang.end_case_body());
   }
   
   private void emitDefaultTransition(int state, int nextState) {
-    print("                "+Options.lang.gen_default()+Options.lang.start_case_body());
+    print("                "+lang.gen_default()+lang.start_case_body());
     
     if ( nextState != DFA.NO_TARGET ) {
       if ( dfa.isFinal[nextState] )
@@ -1431,136 +2401,105 @@ final public class Emitter {
         print("zzNoLookAhead = true; ");
         
       if ( nextState == state ) 
-        println(Options.lang.break_block("zzForNext")+";");
+        println(lang.break_block("zzForNext")+";");
       else
-        println("zzState = "+nextState+"; "+Options.lang.break_block("zzForNext")+";");
+        println("zzState = "+nextState+"; "+lang.break_block("zzForNext")+";");
     }
     else
-      println(Options.lang.break_block("zzForAction")+";");
-    println("                "+Options.lang.end_case_body());
+      println(lang.break_block("zzForAction")+";");
+    println("                "+lang.end_case_body());
   }
   
-  private int getDefaultTransition(int state) {
-    int max = 0;
-    
-    for (int i = 0; i < dfa.numStates; i++) {
-      if ( table[state][max] == null )
-        max = i;
-      else
-      if ( table[state][i] != null && table[state][max].size() < table[state][i].size() )
-        max = i;
+  private int getDefaultTransition(SortedMap<Integer,CharSet> targets, CharSet noTarget) {
+    int max = DFA.NO_TARGET;
+    CharSet maxSet = null;
+    
+    for (Map.Entry<Integer,CharSet> next : targets.entrySet()) {
+      if ( maxSet == null || maxSet.size() < next.getValue().size() ) {
+        max = next.getKey();
+        maxSet = next.getValue();
+      }
     }
     
-    if ( table[state][max] == null ) return DFA.NO_TARGET;
-    if ( noTarget[state] == null ) return max;
+    if ( maxSet == null ) return DFA.NO_TARGET;
+    if ( noTarget == null ) return max;
     
-    if ( table[state][max].size() < noTarget[state].size() ) 
+    if ( maxSet.size() < noTarget.size() ) 
       max = DFA.NO_TARGET;
     
     return max;
   }
 
   // for switch statement:
-  private void transformTransitionTable() {
+  // collects the input characters of each target state of a state,
+  // returns the input characters without target state (null if there are none)
+  private CharSet transformTransitions(int state, SortedMap<Integer,CharSet> targets) {
     
     int numInput = parser.getCharClasses().getNumClasses()+1;
 
-    int i;    
-    char j;
-    
-    table = new CharSet[dfa.numStates][dfa.numStates];
-    noTarget = new CharSet[dfa.numStates];
+    int [] row = new int [dfa.numInput];
+    dfa.expandRow(state, row);
+
+    CharSet noTarget = null;
     
-    for (i = 0; i < dfa.numStates;  i++) 
-      for (j = 0; j < dfa.numInput; j++) {
+    for (int j = 0; j < dfa.numInput; j++) {
 
-        int nextState = dfa.table[i][j];
+      int nextState = row[j];
         
-        if ( nextState == DFA.NO_TARGET ) {
-          if ( noTarget[i] == null ) 
-            noTarget[i] = new CharSet(numInput, colMap[j]);
-          else
-            noTarget[i].add(colMap[j]);
-        }
-        else {
-          if ( table[i][nextState] == null ) 
-            table[i][nextState] = new CharSet(numInput, colMap[j]);
-          else
-            table[i][nextState].add(colMap[j]);
-        }
+      if ( nextState == DFA.NO_TARGET ) {
+        if ( noTarget == null ) 
+          noTarget = new CharSet(numInput, j);
+        else
+          noTarget.add(j);
+      }
+      else {
+        CharSet chars = targets.get(nextState);
+        if ( chars == null ) 
+          targets.put(nextState, new CharSet(numInput, j));
+        else
+          chars.add(j);
       }
+    }
+
+    return noTarget;
   }
 
   private void findActionStates() {
     isTransition = new boolean [dfa.numStates];
     
-    for (int i = 0; i < dfa.numStates;  i++) {
-      char j = 0;
-      while ( !isTransition[i] && j < dfa.numInput )
-        isTransition[i] = dfa.table[i][j++] != DFA.NO_TARGET;
-    }
+    for (int i = 0; i < dfa.numStates;  i++) 
+      isTransition[i] = dfa.hasTransition(i);
   }
 
   
-  private void reduceColumns() {
-    colMap = new int [dfa.numInput];
-    colKilled = new boolean [dfa.numInput];
-
-    int i,j,k;
-    int translate = 0;
-    boolean equal;
-
-    numCols = dfa.numInput;
-
-    for (i = 0; i < dfa.numInput; i++) {
-      
-      colMap[i] = i-translate;
-      
-      for (j = 0; j < i; j++) {
-        
-        // test for equality:
-        k = -1;
-        equal = true;        
-        while (equal && ++k < dfa.numStates) 
-          equal = dfa.table[k][i] == dfa.table[k][j];
-        
-        if (equal) {
-          translate++;
-          colMap[i] = colMap[j];
-          colKilled[i] = true;
-          numCols--;
-          break;
-        } // if
-      } // for j
-    } // for i
-  }
-  
   private void reduceRows() {
     rowMap = new int [dfa.numStates];
     rowKilled = new boolean [dfa.numStates];
     
-    int i,j,k;
+    int i;
     int translate = 0;
-    boolean equal;
 
     numRows = dfa.numStates;
 
+    // rows that have not been removed, by hash value
+    Map<Integer,List<Integer>> buckets = new HashMap<Integer,List<Integer>>();
+
     // i is the state to add to the new table
     for (i = 0; i < dfa.numStates; i++) {
       
       rowMap[i] = i-translate;
+
+      int hash = dfa.hashTransitions(i, null);
+      List<Integer> bucket = buckets.get(hash);
+      if (bucket == null) {
+        bucket = new ArrayList<Integer>(1);
+        buckets.put(hash, bucket);
+      }
       
       // check if state i can be removed (i.e. already
       // exists in entries 0..i-1)
-      for (j = 0; j < i; j++) {
-        
-        // test for equality:
-        k = -1;
-        equal = true;
-        while (equal && ++k < dfa.numInput) 
-          equal = dfa.table[i][k] == dfa.table[j][k];
-        
-        if (equal) {
+      for (int j : bucket) {
+        if (dfa.sameTransitions(i, j, null)) {
           translate++;
           rowMap[i] = rowMap[j];
           rowKilled[i] = true;
@@ -1568,11 +2507,73 @@ final public class Emitter {
           break;
         } // if
       } // for j
+
+      if (!rowKilled[i]) bucket.add(i);
     } // for i
     
   } 
 
 
+  /**
+   * Numbers the NFA states that can be reached from the entry states
+   * (keeping their order) and assigns switch labels to the actions of 
+   * their final states. Used instead of row and column killing by the 
+   * lazy code generation method.
+   */
+  private void reduceNFA() {
+    int n = nfa.numStates;
+    int numEntries = nfa.numEntryStates();
+
+    boolean [] reached = new boolean [n];
+    int [] stack = new int [n];
+    int top = 0;
+
+    for (int i = 0; i < numEntries; i++) {
+      reached[i] = true;
+      stack[top++] = i;
+    }
+
+    StateSetEnumerator states = new StateSetEnumerator();
+    while (top > 0) {
+      int s = stack[--top];
+      for (int c = -1; c < nfa.numInput; c++) {
+        StateSet next = c < 0 ? nfa.epsilon[s] : nfa.table[s][c];
+        if (next == null) continue;
+        states.reset(next);
+        while (states.hasMoreElements()) {
+          int t = states.nextElement();
+          if (!reached[t]) {
+            reached[t] = true;
+            stack[top++] = t;
+          }
+        }
+      }
+    }
+
+    nfaIndex = new int [n];
+    int count = 0;
+    for (int s = 0; s < n; s++) 
+      nfaIndex[s] = reached[s] ? count++ : -1;
+
+    nfaStates = new int [count];
+    for (int s = 0; s < n; s++) 
+      if (reached[s]) nfaStates[nfaIndex[s]] = s;
+
+    // the lazy scanner works on the character classes directly
+    numCols = nfa.numInput;
+
+    int lastAction = 1;
+    for (int i = 0; i < count; i++) {
+      Action action = nfa.action[nfaStates[i]];
+      if (nfa.isFinal[nfaStates[i]] && action != null) {
+        lookaheadUsed |= action.isGenLookAction();
+        if (action.isEmittable() && actionTable.get(action) == null) 
+          actionTable.put(action, lastAction++);
+      }
+    }
+  }
+
+
   /**
    * Set up EOF code section according to scanner.eofcode 
    */
@@ -1594,8 +2595,14 @@ final public class Emitter {
     if (scanner.functionName == null) 
       scanner.functionName = "yylex";
 
-    reduceColumns();
-    findActionStates();
+    if (scanner.lazy) {
+      reduceNFA();
+    }
+    else {
+      // DFA.reduceInputs() has already merged equal columns
+      numCols = dfa.numInput;
+      findActionStates();
+    }
 
     emitHeader();
     emitUserCode();
@@ -1603,10 +2610,10 @@ final public class Emitter {
     
     skel.emitNext();
     
-    println("  "+Options.lang.field(false, true, false, Options.lang.int_type(), "ZZ_BUFFERSIZE"," "+scanner.bufferSize)+";");
+    println("  "+lang.field(false, true, false, lang.int_type(), "ZZ_BUFFERSIZE"," "+scanner.bufferSize)+";");
 
     if (scanner.debugOption) {
-      println("  "+Options.lang.field(false, true, false, "String", "ZZ_NL", "System.getProperty(\"line.separator\")")+";");
+      println("  "+lang.field(false, true, false, "String", "ZZ_NL", "System.getProperty(\"line.separator\")")+";");
     }
 
     skel.emitNext();
@@ -1615,7 +2622,8 @@ final public class Emitter {
    
     emitCharMapArray();
     
-    emitActionTable();
+    if (!scanner.lazy)
+      emitActionTable();
     
     if (scanner.useRowMap) {
      reduceRows();
@@ -1627,6 +2635,9 @@ final public class Emitter {
       else
         emitZZTrans();
     }
+
+    if (scanner.lazy)
+      emitNFATables();
     
     skel.emitNext();
     
@@ -1635,6 +2646,8 @@ final public class Emitter {
 
     skel.emitNext();
     
+    emitCharset();
+
     emitLookBuffer();
     
     emitClassCode();
@@ -1645,6 +2658,9 @@ final public class Emitter {
         
     emitCharMapInitFunction();
 
+    if (scanner.lazy)
+      emitLazyDFA();
+
     skel.emitNext();
     
     emitScanError();
@@ -1659,7 +2675,7 @@ final public class Emitter {
     
     emitNextInput();
 
-    if (scanner.useRowMap)
+    if (scanner.useRowMap || scanner.lazy)
       emitGetRowMapNext();
     else
       emitTransitionTable();
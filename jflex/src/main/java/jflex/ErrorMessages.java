@@ -108,7 +108,6 @@ public class ErrorMessages {
   public static ErrorMessages EOL_IN_CHARCLASS = new ErrorMessages("EOL_IN_CHARCLASS");
   public static ErrorMessages QUIL_CUPSYM = new ErrorMessages("QUIL_CUPSYM");
   public static ErrorMessages CUPSYM_AFTER_CUP = new ErrorMessages("CUPSYM_AFTER_CUP");
-  public static ErrorMessages ALREADY_RUNNING = new ErrorMessages("ALREADY_RUNNING");
   public static ErrorMessages CANNOT_READ_SKEL = new ErrorMessages("CANNOT_READ_SKEL");
   public static ErrorMessages READING_SKEL = new ErrorMessages("READING_SKEL");
   public static ErrorMessages SKEL_IO_ERROR = new ErrorMessages("SKEL_IO_ERROR");
@@ -118,11 +117,13 @@ public class ErrorMessages {
   public static ErrorMessages NFA_IS = new ErrorMessages("NFA_IS");
   public static ErrorMessages NFA_STATES = new ErrorMessages("NFA_STATES");
   public static ErrorMessages DFA_TOOK = new ErrorMessages("DFA_TOOK");
+  public static ErrorMessages EPSILON_TOOK = new ErrorMessages("EPSILON_TOOK");
   public static ErrorMessages DFA_IS = new ErrorMessages("DFA_IS");
   public static ErrorMessages MIN_TOOK = new ErrorMessages("MIN_TOOK");
   public static ErrorMessages MIN_DFA_IS = new ErrorMessages("MIN_DFA_IS");
   public static ErrorMessages WRITE_TOOK = new ErrorMessages("WRITE_TOOK");
   public static ErrorMessages TOTAL_TIME = new ErrorMessages("TOTAL_TIME");
+  public static ErrorMessages PROPERTY_CACHE = new ErrorMessages("PROPERTY_CACHE");
   public static ErrorMessages IO_ERROR = new ErrorMessages("IO_ERROR");
   public static ErrorMessages THIS_IS_JFLEX = new ErrorMessages("THIS_IS_JFLEX");
   public static ErrorMessages UNKNOWN_COMMANDLINE = new ErrorMessages("UNKNOWN_COMMANDLINE");
@@ -137,4 +138,15 @@ public class ErrorMessages {
   public static ErrorMessages INT_AND_TYPE = new ErrorMessages("INT_AND_TYPE");
   public static ErrorMessages UNSUPPORTED_UNICODE_VERSION = new ErrorMessages("UNSUPPORTED_UNICODE_VERSION");
   public static ErrorMessages INVALID_UNICODE_PROPERTY = new ErrorMessages("INVALID_UNICODE_PROPERTY");
+  public static ErrorMessages UNICODE_DATA_IO_ERROR = new ErrorMessages("UNICODE_DATA_IO_ERROR");
+  public static ErrorMessages LAZY_JAVA_ONLY = new ErrorMessages("LAZY_JAVA_ONLY");
+  public static ErrorMessages NO_INPUT_KIND = new ErrorMessages("NO_INPUT_KIND");
+  public static ErrorMessages INPUT_JAVA_ONLY = new ErrorMessages("INPUT_JAVA_ONLY");
+  public static ErrorMessages BYTE_INPUT_NOT_LAZY = new ErrorMessages("BYTE_INPUT_NOT_LAZY");
+  public static ErrorMessages UTF8_TOOK = new ErrorMessages("UTF8_TOOK");
+  public static ErrorMessages NO_MAXTOKEN = new ErrorMessages("NO_MAXTOKEN");
+  public static ErrorMessages NO_BUFFER_GROWTH = new ErrorMessages("NO_BUFFER_GROWTH");
+  public static ErrorMessages NO_BUFFER_POOL = new ErrorMessages("NO_BUFFER_POOL");
+  public static ErrorMessages BUFFER_POLICY_JAVA_ONLY = new ErrorMessages("BUFFER_POLICY_JAVA_ONLY");
+  public static ErrorMessages SKEL_NO_BUFFER_POLICY = new ErrorMessages("SKEL_NO_BUFFER_POLICY");
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+package jflex;
+
+import java.io.File;
+
+
+/**
+ * State of one scanner generation run: options, skeleton, and error and
+ * warning counters.
+ *
+ * A context is created for each call of {@link Main#generate(File, GeneratorContext)}
+ * and handed to the objects of that run (LexScan, LexParse, NFA, DFA, Emitter).
+ * Nothing of it is shared with other runs, so several specifications
+ * can be generated concurrently in one VM.
+ *
+ * The static settings in {@link Options} and {@link Skeleton} are
+ * the defaults that the command line, the GUI and the ant task
+ * configure; {@link #fromOptions()} takes a snapshot of them.
+ *
+ * @author Gerwin Klein
+ * @version JFlex 1.5, $Revision$, $Date$
+ */
+public final class GeneratorContext {
+
+  /** output directory */
+  private File directory;
+  /** strict JLex compatibility */
+  public boolean jlex;
+  /** don't run minimization algorithm if this is true */
+  public boolean no_minimize;
+  /** don't write backup files if this is true */
+  public boolean no_backup;
+  /** use multiple threads for the NFA to DFA conversion if this is true */
+  public boolean parallel_dfa;
+  /** minimize on the existing transitions only (less memory) if this is true */
+  public boolean sparse_minimize;
+  /** use multiple threads for minimization if this is true */
+  public boolean parallel_minimize;
+  /** build position automata (no epsilon transitions) instead of Thompson NFAs if this is true */
+  public boolean glushkov;
+  /** default code generation method */
+  public int gen_method;
+  /** If false, only error/warning output will be generated */
+  public boolean verbose;
+  /** If true, progress dots will be printed */
+  public boolean progress;
+  /** If true, jflex will print time statistics about the generation process */
+  public boolean time;
+  /** If true, jflex will write graphviz .dot files for generated automata */
+  public boolean dot;
+  /** If true, you will be flooded with information (e.g. dfa tables).  */
+  public boolean dump;
+  /** Output language (currently Java or Scala) */
+  public Language lang;
+
+  /** the skeleton sections of this run */
+  String [] skeleton;
+
+  /** count warnings of this run */
+  int warnings;
+  /** count errors of this run */
+  int errors;
+
+
+  /**
+   * Creates a context with default settings and the default skeleton.
+   */
+  public GeneratorContext() {
+    jlex = false;
+    no_minimize = false;
+    no_backup = false;
+    parallel_dfa = false;
+    sparse_minimize = false;
+    parallel_minimize = false;
+    glushkov = false;
+    gen_method = Options.PACK;
+    verbose = true;
+    progress = true;
+    time = false;
+    dot = false;
+    dump = false;
+    lang = Language.JAVA;
+    skeleton = Skeleton.loadSystemSkeleton(Skeleton.DEFAULT_LOC);
+  }
+
+  private GeneratorContext(String [] skeleton) {
+    this.skeleton = skeleton;
+  }
+
+  /**
+   * Creates a context with the current settings of {@link Options}
+   * and a copy of the current {@link Skeleton}.
+   */
+  public static GeneratorContext fromOptions() {
+    GeneratorContext c = new GeneratorContext(Skeleton.line.clone());
+    c.directory = Options.getDir();
+    c.jlex = Options.jlex;
+    c.no_minimize = Options.no_minimize;
+    c.no_backup = Options.no_backup;
+    c.parallel_dfa = Options.parallel_dfa;
+    c.sparse_minimize = Options.sparse_minimize;
+    c.parallel_minimize = Options.parallel_minimize;
+    c.glushkov = Options.glushkov;
+    c.gen_method = Options.gen_method;
+    c.verbose = Options.verbose;
+    c.progress = Options.progress;
+    c.time = Options.time;
+    c.dot = Options.dot;
+    c.dump = Options.dump;
+    c.lang = Options.lang;
+    return c;
+  }
+
+  /**
+   * @return the output directory (<code>null</code> for the
+   *         directory of the specification)
+   */
+  public File getDir() {
+    return directory;
+  }
+
+  /**
+   * Set output directory
+   *
+   * @param d  the directory to write output files to
+   * @see Options#setDir(File)
+   */
+  public void setDir(File d) {
+    Options.checkDir(d);
+    directory = d;
+  }
+
+  /**
+   * Use an external skeleton file in this run.
+   *
+   * @param skel  the skeleton file to read
+   */
+  public void setSkeleton(File skel) {
+    skeleton = Skeleton.loadSkelFile(skel);
+  }
+
+  /**
+   * @return the number of errors reported in this run
+   */
+  public int getErrors() {
+    return errors;
+  }
+
+  /**
+   * @return the number of warnings reported in this run
+   */
+  public int getWarnings() {
+    return warnings;
+  }
+}
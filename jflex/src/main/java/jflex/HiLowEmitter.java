@@ -29,6 +29,16 @@ public class HiLowEmitter extends PackEmitter {
     super(name);
   }
 
+  /**
+   * Create new emitter for values in [0, 0xFFFFFFFF] using hi/low encoding.
+   * 
+   * @param name   the name of the generated array
+   * @param lang   the output language
+   */
+  public HiLowEmitter(String name, Language lang) {
+    super(name, lang);
+  }
+
   /**
    * Emits hi/low pair unpacking code for the generated array. 
    * 
@@ -38,9 +48,9 @@ public class HiLowEmitter extends PackEmitter {
     // close last string chunk:
     println("\";");
     nl();
-    println("  "+Options.lang.method_header(false, false, false, true, Options.lang.array_type(Options.lang.int_type()), "zzUnpack"+name, "()",null)+" {");
-    println("    "+Options.lang.local(false, Options.lang.array_type(Options.lang.int_type()), "result", Options.lang.new_array(Options.lang.int_type(), ""+numEntries))+";");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "offset", "0")+";");
+    println("  "+lang.method_header(false, false, false, true, lang.array_type(lang.int_type()), "zzUnpack"+name, "()",null)+" {");
+    println("    "+lang.local(false, lang.array_type(lang.int_type()), "result", lang.new_array(lang.int_type(), ""+numEntries))+";");
+    println("    "+lang.local(true, lang.int_type(), "offset", "0")+";");
 
     for (int i = 0; i < chunks; i++) {
       println("    offset = zzUnpack"+name+"("+constName()+"_PACKED_"+i+", offset, result);");
@@ -50,16 +60,16 @@ public class HiLowEmitter extends PackEmitter {
     println("  }");
     nl();
 
-    println("  "+Options.lang.method_header(false, false, false, true, Options.lang.int_type(), "zzUnpack"+name, 
-        "("+Options.lang.formal(false, "String", "packed") +","+
-        Options.lang.formal(false, Options.lang.int_type(), "offset")+","+
-        Options.lang.formal(false, Options.lang.array_type(Options.lang.int_type()), "result")+")",null)+" {");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "i", "0")+";       /* index in packed string  */");
-    println("    "+Options.lang.local(true, Options.lang.int_type(), "j", "offset")+";  /* index in unpacked array */");
-    println("    "+Options.lang.local(false, Options.lang.int_type(), "l", "packed.length()")+";");
+    println("  "+lang.method_header(false, false, false, true, lang.int_type(), "zzUnpack"+name, 
+        "("+lang.formal(false, "String", "packed") +","+
+        lang.formal(false, lang.int_type(), "offset")+","+
+        lang.formal(false, lang.array_type(lang.int_type()), "result")+")",null)+" {");
+    println("    "+lang.local(true, lang.int_type(), "i", "0")+";       /* index in packed string  */");
+    println("    "+lang.local(true, lang.int_type(), "j", "offset")+";  /* index in unpacked array */");
+    println("    "+lang.local(false, lang.int_type(), "l", "packed.length()")+";");
     println("    while (i < l) {");
-    println("      "+Options.lang.local(false, Options.lang.int_type(), "high", "packed.charAt(i) << 16")+"; i+= 1;");
-    println("      "+Options.lang.array_index("result", "j")+" = high | packed.charAt(i); i+= 1; j += 1;");
+    println("      "+lang.local(false, lang.int_type(), "high", "packed.charAt(i) << 16")+"; i+= 1;");
+    println("      "+lang.array_index("result", "j")+" = high | packed.charAt(i); i+= 1; j += 1;");
     println("    }");
     println("    return j;");
     println("  }");
@@ -33,7 +33,7 @@ public final class IntCharSet {
     this.intervals = new ArrayList<Interval>();
   }
 
-  public IntCharSet(char c) {
+  public IntCharSet(int c) {
     this(new Interval(c,c));
   }
 
@@ -43,11 +43,11 @@ public final class IntCharSet {
   }
 
   public IntCharSet(List<Interval> chars) {
-    int size = chars.size();
-    intervals = new ArrayList<Interval>(size);
+    this(IntervalSet.of(chars));
+  }
 
-    for (Interval interval : chars)
-      add(interval);
+  public IntCharSet(IntervalSet set) {
+    this.intervals = set.getIntervals();
   }
   
   
@@ -63,7 +63,7 @@ public final class IntCharSet {
    * @param c  the character
    * @return the index of the enclosing interval, -1 if no such interval  
    */
-  private int indexOf(char c) {
+  private int indexOf(int c) {
     int start = 0;
     int end   = intervals.size()-1;
 
@@ -91,8 +91,13 @@ public final class IntCharSet {
   } 
 
   public IntCharSet add(IntCharSet set) {
-    for (Interval interval : set.intervals) 
-      add(interval);
+    if (set.intervals.size() <= 1) {
+      for (Interval interval : set.intervals) 
+        add(interval);
+    }
+    else {
+      intervals = IntervalSet.of(this).union(IntervalSet.of(set)).getIntervals();
+    }
     return this;
   }
 
@@ -138,7 +143,7 @@ public final class IntCharSet {
     intervals.add(new Interval(interval));
   }
 
-  public void add(char c) {
+  public void add(int c) {
     int size = intervals.size();
 
     for (int i = 0; i < size; i++) {
@@ -179,7 +184,7 @@ public final class IntCharSet {
   } 
 
  
-  public boolean contains(char singleChar) {
+  public boolean contains(int singleChar) {
     return indexOf(singleChar) >= 0;
   }
 
@@ -193,11 +198,11 @@ public final class IntCharSet {
     return intervals.equals(set.intervals);
   }
 
-  private char min(char a, char b) {
+  private int min(int a, int b) {
     return a <= b ? a : b;
   }
 
-  private char max(char a, char b) {
+  private int max(int a, int b) {
     return a >= b ? a : b;
   }
 
@@ -297,20 +302,20 @@ public final class IntCharSet {
       // x.start < x.end 
 
       if ( x.start == y.start ) {
-        x.start = (char) (y.end+1);
+        x.start = y.end+1;
         j++;
         continue;
       }
 
       if ( x.end == y.end ) {
-        x.end = (char) (y.start-1);
+        x.end = y.start-1;
         i++;
         j++;
         continue;
       }
 
-      intervals.add(i, new Interval(x.start, (char) (y.start-1)));
-      x.start = (char) (y.end+1);
+      intervals.add(i, new Interval(x.start, y.start-1));
+      x.start = y.end+1;
 
       i++;
       j++;
@@ -351,18 +356,7 @@ public final class IntCharSet {
    * @return a caseless copy of this set
    */
   public IntCharSet getCaseless(UnicodeProperties unicodeProperties) {
-    IntCharSet n = copy();
-        
-    int size = intervals.size();
-    for (int i=0; i < size; i++) {
-      Interval elem = intervals.get(i);
-      for (char c = elem.start; c <= elem.end; c++) {
-        IntCharSet equivalenceClass = unicodeProperties.getCaselessMatches(c);
-        if (null != equivalenceClass)
-          n.add(equivalenceClass);
-      }
-    }
-    return n;
+    return new IntCharSet(IntervalSet.of(this).getCaseless(unicodeProperties));
   }
 
 
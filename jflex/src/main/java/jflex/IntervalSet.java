@@ -0,0 +1,383 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jflex.unicode.UnicodeProperties;
+
+
+/**
+ * Immutable character set, stored as a sorted array of interval bounds.
+ *
+ * Union, intersection and difference are linear merges of the two
+ * bound arrays. Since instances are never modified, they can be shared
+ * freely (e.g. between Unicode property aliases or cached character
+ * classes) without copying.
+ *
+ * @author Gerwin Klein
+ * @version JFlex 1.5, $Revision$, $Date$
+ */
+public final class IntervalSet {
+
+  /** the empty set */
+  public static final IntervalSet EMPTY = new IntervalSet(new int[0], 0);
+
+  /* invariant: bounds[0..size-1] holds pairs start,end with
+     start <= end and end+1 < start of the next pair */
+  private final int [] bounds;
+  private final int size;
+
+  private int hash;
+
+
+  private IntervalSet(int [] bounds, int size) {
+    this.bounds = bounds;
+    this.size = size;
+  }
+
+  /**
+   * Returns the set containing exactly the character <code>c</code>.
+   */
+  public static IntervalSet of(int c) {
+    return new IntervalSet(new int [] { c, c }, 2);
+  }
+
+  /**
+   * Returns the set of all characters from <code>start</code> to
+   * <code>end</code> (inclusive). Empty if <code>start > end</code>.
+   */
+  public static IntervalSet of(int start, int end) {
+    if (start > end) return EMPTY;
+    return new IntervalSet(new int [] { start, end }, 2);
+  }
+
+  /**
+   * Returns the union of a list of intervals. The list may be unordered,
+   * and intervals may overlap. Intervals with <code>start > end</code>
+   * are ignored.
+   */
+  public static IntervalSet of(List<Interval> intervals) {
+    Builder builder = new Builder(intervals.size());
+    for (Interval i : intervals)
+      builder.add(i.start, i.end);
+    return builder.build();
+  }
+
+  /**
+   * Returns an immutable copy of an {@link IntCharSet}.
+   */
+  public static IntervalSet of(IntCharSet set) {
+    List<Interval> intervals = set.getIntervals();
+    int [] bounds = new int[2*intervals.size()];
+    int n = 0;
+    for (Interval i : intervals) {
+      bounds[n++] = i.start;
+      bounds[n++] = i.end;
+    }
+    return new IntervalSet(bounds, n);
+  }
+
+
+  /**
+   * Incrementally collects intervals for a new set. Adding intervals
+   * in ascending order is linear, any other order costs one sort
+   * in {@link #build()}.
+   */
+  public static final class Builder {
+    private int [] bounds;
+    private int size;
+    private boolean sorted = true;
+
+    public Builder() {
+      this(8);
+    }
+
+    public Builder(int capacity) {
+      bounds = new int[2*Math.max(capacity,1)];
+    }
+
+    public Builder add(int c) {
+      return add(c, c);
+    }
+
+    public Builder add(int start, int end) {
+      if (start > end) return this;
+
+      if (size > 0) {
+        int last = bounds[size-1];
+        if (start <= last+1 && start >= bounds[size-2]) {
+          if (end > last) bounds[size-1] = end;
+          return this;
+        }
+        if (start < bounds[size-2]) sorted = false;
+      }
+
+      if (size == bounds.length)
+        bounds = Arrays.copyOf(bounds, 2*size);
+
+      bounds[size++] = start;
+      bounds[size++] = end;
+      return this;
+    }
+
+    public Builder add(IntervalSet set) {
+      for (int i = 0; i < set.size; i += 2)
+        add(set.bounds[i], set.bounds[i+1]);
+      return this;
+    }
+
+    public IntervalSet build() {
+      if (size == 0) return EMPTY;
+      if (sorted) return new IntervalSet(Arrays.copyOf(bounds, size), size);
+
+      // sort by start, then merge overlapping and adjacent intervals
+      long [] pairs = new long[size/2];
+      for (int i = 0; i < pairs.length; i++)
+        pairs[i] = ((long) bounds[2*i] << 32) | bounds[2*i+1];
+      Arrays.sort(pairs);
+
+      int [] result = new int[size];
+      int n = 0;
+      for (long p : pairs) {
+        int start = (int) (p >>> 32);
+        int end = (int) p;
+        if (n > 0 && start <= result[n-1]+1) {
+          if (end > result[n-1]) result[n-1] = end;
+        }
+        else {
+          result[n++] = start;
+          result[n++] = end;
+        }
+      }
+      return new IntervalSet(result, n);
+    }
+  }
+
+
+  /**
+   * Returns the number of maximal intervals in this set.
+   */
+  public int numIntervals() {
+    return size/2;
+  }
+
+  /**
+   * Returns the first character of the <code>i</code>-th interval.
+   */
+  public int start(int i) {
+    return bounds[2*i];
+  }
+
+  /**
+   * Returns the last character of the <code>i</code>-th interval.
+   */
+  public int end(int i) {
+    return bounds[2*i+1];
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean contains(int c) {
+    int lo = 0;
+    int hi = size/2 - 1;
+
+    while (lo <= hi) {
+      int mid = (lo+hi) >>> 1;
+      if (c < bounds[2*mid])
+        hi = mid-1;
+      else if (c > bounds[2*mid+1])
+        lo = mid+1;
+      else
+        return true;
+    }
+    return false;
+  }
+
+
+  /* appends the interval [start,end] to result[0..n-1], merging with
+     the last interval if they touch; returns the new length */
+  private static int append(int [] result, int n, int start, int end) {
+    if (n > 0 && start <= result[n-1]+1) {
+      if (end > result[n-1]) result[n-1] = end;
+      return n;
+    }
+    result[n] = start;
+    result[n+1] = end;
+    return n+2;
+  }
+
+  /**
+   * Returns the union of this set and <code>other</code>.
+   */
+  public IntervalSet union(IntervalSet other) {
+    if (other.size == 0) return this;
+    if (size == 0) return other;
+
+    int [] result = new int[size + other.size];
+    int n = 0;
+    int i = 0;
+    int j = 0;
+
+    while (i < size || j < other.size) {
+      if (j == other.size || (i < size && bounds[i] <= other.bounds[j])) {
+        n = append(result, n, bounds[i], bounds[i+1]);
+        i += 2;
+      }
+      else {
+        n = append(result, n, other.bounds[j], other.bounds[j+1]);
+        j += 2;
+      }
+    }
+
+    return new IntervalSet(result, n);
+  }
+
+  /**
+   * Returns the intersection of this set and <code>other</code>.
+   */
+  public IntervalSet intersect(IntervalSet other) {
+    if (size == 0 || other.size == 0) return EMPTY;
+
+    int [] result = new int[size + other.size];
+    int n = 0;
+    int i = 0;
+    int j = 0;
+
+    while (i < size && j < other.size) {
+      int xStart = bounds[i], xEnd = bounds[i+1];
+      int yStart = other.bounds[j], yEnd = other.bounds[j+1];
+
+      if (xEnd < yStart) { i += 2; continue; }
+      if (yEnd < xStart) { j += 2; continue; }
+
+      result[n++] = Math.max(xStart, yStart);
+      result[n++] = Math.min(xEnd, yEnd);
+
+      if (xEnd >= yEnd) j += 2;
+      if (yEnd >= xEnd) i += 2;
+    }
+
+    return n == 0 ? EMPTY : new IntervalSet(result, n);
+  }
+
+  /**
+   * Returns the set of all characters of this set that are not
+   * in <code>other</code>.
+   */
+  public IntervalSet subtract(IntervalSet other) {
+    if (size == 0 || other.size == 0) return this;
+
+    // each interval of other splits at most one interval of this in two
+    int [] result = new int[size + other.size];
+    int n = 0;
+    int j = 0;
+
+    for (int i = 0; i < size; i += 2) {
+      int start = bounds[i];
+      int end = bounds[i+1];
+
+      while (j < other.size && other.bounds[j+1] < start) j += 2;
+
+      // cut away all intervals of other that overlap [start,end]
+      int k = j;
+      while (start <= end && k < other.size && other.bounds[k] <= end) {
+        if (other.bounds[k] > start) {
+          result[n++] = start;
+          result[n++] = other.bounds[k]-1;
+        }
+        start = Math.max(start, other.bounds[k+1]+1);
+        k += 2;
+      }
+
+      if (start <= end) {
+        result[n++] = start;
+        result[n++] = end;
+      }
+    }
+
+    return n == 0 ? EMPTY : new IntervalSet(result, n);
+  }
+
+  /**
+   * Returns the complement of this set relative to the characters
+   * from 0 to <code>maxChar</code>.
+   */
+  public IntervalSet complement(int maxChar) {
+    return of(0, maxChar).subtract(this);
+  }
+
+  /**
+   * Returns a caseless version of this set: all characters of this set,
+   * and additionally all lower/upper/title case variants of them.
+   * The result is memoized in <code>unicodeProperties</code>.
+   *
+   * @param unicodeProperties The Unicode Properties to use when generating
+   *  caseless equivalence classes.
+   */
+  public IntervalSet getCaseless(UnicodeProperties unicodeProperties) {
+    if (size == 0) return this;
+    return unicodeProperties.getCaselessClosure(this);
+  }
+
+
+  /**
+   * Returns a fresh, modifiable list of the intervals in this set.
+   */
+  public List<Interval> getIntervals() {
+    List<Interval> result = new ArrayList<Interval>(size/2);
+    for (int i = 0; i < size; i += 2)
+      result.add(new Interval(bounds[i], bounds[i+1]));
+    return result;
+  }
+
+
+  public boolean equals(Object o) {
+    if (o == this) return true;
+    if (!(o instanceof IntervalSet)) return false;
+
+    IntervalSet other = (IntervalSet) o;
+    if (size != other.size) return false;
+
+    for (int i = 0; i < size; i++)
+      if (bounds[i] != other.bounds[i]) return false;
+
+    return true;
+  }
+
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      for (int i = 0; i < size; i++)
+        h = 31*h + bounds[i];
+      hash = h;
+    }
+    return h;
+  }
+
+  /**
+   * Make a string representation of this set, in the same format
+   * as {@link IntCharSet#toString()}.
+   */
+  public String toString() {
+    StringBuilder result = new StringBuilder("{ ");
+
+    for (int i = 0; i < size; i += 2)
+      result.append(new Interval(bounds[i], bounds[i+1]));
+
+    result.append(" }");
+
+    return result.toString();
+  }
+}
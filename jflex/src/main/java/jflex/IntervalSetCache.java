@@ -0,0 +1,115 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Bounded, thread safe cache of character sets, shared by all generator
+ * runs in the same JVM.
+ *
+ * Keys identify how a set was computed, e.g. the Unicode version and the
+ * normalized property name. Since {@link IntervalSet}s are immutable, a
+ * cached set can be handed out to any number of concurrent runs. When the
+ * cache is full, the least recently used set is dropped.
+ *
+ * @author Gerwin Klein
+ * @version JFlex 1.5, $Revision$, $Date$
+ */
+public final class IntervalSetCache {
+
+  /** the cache shared by all generator runs */
+  public static final IntervalSetCache SHARED = new IntervalSetCache(512);
+
+  private final Map<Object,IntervalSet> sets;
+
+  private int hits;
+  private int misses;
+
+  /** hits and misses of the lookups made by the current thread */
+  private final ThreadLocal<int []> threadCounts = new ThreadLocal<int []>() {
+    protected int [] initialValue() {
+      return new int [2];
+    }
+  };
+
+
+  /**
+   * Creates a new cache that holds at most <code>capacity</code> sets.
+   */
+  public IntervalSetCache(final int capacity) {
+    sets = new LinkedHashMap<Object,IntervalSet>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      protected boolean removeEldestEntry(Map.Entry<Object,IntervalSet> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the set cached for <code>key</code>, or null if there is none.
+   * Counts as hit or miss in the statistics.
+   *
+   * @param key  the key, must implement equals and hashCode by value
+   *             (e.g. a String or a List of values)
+   */
+  public synchronized IntervalSet get(Object key) {
+    IntervalSet set = sets.get(key);
+    int [] counts = threadCounts.get();
+    if (set == null) {
+      misses++;
+      counts[1]++;
+    }
+    else {
+      hits++;
+      counts[0]++;
+    }
+    return set;
+  }
+
+  /**
+   * Stores <code>set</code> under <code>key</code>. If another run
+   * computed the same set concurrently, the last one wins; both are equal.
+   */
+  public synchronized void put(Object key, IntervalSet set) {
+    sets.put(key, set);
+  }
+
+  public synchronized int getHits() {
+    return hits;
+  }
+
+  public synchronized int getMisses() {
+    return misses;
+  }
+
+  /**
+   * Returns the number of hits and misses of the lookups the current
+   * thread has made so far (in this order). The difference of two such
+   * snapshots counts the lookups of one generator run, also when other
+   * runs use the cache concurrently.
+   */
+  public int [] getThreadCounts() {
+    return threadCounts.get().clone();
+  }
+
+  public synchronized int size() {
+    return sets.size();
+  }
+
+  public synchronized void clear() {
+    sets.clear();
+    hits = 0;
+    misses = 0;
+  }
+}
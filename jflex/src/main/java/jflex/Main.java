@@ -29,14 +29,40 @@ public class Main {
   final public static String version = "1.5.0-SNAPSHOT (+scala)"; //$NON-NLS-1$
 
   /**
-   * Generates a scanner for the specified input file.
+   * Generates a scanner for the specified input file with the
+   * current settings in {@link Options}.
    *
    * @param inputFile  a file containing a lexical specification
    *                   to generate a scanner for.
    */
   public static void generate(File inputFile) {
-
     Out.resetCounters();
+    generate(inputFile, GeneratorContext.fromOptions());
+  }
+
+  /**
+   * Generates a scanner for the specified input file.
+   *
+   * Several scanners can be generated concurrently on different 
+   * threads, each with its own context. Errors and warnings of the
+   * run are counted in <code>context</code>.
+   *
+   * @param inputFile  a file containing a lexical specification
+   *                   to generate a scanner for.
+   * @param context    the options and skeleton for this run
+   */
+  public static void generate(File inputFile, GeneratorContext context) {
+    Out.setContext(context);
+    try {
+      run(inputFile, context);
+    }
+    finally {
+      Out.setContext(null);
+      Out.addCounters(context);
+    }
+  }
+
+  private static void run(File inputFile, GeneratorContext context) {
 
     Timer totalTime = new Timer();
     Timer time      = new Timer();
@@ -47,10 +73,13 @@ public class Main {
     
     totalTime.start();      
 
+    // lookups of this run in the shared character class cache
+    int [] cacheCounts = IntervalSetCache.SHARED.getThreadCounts();
+
     try {  
       Out.println(ErrorMessages.READING, inputFile.toString());
       inputReader = new FileReader(inputFile);
-      scanner = new LexScan(inputReader);
+      scanner = new LexScan(inputReader, context);
       scanner.setFile(inputFile);
       parser = new LexParse(scanner);
     }
@@ -64,14 +93,52 @@ public class Main {
 
       Out.checkErrors();
 
-      if (Options.dump) Out.dump(ErrorMessages.get(ErrorMessages.NFA_IS)+
+      if (context.dump) Out.dump(ErrorMessages.get(ErrorMessages.NFA_IS)+
                                  Out.NL+nfa+Out.NL); 
       
-      if (Options.dot) 
-        nfa.writeDot(Emitter.normalize("nfa.dot", null));       //$NON-NLS-1$
+      if (context.dot) 
+        nfa.writeDot(Emitter.normalize(context, "nfa.dot", null));       //$NON-NLS-1$
 
       Out.println(ErrorMessages.NFA_STATES, nfa.numStates);
-      
+
+      boolean byteInput = scanner.utf8Input || scanner.latin1Input;
+
+      if ((scanner.charSequenceInput || byteInput) && context.lang != Language.JAVA) {
+        Out.error(ErrorMessages.INPUT_JAVA_ONLY);
+        throw new GeneratorException();
+      }
+
+      if ((scanner.maxToken > 0 || scanner.bufferGrowth > 0 || scanner.bufferPool > 0)
+          && context.lang != Language.JAVA) {
+        Out.error(ErrorMessages.BUFFER_POLICY_JAVA_ONLY);
+        throw new GeneratorException();
+      }
+
+      if (byteInput && scanner.lazy) {
+        Out.error(ErrorMessages.BYTE_INPUT_NOT_LAZY);
+        throw new GeneratorException();
+      }
+
+      if (scanner.lazy) {
+        // the generated scanner builds the DFA states it needs at run time
+        if (context.lang != Language.JAVA) {
+          Out.error(ErrorMessages.LAZY_JAVA_ONLY);
+          throw new GeneratorException();
+        }
+
+        time.start();
+
+        Emitter e = new Emitter(context, inputFile, parser, nfa);
+        e.emit();
+
+        time.stop();
+
+        Out.time(ErrorMessages.WRITE_TOOK, time);
+
+        timeTotal(totalTime, cacheCounts);
+        return;
+      }
+
       time.start();
       DFA dfa = nfa.getDFA();
       time.stop();
@@ -81,11 +148,14 @@ public class Main {
 
       nfa = null;
 
-      if (Options.dump) Out.dump(ErrorMessages.get(ErrorMessages.DFA_IS)+
+      // minimization time and memory grow with the number of inputs
+      parser.getCharClasses().mergeClasses(dfa.reduceInputs(), dfa.numInput);
+
+      if (context.dump) Out.dump(ErrorMessages.get(ErrorMessages.DFA_IS)+
                                  Out.NL+dfa+Out.NL);       
 
-      if (Options.dot) 
-        dfa.writeDot(Emitter.normalize("dfa-big.dot", null)); //$NON-NLS-1$
+      if (context.dot) 
+        dfa.writeDot(Emitter.normalize(context, "dfa-big.dot", null)); //$NON-NLS-1$
 
       Out.checkErrors();
 
@@ -94,26 +164,40 @@ public class Main {
       time.stop();
 
       Out.time(ErrorMessages.MIN_TOOK, time); 
+
+      if (scanner.utf8Input) {
+        // the scanner reads bytes: a path of byte transitions for each
+        // character transition, then the same reductions as above
+        time.start();
+        dfa = UTF8Encoder.encode(dfa, parser.getCharClasses());
+        parser.getCharClasses().setByteClasses();
+        parser.getCharClasses().mergeClasses(dfa.reduceInputs(), dfa.numInput);
+        dfa.minimize();
+        time.stop();
+
+        Out.time(ErrorMessages.UTF8_TOOK, time);
+      }
             
-      if (Options.dump) 
+      if (context.dump) 
         Out.dump(ErrorMessages.get(ErrorMessages.MIN_DFA_IS)+
                                    Out.NL+dfa); 
 
-      if (Options.dot) 
-        dfa.writeDot(Emitter.normalize("dfa-min.dot", null)); //$NON-NLS-1$
+      if (context.dot) 
+        dfa.writeDot(Emitter.normalize(context, "dfa-min.dot", null)); //$NON-NLS-1$
+
+      // minimization can make more inputs equivalent
+      parser.getCharClasses().mergeClasses(dfa.reduceInputs(), dfa.numInput);
 
       time.start();
       
-      Emitter e = new Emitter(inputFile, parser, dfa);
+      Emitter e = new Emitter(context, inputFile, parser, dfa);
       e.emit();
 
       time.stop();
 
       Out.time(ErrorMessages.WRITE_TOOK, time); 
       
-      totalTime.stop();
-      
-      Out.time(ErrorMessages.TOTAL_TIME, totalTime); 
+      timeTotal(totalTime, cacheCounts);
     }
     catch (ScannerException e) {
       Out.error(e.file, e.message, e.line, e.column);
@@ -141,6 +225,23 @@ public class Main {
 
   }
 
+  /**
+   * Stops the total timer of a run and reports it together with the
+   * lookups the run made in the shared character class cache.
+   *
+   * @param totalTime    the timer started at the beginning of the run
+   * @param cacheCounts  the thread's cache counts at the beginning of the run
+   */
+  private static void timeTotal(Timer totalTime, int [] cacheCounts) {
+    totalTime.stop();
+
+    int [] counts = IntervalSetCache.SHARED.getThreadCounts();
+    Out.time(ErrorMessages.get(ErrorMessages.PROPERTY_CACHE,
+        String.valueOf(counts[0]-cacheCounts[0]),
+        String.valueOf(counts[1]-cacheCounts[1])));
+    Out.time(ErrorMessages.TOTAL_TIME, totalTime);
+  }
+
   public static List<File> parseOptions(String argv[]) throws SilentExit {
     List<File> files = new ArrayList<File>();
 
@@ -217,6 +318,26 @@ public class Main {
         continue;
       }
 
+      if ( argv[i].equals("--pardfa") || argv[i].equals("-pardfa") ) { //$NON-NLS-1$ //$NON-NLS-2$
+        Options.parallel_dfa = true;
+        continue;
+      }
+
+      if ( argv[i].equals("--sparsemin") || argv[i].equals("-sparsemin") ) { //$NON-NLS-1$ //$NON-NLS-2$
+        Options.sparse_minimize = true;
+        continue;
+      }
+
+      if ( argv[i].equals("--parmin") || argv[i].equals("-parmin") ) { //$NON-NLS-1$ //$NON-NLS-2$
+        Options.parallel_minimize = true;
+        continue;
+      }
+
+      if ( argv[i].equals("--glushkov") || argv[i].equals("-glushkov") ) { //$NON-NLS-1$ //$NON-NLS-2$
+        Options.glushkov = true;
+        continue;
+      }
+
       if ( argv[i].equals("--pack") || argv[i].equals("-pack") ) { //$NON-NLS-1$ //$NON-NLS-2$
         Options.gen_method = Options.PACK;
         continue;
@@ -231,6 +352,11 @@ public class Main {
         Options.gen_method = Options.SWITCH;
         continue;
       }
+
+      if ( argv[i].equals("--lazy") || argv[i].equals("-lazy") ) { //$NON-NLS-1$ //$NON-NLS-2$
+        Options.gen_method = Options.LAZY;
+        continue;
+      }
       
       if ( argv[i].equals("--nobak") || argv[i].equals("-nobak") ) { //$NON-NLS-1$ //$NON-NLS-2$
         Options.no_backup = true;
@@ -273,9 +399,14 @@ public class Main {
     Out.println("--scala          generate scala, not Java");
     Out.println("--switch");
     Out.println("--table");
+    Out.println("--lazy");
     Out.println("--pack           set default code generation method");
     Out.println("--jlex           strict JLex compatibility");
     Out.println("--nomin          skip minimization step");
+    Out.println("--pardfa         use multiple threads for NFA to DFA conversion");
+    Out.println("--sparsemin      minimize with less memory for DFAs with many states and classes");
+    Out.println("--parmin         use multiple threads for minimization");
+    Out.println("--glushkov       build position automata without epsilon transitions");
     Out.println("--nobak          don't create backup files");
     Out.println("--dump           display transition tables"); 
     Out.println("--dot            write graphviz .dot files for the generated automata (alpha)");
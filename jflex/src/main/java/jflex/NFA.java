@@ -9,6 +9,10 @@
 package jflex;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.io.*;
 
 
@@ -30,6 +34,10 @@ final public class NFA {
    * from current_state via epsilon edges */
   StateSet [] epsilon;
 
+  /** edges[current_state] lists the inputs on which there are transitions
+   * from current_state, in ascending order (built by indexEdges) */
+  private int [][] edges;
+
   /** isFinal[state] == true <=> state is a final state of the NFA */
   boolean [] isFinal;
 
@@ -56,9 +64,12 @@ final public class NFA {
   LexScan scanner;
   RegExps regExps;
 
+  /** settings of the generation run this NFA belongs to */
+  GeneratorContext context;
+
   // will be reused by several methods (avoids excessive object creation)
-  private static StateSetEnumerator states = new StateSetEnumerator();
-  private static StateSet     tempStateSet = new StateSet();
+  private StateSetEnumerator states = new StateSetEnumerator();
+  private StateSet     tempStateSet = new StateSet();
   
   public NFA(int numInput, int estSize) {
     this.numInput = numInput;
@@ -74,12 +85,13 @@ final public class NFA {
    * Construct new NFA.
    * 
    * Assumes that lookahead cases and numbers are already resolved in RegExps.
-   * @see RegExps#checkLookAheads()
+   * @see RegExps#checkLookAheads(SemCheck)
    */ 
   public NFA(int numInput, LexScan scanner, RegExps regExps, 
              Macros macros, CharClasses classes) {
     this(numInput, regExps.NFASize(macros)+2*scanner.states.number());
 
+    this.context = scanner.context;
     this.scanner = scanner;
     this.regExps = regExps;
     this.macros  = macros;
@@ -124,6 +136,11 @@ final public class NFA {
 
     if (Options.DEBUG)
       Out.debug("Adding nfa for regexp "+regExpNum+" :"+Out.NL+regExps.getRegExp(regExpNum));
+
+    if (context.glushkov) {
+      addPositionRegExp(regExpNum);
+      return;
+    }
     
     IntPair nfa = insertNFA( regExps.getRegExp(regExpNum) );
     
@@ -206,7 +223,7 @@ final public class NFA {
       insertLookAheadChoices(baseEnd, a, macros.getDefinition((String) r.content));
     }
     else {
-      int len = SemCheck.length(lookAhead);
+      int len = new SemCheck(macros, classes, scanner).length(lookAhead);
       
       if (len >= 0) {
         // termination case
@@ -359,7 +376,7 @@ final public class NFA {
    * @return the epsilon closure of the specified set of states 
    *         in this NFA
    */
-  private StateSet closure(int startState) {
+  StateSet closure(int startState) {
 
     // Out.debug("Calculating closure of "+set);
 
@@ -400,9 +417,95 @@ final public class NFA {
   }
   
 
-  private void epsilonFill() {
-    for (int i = 0; i < numStates; i++) {
-      epsilon[i] = closure(i);
+  /**
+   * Replaces epsilon[i] by the epsilon closure of state i.
+   *
+   * One depth first traversal of the epsilon edges finds the strongly
+   * connected components (Tarjan). Components are completed in reverse
+   * topological order, so the closure of a component is the union of its
+   * states and the already known closures of its successors. All states
+   * of a component share one compact closure set.
+   */
+  void epsilonFill() {
+    int n = numStates;
+
+    // index[s] = dfs number of s (0 = not yet visited), low[s] = lowlink
+    int [] index = new int [n];
+    int [] low = new int [n];
+    // done[s] <=> the closure of s is computed and stored in epsilon[s]
+    boolean [] done = new boolean [n];
+    // states of the components not yet completed
+    int [] component = new int [n];
+    int top = 0;
+    // the dfs path with one edge enumerator per level
+    int [] path = new int [n];
+    StateSetEnumerator [] edges = new StateSetEnumerator [n];
+    int depth = 0;
+    int count = 0;
+
+    StateSetEnumerator succ = new StateSetEnumerator();
+
+    for (int start = 0; start < n; start++) {
+      if (index[start] != 0) continue;
+
+      int next = start;
+      while (true) {
+        if (next >= 0) {
+          // enter state next
+          index[next] = low[next] = ++count;
+          component[top++] = next;
+          path[depth] = next;
+          if (edges[depth] == null) edges[depth] = new StateSetEnumerator();
+          edges[depth].reset(epsilon[next] != null ? epsilon[next] : StateSet.EMPTY);
+          depth++;
+          next = -1;
+        }
+
+        int s = path[depth-1];
+        StateSetEnumerator e = edges[depth-1];
+
+        if (e.hasMoreElements()) {
+          int t = e.nextElement();
+          if (index[t] == 0)
+            next = t;
+          else if (!done[t] && index[t] < low[s])
+            low[s] = index[t];
+          continue;
+        }
+
+        // all edges of s visited
+        depth--;
+        if (depth > 0 && low[s] < low[path[depth-1]])
+          low[path[depth-1]] = low[s];
+
+        if (low[s] == index[s]) {
+          // s is the root of the component component[first..top-1]
+          int first = top-1;
+          while (component[first] != s) first--;
+
+          StateSet closure = new StateSet(n, s);
+          for (int i = first; i < top; i++) {
+            int m = component[i];
+            closure.addState(m);
+            if (epsilon[m] == null) continue;
+            succ.reset(epsilon[m]);
+            while (succ.hasMoreElements()) {
+              int t = succ.nextElement();
+              if (done[t]) closure.add(epsilon[t]);
+            }
+          }
+
+          StateSet shared = closure.compact();
+
+          for (int i = first; i < top; i++) {
+            epsilon[component[i]] = shared;
+            done[component[i]] = true;
+          }
+          top = first;
+        }
+
+        if (depth == 0) break;
+      }
     }
   }
 
@@ -444,17 +547,26 @@ final public class NFA {
    */
   public DFA getDFA() {
 
-    Map<StateSet, Integer> dfaStates = new HashMap<StateSet, Integer>(numStates);
+    Map<StateSet, Integer> dfaStates;
+    if (context.parallel_dfa)
+      dfaStates = new ConcurrentHashMap<StateSet, Integer>(numStates);
+    else
+      dfaStates = new HashMap<StateSet, Integer>(numStates);
     List<StateSet> dfaList = new ArrayList<StateSet>(numStates);
 
-    DFA dfa = new DFA(numEntryStates(), numInput, numLexStates);
+    DFA dfa = new DFA(context, numEntryStates(), numInput, numLexStates);
 
     int numDFAStates = 0;
     int currentDFAState = 0;
 
     Out.println("Converting NFA to DFA : ");
 
+    Timer time = new Timer();
     epsilonFill();
+    time.stop();
+    Out.time(ErrorMessages.EPSILON_TOOK, time);
+
+    indexEdges();
 
     StateSet currentState, newState;
     
@@ -478,10 +590,15 @@ final public class NFA {
     if (Options.DEBUG)
       Out.debug("DFA start states are :"+Out.NL+dfaStates+Out.NL+Out.NL+"ordered :"+Out.NL+dfaList);
      
+    if (context.parallel_dfa) {
+      parallelSubsets(dfa, (ConcurrentMap<StateSet, Integer>) dfaStates, dfaList);
+      if (context.verbose) Out.println("");
+      return dfa;
+    }
+
     currentDFAState = 0;
       
-    StateSet tempStateSet  = NFA.tempStateSet;    
-    StateSetEnumerator states = NFA.states;
+    EdgeCollector collector = new EdgeCollector();
 
     // will be reused
     newState = new StateSet(numStates);
@@ -490,25 +607,15 @@ final public class NFA {
 
       currentState = dfaList.get(currentDFAState);
 
-      for (char input = 0; input < numInput; input++) {
-
-	      // newState = DFAEdge(currentState, input);
+      // only visit the inputs some state in currentState has transitions on
+      collector.collect(currentState);
 
-        // inlining DFAEdge for performance:
+      for (int k = 0; k < collector.numInputs; k++) {
+        char input = (char) collector.inputs[k];
 
-        // Out.debug("Calculating DFAEdge for state set "+currentState+" and input '"+input+"'");
+        // newState = DFAEdge(currentState, input);
+        collector.target(k, newState);
 
-        tempStateSet.clear();        
-        states.reset(currentState);
-        while ( states.hasMoreElements() ) 
-          tempStateSet.add( table[states.nextElement()][input] );
-        
-        newState.copy(tempStateSet);
-        
-        states.reset(tempStateSet);
-        while ( states.hasMoreElements() ) 
-          newState.add( epsilon[states.nextElement()] );
-    
         // Out.debug("DFAEdge is : "+newState);
 
 
@@ -524,13 +631,13 @@ final public class NFA {
 	          dfa.addTransition(currentDFAState, input, nextDFAState);
 	        }
 	        else {
-            if (Options.progress) Out.print(".");
+            if (context.progress) Out.print(".");
 	          // Out.debug("NOT FOUND!");
 	          // Out.debug("Table was "+dfaStates);
             numDFAStates++;
 
-            // make a new copy of newState to store in dfaStates
-            StateSet storeState = new StateSet(newState);
+            // make a new (compact) copy of newState to store in dfaStates
+            StateSet storeState = newState.compact();
 
 	          dfaStates.put(storeState, numDFAStates);
 	          dfaList.add(storeState);
@@ -545,12 +652,281 @@ final public class NFA {
       currentDFAState++;     
     }
     
-    if (Options.verbose) Out.println("");
+    if (context.verbose) Out.println("");
 
     return dfa;
   }
 
 
+  /** 
+   * Number of DFA states whose transitions are computed in one
+   * parallel round of {@link #parallelSubsets}.
+   */
+  private static final int PARALLEL_CHUNK = 1024;
+
+  /** 
+   * Number of DFA states below which a {@link SubsetTask} does 
+   * not split any further.
+   */
+  private static final int PARALLEL_GRAIN = 16;
+
+  /** marks a transition in {@link SubsetTask#target} to a new DFA state */
+  private static final int NEW_TARGET = -2;
+
+  /**
+   * Subset construction on multiple threads (used by {@link #getDFA}
+   * if {@link GeneratorContext#parallel_dfa} is set).
+   *
+   * Works in rounds: the transitions of a chunk of unprocessed DFA states 
+   * are computed in parallel, new state sets that turn up in the round are
+   * interned in a concurrent table, so that every set is stored only once. 
+   * After each round the results are entered into the DFA sequentially, in
+   * the same order as in the sequential algorithm. The resulting DFA is
+   * therefore exactly the same, including state numbers.
+   *
+   * @param dfa        the DFA to fill, with entry states already created
+   * @param dfaStates  maps NFA state sets to DFA state numbers 
+   * @param dfaList    the NFA state set of each DFA state
+   */
+  private void parallelSubsets(DFA dfa, ConcurrentMap<StateSet, Integer> dfaStates, 
+                               List<StateSet> dfaList) {
+    ForkJoinPool pool = new ForkJoinPool();
+    ConcurrentMap<StateSet, StateSet> interned = new ConcurrentHashMap<StateSet, StateSet>();
+    Map<StateSet, Integer> numbered = new IdentityHashMap<StateSet, Integer>();
+
+    try {
+      int current = 0;
+      while ( current < dfaList.size() ) {
+        int end = Math.min(dfaList.size(), current+PARALLEL_CHUNK);
+
+        int [][] target = new int [end-current][];
+        StateSet [][] newSets = new StateSet [end-current][];
+
+        pool.invoke(new SubsetTask(dfaList, dfaStates, interned, target, newSets, 
+                                   current, current, end));
+
+        for (int s = current; s < end; s++) {
+          int [] row = target[s-current];
+          for (char input = 0; input < numInput; input++) {
+            int next = row[input];
+
+            if ( next == NEW_TARGET ) {
+              StateSet set = newSets[s-current][input];
+              Integer known = numbered.get(set);
+              if ( known != null ) {
+                next = known;
+              }
+              else {
+                if (context.progress) Out.print(".");
+                next = dfaList.size();
+                numbered.put(set, next);
+                dfaStates.put(set, next);
+                dfaList.add(set);
+
+                dfa.addTransition(s, input, next);
+                dfa.setFinal( next, containsFinal(set) );
+                dfa.setAction( next, getAction(set) );
+                continue;
+              }
+            }
+
+            if ( next != DFA.NO_TARGET ) 
+              dfa.addTransition(s, input, next);
+          }
+        }
+
+        interned.clear();
+        numbered.clear();
+        current = end;
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+
+  /**
+   * Computes the transitions of the DFA states <code>start..end-1</code>
+   * for {@link #parallelSubsets}. 
+   *
+   * Only reads the NFA and <code>dfaStates</code>, and only writes
+   * to its own rows in <code>target</code> and <code>newSets</code>.
+   * New state sets are interned in <code>interned</code>.
+   */
+  private final class SubsetTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final List<StateSet> dfaList;
+    private final Map<StateSet, Integer> dfaStates;
+    private final ConcurrentMap<StateSet, StateSet> interned;
+    private final int [][] target;
+    private final StateSet [][] newSets;
+    private final int offset, start, end;
+
+    SubsetTask(List<StateSet> dfaList, Map<StateSet, Integer> dfaStates,
+               ConcurrentMap<StateSet, StateSet> interned, 
+               int [][] target, StateSet [][] newSets,
+               int offset, int start, int end) {
+      this.dfaList = dfaList;
+      this.dfaStates = dfaStates;
+      this.interned = interned;
+      this.target = target;
+      this.newSets = newSets;
+      this.offset = offset;
+      this.start = start;
+      this.end = end;
+    }
+
+    protected void compute() {
+      if ( end - start > PARALLEL_GRAIN ) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new SubsetTask(dfaList, dfaStates, interned, target, newSets, offset, start, mid),
+                  new SubsetTask(dfaList, dfaStates, interned, target, newSets, offset, mid, end));
+        return;
+      }
+
+      // scratch objects of this task (the ones of the NFA are shared)
+      EdgeCollector collector = new EdgeCollector();
+      StateSet newState = new StateSet(numStates);
+
+      for (int s = start; s < end; s++) {
+        StateSet currentState = dfaList.get(s);
+        int [] row = new int [numInput];
+        Arrays.fill(row, DFA.NO_TARGET);
+
+        collector.collect(currentState);
+
+        for (int k = 0; k < collector.numInputs; k++) {
+          int input = collector.inputs[k];
+          collector.target(k, newState);
+
+          if ( !newState.containsElements() ) continue;
+
+          Integer known = dfaStates.get(newState);
+          if ( known != null ) {
+            row[input] = known;
+            continue;
+          }
+
+          StateSet set = interned.get(newState);
+          if ( set == null ) {
+            StateSet compact = newState.compact();
+            set = interned.putIfAbsent(compact, compact);
+            if ( set == null ) set = compact;
+          }
+
+          if ( newSets[s-offset] == null ) 
+            newSets[s-offset] = new StateSet [numInput];
+          newSets[s-offset][input] = set;
+          row[input] = NEW_TARGET;
+        }
+
+        target[s-offset] = row;
+      }
+    }
+  }
+
+
+  /**
+   * Builds the outgoing edge index {@link #edges} from the 
+   * transition table.
+   */
+  private void indexEdges() {
+    edges = new int [numStates][];
+    int [] inputs = new int [numInput];
+
+    for (int s = 0; s < numStates; s++) {
+      int n = 0;
+      for (int input = 0; input < numInput; input++) 
+        if ( table[s][input] != null && table[s][input].containsElements() ) 
+          inputs[n++] = input;
+
+      edges[s] = new int [n];
+      System.arraycopy(inputs, 0, edges[s], 0, n);
+    }
+  }
+
+
+  /**
+   * Computes the transitions of one DFA state from the outgoing
+   * edge index. Only the inputs on which at least one of the NFA 
+   * states has a transition are visited, and for each such input
+   * only the NFA states with a transition on it.
+   *
+   * Scratch space, one collector per thread.
+   */
+  private final class EdgeCollector {
+    /** the inputs with transitions from the collected state, ascending */
+    final int [] inputs = new int [numInput];
+    /** the number of entries in inputs */
+    int numInputs;
+
+    /** from[input][0..numFrom[input]-1] are the NFA states of the 
+     * collected state with transitions on input */
+    private final int [][] from = new int [numInput][];
+    private final int [] numFrom = new int [numInput];
+
+    private final StateSetEnumerator states = new StateSetEnumerator();
+    private final StateSet tempStateSet = new StateSet(numStates);
+
+    /**
+     * Collects the outgoing edges of all NFA states in <code>dfaState</code>.
+     */
+    void collect(StateSet dfaState) {
+      numInputs = 0;
+
+      states.reset(dfaState);
+      while ( states.hasMoreElements() ) {
+        int s = states.nextElement();
+        int [] e = edges[s];
+        for (int i = 0; i < e.length; i++) {
+          int input = e[i];
+          int n = numFrom[input];
+          if ( n == 0 ) {
+            inputs[numInputs++] = input;
+            if ( from[input] == null ) from[input] = new int [4];
+          }
+          else if ( n == from[input].length ) {
+            int [] f = new int [2*n];
+            System.arraycopy(from[input], 0, f, 0, n);
+            from[input] = f;
+          }
+          from[input][n] = s;
+          numFrom[input] = n+1;
+        }
+      }
+
+      // the DFA is built in the same order as by iterating over all inputs
+      Arrays.sort(inputs, 0, numInputs);
+    }
+
+    /**
+     * Stores the epsilon closed set of NFA states reached on 
+     * <code>inputs[k]</code> from the collected state in <code>result</code>.
+     *
+     * Must be called once for each <code>k < numInputs</code> before
+     * the next call of {@link #collect}.
+     */
+    void target(int k, StateSet result) {
+      int input = inputs[k];
+      int [] f = from[input];
+      int n = numFrom[input];
+      numFrom[input] = 0;
+
+      tempStateSet.clear();
+      for (int i = 0; i < n; i++)
+        tempStateSet.add( table[f[i]][input] );
+
+      result.copy(tempStateSet);
+
+      states.reset(tempStateSet);
+      while ( states.hasMoreElements() ) 
+        result.add( epsilon[states.nextElement()] );
+    }
+  }
+
+
   public void dumpTable() {
     Out.dump(toString());
   }
@@ -642,37 +1018,40 @@ final public class NFA {
   //-----------------------------------------------------------------------
   // Functions for constructing NFAs out of regular expressions.
 
-  private void insertLetterNFA(boolean caseless, char letter, int start, int end) {
+  private void letterCodes(boolean caseless, int letter, BitSet codes) {
     if (caseless) {
-      IntCharSet set = new IntCharSet(letter);
-      IntCharSet caselessSet = set.getCaseless(scanner.getUnicodeProperties());
-      for (Interval interval : caselessSet.getIntervals()) {
-        for (char ch = interval.start ; ch <= interval.end ; ++ch) {
-          addTransition(start, classes.getClassCode(ch), end);
+      IntervalSet caselessSet = IntervalSet.of(letter).getCaseless(scanner.getUnicodeProperties());
+      for (int i = 0; i < caselessSet.numIntervals(); i++) {
+        for (int ch = caselessSet.start(i); ch <= caselessSet.end(i); ++ch) {
+          codes.set(classes.getClassCode(ch));
         }
       }
     }
     else {
-      addTransition(start, classes.getClassCode(letter), end);
+      codes.set(classes.getClassCode(letter));
     }
   }
   
   private IntPair insertStringNFA(boolean caseless, String letters) {
     int start = numStates;
-    int i;
+    int i = 0;
+
+    // one transition per code point, surrogate pairs are one character
+    for (int pos = 0; pos < letters.length(); i++) {
+      int letter = letters.codePointAt(pos);
+      pos += Character.charCount(letter);
 
-    for (i = 0; i < letters.length(); i++) {
       if (caseless) {
-        IntCharSet set = new IntCharSet(letters.charAt(i));
-        IntCharSet caselessSet = set.getCaseless(scanner.getUnicodeProperties());
-        for (Interval interval : caselessSet.getIntervals()) {
-          for (char ch = interval.start ; ch <= interval.end ; ++ch) {
+        IntervalSet caselessSet 
+          = IntervalSet.of(letter).getCaseless(scanner.getUnicodeProperties());
+        for (int k = 0; k < caselessSet.numIntervals(); k++) {
+          for (int ch = caselessSet.start(k); ch <= caselessSet.end(k); ++ch) {
             addTransition(i + start, classes.getClassCode(ch), i + start + 1);
           }
         }
       }
       else {
-        addTransition(i+start, classes.getClassCode(letters.charAt(i)), i+start+1);
+        addTransition(i+start, classes.getClassCode(letter), i+start+1);
       }
     }
 
@@ -680,18 +1059,18 @@ final public class NFA {
   }
   
 
-  private void insertClassNFA(List<Interval> intervals, int start, int end) {
+  private void classCodes(List<Interval> intervals, BitSet codes) {
     // empty char class is ok:
     if (intervals == null) return;
 
     for (int aCl : classes.getClassCodes(intervals)) 
-      addTransition(start, aCl, end);
+      codes.set(aCl);
   }
 
-  private void insertNotClassNFA(List<Interval> intervals, int start, int end) {
+  private void notClassCodes(List<Interval> intervals, BitSet codes) {
 
     for (int input : classes.getNotClassCodes(intervals)) 
-      addTransition(start, input, end);
+      codes.set(input);
   }
   
 
@@ -755,7 +1134,7 @@ final public class NFA {
             addTransition(dfaStart+currentDFAState, input, dfaStart+nextDFAState);
 	        }
 	        else {
-            if (Options.dump) Out.print("+");
+            if (context.dump) Out.print("+");
 	          // Out.debug("NOT FOUND!");
 	          // Out.debug("Table was "+dfaStates);
             numDFAStates++;
@@ -888,33 +1267,45 @@ final public class NFA {
    *         and end state of the NFA.
    */
   private void insertCCLNFA(RegExp regExp, int start, int end) {    
+    BitSet codes = new BitSet(numInput);
+    cclCodes(regExp, codes);
+
+    for (int c = codes.nextSetBit(0); c >= 0; c = codes.nextSetBit(c+1)) 
+      addTransition(start, c, end);
+  }
+
+  /**
+   * Collects the input character classes matched by a char class regexp.
+   *
+   * Assumes that regExp.isCharClass(macros) == true
+   */
+  private void cclCodes(RegExp regExp, BitSet codes) {    
     switch (regExp.type) {
       
     case sym.BAR:
       RegExp2 r = (RegExp2) regExp;      
-      insertCCLNFA(r.r1, start, end);
-      insertCCLNFA(r.r2, start, end);
+      cclCodes(r.r1, codes);
+      cclCodes(r.r2, codes);
       return;
             
     case sym.CCLASS:
-      insertClassNFA( (List<Interval>) ((RegExp1) regExp).content, start, end);
+      classCodes( (List<Interval>) ((RegExp1) regExp).content, codes);
       return;
       
     case sym.CCLASSNOT:
-      insertNotClassNFA( (List<Interval>) ((RegExp1) regExp).content, start, end);
+      notClassCodes( (List<Interval>) ((RegExp1) regExp).content, codes);
       return;
       
     case sym.CHAR:
-      insertLetterNFA(false, (Character)((RegExp1)regExp).content, start, end);
+      letterCodes(false, (Integer)((RegExp1)regExp).content, codes);
       return;
       
     case sym.CHAR_I:
-      insertLetterNFA(true, (Character)((RegExp1)regExp).content, start, end);
+      letterCodes(true, (Integer)((RegExp1)regExp).content, codes);
       return;
       
     case sym.MACROUSE:
-      insertCCLNFA(macros.getDefinition((String) ((RegExp1) regExp).content), 
-                start, end);
+      cclCodes(macros.getDefinition((String) ((RegExp1) regExp).content), codes);
       return;
     }
     
@@ -1039,4 +1430,492 @@ final public class NFA {
     
     throw new Error("Unknown expression type "+regExp.type+" in NFA construction");
   }
+
+
+  //-----------------------------------------------------------------------
+  // Functions for constructing position automata out of regular expressions.
+  //
+  // Each state of a position automaton stands for an occurrence of a 
+  // character (class) in the expression (Glushkov's construction). There 
+  // are no epsilon transitions: the only epsilon edges are the ones from 
+  // the lexical states to the initial state of each expression.
+
+  /**
+   * Add a regexp to this NFA as position automaton. 
+   * 
+   * @param regExpNum   the number of the regexp to add.
+   * @see #addRegExp(int)
+   */
+  private void addPositionRegExp(int regExpNum) {
+    RegExp r1 = regExps.getRegExp(regExpNum);
+    RegExp r2 = regExps.getLookAhead(regExpNum);
+    Action a = regExps.getAction(regExpNum);
+
+    Fragment base = insertFragment(r1);
+    int initial = newState();
+
+    List<Integer> lexStates = regExps.getStates(regExpNum);
+    
+    if ( lexStates.isEmpty() )
+      lexStates = scanner.states.getInclusiveStates();
+
+    for (Integer stateNum : lexStates) {
+      if ( !regExps.isBOL(regExpNum) )
+        addEpsilonTransition(2*stateNum, initial);
+      
+      addEpsilonTransition(2*stateNum+1, initial);        
+    }
+
+    if ( r2 == null ) {
+      addFirst(initial, base);
+      setFinal(initial, base, a);
+    }
+    else if (a.lookAhead() == Action.FINITE_CHOICE) {
+      insertLookAheadChoices(initial, base, a, r2);
+      // remove the original action from the collection: it will never
+      // be matched directly, only its copies will.
+      scanner.actions.remove(a);
+    }
+    else {
+      Fragment look = concat(base, insertFragment(r2));
+      addFirst(initial, look);
+      setFinal(initial, look, a);
+
+      if (a.lookAhead() == Action.GENERAL_LOOK) {
+        // base forward pass
+        Fragment forward = insertFragment(r1);
+        int forwardInitial = newState();
+        addFirst(forwardInitial, forward);
+        setFinal(forwardInitial, forward, new Action(Action.FORWARD_ACTION));
+
+        // lookahead backward pass
+        Fragment backward = insertFragment(r2.rev(macros));
+        int backwardInitial = newState();
+        addFirst(backwardInitial, backward);
+        setFinal(backwardInitial, backward, new Action(Action.BACKWARD_ACTION));
+          
+        int entry = 2*(regExps.getLookEntry(regExpNum) + numLexStates);
+        addEpsilonTransition(entry, forwardInitial);
+        addEpsilonTransition(entry+1, backwardInitial);
+          
+        a.setEntryState(entry);
+      }
+    }
+  }
+
+  /**
+   * Insert position automata for the (finitely many) fixed length 
+   * lookahead choices.
+   * 
+   * @see #insertLookAheadChoices(int, Action, RegExp)
+   */
+  private void insertLookAheadChoices(int initial, Fragment base, Action a, RegExp lookAhead) {
+    if (lookAhead.type == sym.BAR) {
+      RegExp2 r = (RegExp2) lookAhead;
+      insertLookAheadChoices(initial, base, a, r.r1);
+      insertLookAheadChoices(initial, base, a, r.r2);
+    }
+    else if (lookAhead.type == sym.MACROUSE) {
+      RegExp1 r = (RegExp1) lookAhead;
+      insertLookAheadChoices(initial, base, a, macros.getDefinition((String) r.content));
+    }
+    else {
+      int len = new SemCheck(macros, classes, scanner).length(lookAhead);
+      
+      if (len >= 0) {
+        // termination case
+        Fragment look = concat(base, insertFragment(lookAhead));
+        addFirst(initial, look);
+
+        Action x = a.copyChoice(len);
+        setFinal(initial, look, x);
+        
+        // add new copy to the collection of known actions such that
+        // it can be checked for the NEVER_MATCH warning.
+        scanner.actions.add(x);
+      }
+      else {
+        // should never happen
+        throw new Error("When inserting lookahead expression: unkown expression type "+lookAhead.type+" in "+lookAhead); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+    }
+  }
+
+  private int newState() {
+    int state = numStates;
+    ensureCapacity(state+1);
+    numStates = state+1;
+    return state;
+  }
+
+  /**
+   * Adds the transitions into a fragment to a state.
+   */
+  private void addFirst(int state, Fragment f) {
+    int [] first = f.first.toArray();
+    for (int i = 0; i < first.length; i+= 2) 
+      addTransition(state, first[i], first[i+1]);
+  }
+
+  /**
+   * Marks the last positions of a fragment (and its initial state, 
+   * if the fragment accepts the empty word) as final with an action.
+   */
+  private void setFinal(int initial, Fragment f, Action a) {
+    for (int state : f.last.toArray())
+      setFinal(state, a);
+
+    if (f.nullable) setFinal(initial, a);
+  }
+
+  private void setFinal(int state, Action a) {
+    isFinal[state] = true;
+
+    // several lookahead choices may end in the same state
+    if (action[state] == null)
+      action[state] = a;
+    else 
+      action[state] = action[state].getHigherPriority(a);
+  }
+
+  /**
+   * Adds the transitions from the last positions of f1 to the 
+   * first positions of f2.
+   */
+  private void link(Fragment f1, Fragment f2) {
+    int [] first = f2.first.toArray();
+    if (first.length == 0) return;
+
+    for (int state : f1.last.toArray())
+      for (int i = 0; i < first.length; i+= 2) 
+        addTransition(state, first[i], first[i+1]);
+  }
+
+  private Fragment concat(Fragment f1, Fragment f2) {
+    link(f1, f2);
+
+    return new Fragment(
+      f1.nullable ? IntTree.union(f1.first, f2.first) : f1.first,
+      f2.nullable ? IntTree.union(f1.last, f2.last) : f2.last,
+      f1.nullable && f2.nullable);
+  }
+
+  /**
+   * Inserts a position for each character of a string.
+   */
+  private Fragment stringFragment(boolean caseless, String letters) {
+    if (letters.length() == 0) 
+      return new Fragment(IntTree.EMPTY, IntTree.EMPTY, true);
+
+    BitSet codes = new BitSet(numInput);
+    int letter = letters.codePointAt(0);
+    letterCodes(caseless, letter, codes);
+    int state = newState();
+    IntTree first = transitions(codes, state);
+
+    // one position per code point, surrogate pairs are one character
+    for (int i = Character.charCount(letter); i < letters.length(); i += Character.charCount(letter)) {
+      letter = letters.codePointAt(i);
+      codes.clear();
+      letterCodes(caseless, letter, codes);
+      int next = newState();
+      for (int c = codes.nextSetBit(0); c >= 0; c = codes.nextSetBit(c+1)) 
+        addTransition(state, c, next);
+      state = next;
+    }
+
+    return new Fragment(first, new IntTree(new int [] { state }), false);
+  }
+
+  /**
+   * The transitions with all inputs in <code>codes</code> to a state.
+   */
+  private IntTree transitions(BitSet codes, int state) {
+    int [] first = new int [2*codes.cardinality()];
+    int i = 0;
+    for (int c = codes.nextSetBit(0); c >= 0; c = codes.nextSetBit(c+1)) {
+      first[i++] = c;
+      first[i++] = state;
+    }
+    return new IntTree(first);
+  }
+
+  /**
+   * Constructs a position automaton fragment for regExp.
+   *
+   * @param regExp the regular expression to construct the 
+   *        fragment for 
+   * 
+   * @return the first and last positions of the fragment.
+   */
+  private Fragment insertFragment(RegExp regExp) {
+    
+    Fragment f;
+    RegExp2 r;
+    
+    if (Options.DEBUG)
+      Out.debug("Inserting RegExp : "+regExp);
+    
+    if (regExp.isCharClass(macros)) {
+      BitSet codes = new BitSet(numInput);
+      cclCodes(regExp, codes);
+
+      int state = newState();
+      return new Fragment(transitions(codes, state), new IntTree(new int [] { state }), false);
+    }
+    
+    switch (regExp.type) {
+      
+    case sym.BAR:
+      r = (RegExp2) regExp;
+      
+      Fragment f1 = insertFragment(r.r1);
+      Fragment f2 = insertFragment(r.r2);
+
+      return new Fragment(IntTree.union(f1.first, f2.first), 
+                          IntTree.union(f1.last, f2.last),
+                          f1.nullable || f2.nullable);
+      
+    case sym.CONCAT:
+      r = (RegExp2) regExp;
+      return concat(insertFragment(r.r1), insertFragment(r.r2));
+      
+    case sym.STAR:
+      f = insertFragment( (RegExp) ((RegExp1) regExp).content );
+      link(f, f);
+      return new Fragment(f.first, f.last, true);
+      
+    case sym.PLUS:
+      f = insertFragment( (RegExp) ((RegExp1) regExp).content );
+      link(f, f);
+      return f;
+      
+    case sym.QUESTION:
+      f = insertFragment( (RegExp) ((RegExp1) regExp).content );
+      return new Fragment(f.first, f.last, true);
+      
+    case sym.BANG:
+      return complement(insertFragment((RegExp) ((RegExp1) regExp).content));
+
+    case sym.TILDE:
+      return insertFragment(regExp.resolveTilde(macros));
+      
+    case sym.STRING:
+      return stringFragment(false, (String) ((RegExp1) regExp).content );
+
+    case sym.STRING_I:
+      return stringFragment(true, (String) ((RegExp1) regExp).content );
+      
+    case sym.MACROUSE:
+      return insertFragment(macros.getDefinition((String) ((RegExp1) regExp).content));
+    }
+    
+    throw new Error("Unknown expression type "+regExp.type+" in NFA construction");
+  }
+
+  /**
+   * Constructs a fragment accepting the complement of the language
+   * of a given fragment.
+   *
+   * Converts the fragment into a DFA, then negates that DFA.
+   * Exponential state blowup possible and common.
+   *
+   * @see #complement(IntPair)
+   */
+  private Fragment complement(Fragment f) {
+    int initial = newState();
+    addFirst(initial, f);
+
+    StateSet last = new StateSet(numStates);
+    for (int state : f.last.toArray()) last.addState(state);
+    if (f.nullable) last.addState(initial);
+
+    Map<StateSet, Integer> dfaStates = new HashMap<StateSet, Integer>();
+    List<StateSet> dfaList = new ArrayList<StateSet>();
+
+    StateSet newState = new StateSet(numStates, initial);
+    dfaStates.put(newState, 0);
+    dfaList.add(newState);
+
+    // the target of each transition of the DFA, NO_TARGET if there is none
+    List<int []> dfaTable = new ArrayList<int []>();
+    
+    for (int current = 0; current < dfaList.size(); current++) {
+      StateSet currentState = dfaList.get(current);
+      int [] row = new int [numInput];
+      dfaTable.add(row);
+
+      for (int input = 0; input < numInput; input++) {
+        newState = new StateSet(numStates);
+
+        states.reset(currentState);
+        while ( states.hasMoreElements() ) 
+          newState.add( table[states.nextElement()][input] );
+
+        if ( newState.containsElements() ) {
+          Integer next = dfaStates.get(newState);
+
+          if ( next == null ) {
+            if (context.dump) Out.print("+");
+            next = dfaList.size();
+            dfaStates.put(newState, next);
+            dfaList.add(newState);
+          }
+
+          row[input] = next;
+        }
+        else {
+          row[input] = DFA.NO_TARGET;
+        }
+      }
+    }
+
+    // Now the complement: states that were not final, plus an error state 
+    // accepting everything for all inputs without target
+    int numDFAStates = dfaList.size();
+    int error = numDFAStates;
+
+    boolean [] isLast = new boolean [numDFAStates+1];
+    for (int s = 0; s < numDFAStates; s++) {
+      // if it was not a final state, it is now in the complement
+      isLast[s] = true;
+      states.reset(dfaList.get(s));
+      while ( states.hasMoreElements() ) 
+        if ( last.isElement(states.nextElement()) ) isLast[s] = false;
+
+      int [] row = dfaTable.get(s);
+      for (int input = 0; input < numInput; input++)
+        if (row[input] == DFA.NO_TARGET) row[input] = error;
+    }
+    isLast[error] = true;
+
+    int [] errorRow = new int [numInput];
+    Arrays.fill(errorRow, error);
+    dfaTable.add(errorRow);
+
+    // eliminate transitions leading to dead states
+    boolean [] live = new boolean [numDFAStates+1];
+    System.arraycopy(isLast, 0, live, 0, numDFAStates+1);
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int s = 0; s <= numDFAStates; s++) {
+        if (live[s]) continue;
+        int [] row = dfaTable.get(s);
+        for (int input = 0; input < numInput && !live[s]; input++) 
+          live[s] = live[row[input]];
+        changed|= live[s];
+      }
+    }
+
+    // the DFA start state has no incoming transitions, it is 
+    // represented by the first transitions of the fragment
+    int dfaStart = numStates-1;
+    ensureCapacity(numStates+numDFAStates);
+    numStates+= numDFAStates;
+
+    int [] first = new int [2*numInput];
+    int numFirst = 0;
+    for (int input = 0; input < numInput; input++) {
+      int t = dfaTable.get(0)[input];
+      if (live[t]) {
+        first[numFirst++] = input;
+        first[numFirst++] = dfaStart+t;
+      }
+    }
+
+    int [] lastStates = new int [numDFAStates+1];
+    int numLast = 0;
+
+    for (int s = 1; s <= numDFAStates; s++) {
+      if (!live[s]) continue;
+
+      if (isLast[s]) lastStates[numLast++] = dfaStart+s;
+
+      int [] row = dfaTable.get(s);
+      for (int input = 0; input < numInput; input++) 
+        if (live[row[input]]) addTransition(dfaStart+s, input, dfaStart+row[input]);
+    }
+
+    int [] firstTransitions = new int [numFirst];
+    System.arraycopy(first, 0, firstTransitions, 0, numFirst);
+    int [] lastPositions = new int [numLast];
+    System.arraycopy(lastStates, 0, lastPositions, 0, numLast);
+
+    return new Fragment(new IntTree(firstTransitions), new IntTree(lastPositions), isLast[0]);
+  }
+
+
+  /**
+   * A part of a position automaton: the transitions into its first 
+   * positions, the set of its last positions, and whether it accepts 
+   * the empty word.
+   */
+  private static final class Fragment {
+    /** pairs of input and target state */
+    final IntTree first;
+    final IntTree last;
+    final boolean nullable;
+
+    Fragment(IntTree first, IntTree last, boolean nullable) {
+      this.first = first;
+      this.last = last;
+      this.nullable = nullable;
+    }
+  }
+
+  /**
+   * An immutable sequence of ints, concatenation does not copy 
+   * (long alternatives would otherwise take quadratic time). 
+   */
+  private static final class IntTree {
+    static final IntTree EMPTY = new IntTree(new int [0]);
+
+    private final int [] elements;
+    private final IntTree left, right;
+    private final int size;
+
+    IntTree(int [] elements) {
+      this.elements = elements;
+      this.left = null;
+      this.right = null;
+      this.size = elements.length;
+    }
+
+    private IntTree(IntTree left, IntTree right) {
+      this.elements = null;
+      this.left = left;
+      this.right = right;
+      this.size = left.size + right.size;
+    }
+
+    static IntTree union(IntTree a, IntTree b) {
+      if (a.size == 0) return b;
+      if (b.size == 0) return a;
+      return new IntTree(a, b);
+    }
+
+    int [] toArray() {
+      if (elements != null) return elements;
+
+      int [] result = new int [size];
+      int n = 0;
+      
+      // no recursion: trees of long alternatives are deep
+      List<IntTree> stack = new ArrayList<IntTree>();
+      stack.add(this);
+      while (!stack.isEmpty()) {
+        IntTree t = stack.remove(stack.size()-1);
+        if (t.elements != null) {
+          System.arraycopy(t.elements, 0, result, n, t.size);
+          n+= t.size;
+        }
+        else {
+          stack.add(t.right);
+          stack.add(t.left);
+        }
+      }
+      return result;
+    }
+  }
 }
@@ -14,6 +14,9 @@ import java.io.File;
 /**
  * Collects all global JFlex options. Can be set from command line parser,
  * ant taks, gui, etc.
+ *
+ * Each generation run takes a snapshot of these settings, see
+ * {@link GeneratorContext#fromOptions()}.
  * 
  * @author Gerwin Klein
  * @version JFlex 1.5, $Revision$, $Date$
@@ -30,6 +33,8 @@ public class Options {
 	final public static int TABLE  = 1;
 	/** code generation method: switch statement */
 	final public static int SWITCH = 2;
+	/** code generation method: NFA, DFA states are built at scanning time */
+	final public static int LAZY   = 3;
 
 
 	/** output directory */
@@ -40,6 +45,14 @@ public class Options {
   public static boolean no_minimize; 
   /** don't write backup files if this is true */
   public static boolean no_backup; 
+  /** use multiple threads for the NFA to DFA conversion if this is true */
+  public static boolean parallel_dfa;
+  /** minimize on the existing transitions only (less memory) if this is true */
+  public static boolean sparse_minimize;
+  /** use multiple threads for minimization if this is true */
+  public static boolean parallel_minimize;
+  /** build position automata (no epsilon transitions) instead of Thompson NFAs if this is true */
+  public static boolean glushkov;
   /** default code generation method */
   public static int gen_method;
   /** If false, only error/warning output will be generated */
@@ -81,6 +94,18 @@ public class Options {
 	 * @param d  the directory to write output files to
 	 */
   public static void setDir(File d) {
+    checkDir(d);
+    directory = d;
+  }
+
+  /**
+   * Checks that <code>d</code> can be used as output directory,
+   * creates it if necessary.
+   *
+   * @param d  the directory to check
+   * @throws GeneratorException if <code>d</code> is not usable
+   */
+  static void checkDir(File d) {
     if ( d.isFile() ) {
       Out.error("Error: \""+d+"\" is not a directory.");
       throw new GeneratorException();
@@ -90,8 +115,6 @@ public class Options {
       Out.error("Error: couldn't create directory \""+d+"\"");
       throw new GeneratorException();
     }
-  
-    directory = d;
   }
 
   /**
@@ -102,6 +125,10 @@ public class Options {
     jlex = false;
 		no_minimize = false;
 		no_backup = false;
+    parallel_dfa = false;
+    sparse_minimize = false;
+    parallel_minimize = false;
+    glushkov = false;
 		gen_method = Options.PACK;    
     verbose = true;
     progress = true;
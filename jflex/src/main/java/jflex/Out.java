@@ -26,6 +26,11 @@ import java.awt.TextArea;
  *
  * Counts error and warning messages.
  *
+ * Settings and counters are those of the generation run on the current
+ * thread (see {@link #setContext}), or the global ones from 
+ * {@link Options} if no run is active on the thread. The counts
+ * of finished runs are added to the global counters.
+ *
  * @author Gerwin Klein
  * @version JFlex 1.5, $Revision$, $Date$
  */
@@ -43,6 +48,82 @@ public final class Out {
   /** output device */
   private static StdOutWriter out = new StdOutWriter();
 
+  /** generation run of the current thread (if any) */
+  private static final ThreadLocal<GeneratorContext> context = 
+    new ThreadLocal<GeneratorContext>();
+
+
+  /**
+   * Reports settings and counters of <code>c</code> for the current thread 
+   * from now on (until the next call of this method).
+   *
+   * @param c  the context of the generation run on this thread
+   *           (<code>null</code> for the global settings)
+   */
+  public static void setContext(GeneratorContext c) {
+    context.set(c);
+  }
+
+  private static boolean verbose() {
+    GeneratorContext c = context.get();
+    return c == null ? Options.verbose : c.verbose;
+  }
+
+  private static boolean time() {
+    GeneratorContext c = context.get();
+    return c == null ? Options.time : c.time;
+  }
+
+  private static boolean dump() {
+    GeneratorContext c = context.get();
+    return c == null ? Options.dump : c.dump;
+  }
+
+  private static void countWarning() {
+    GeneratorContext c = context.get();
+    if (c != null) 
+      c.warnings++; 
+    else synchronized (Out.class) {
+      warnings++;
+    }
+  }
+
+  private static void countError() {
+    GeneratorContext c = context.get();
+    if (c != null) 
+      c.errors++; 
+    else synchronized (Out.class) {
+      errors++;
+    }
+  }
+
+  private static int errors() {
+    GeneratorContext c = context.get();
+    if (c != null) return c.errors;
+    synchronized (Out.class) {
+      return errors;
+    }
+  }
+
+  private static int warnings() {
+    GeneratorContext c = context.get();
+    if (c != null) return c.warnings;
+    synchronized (Out.class) {
+      return warnings;
+    }
+  }
+
+  /**
+   * Adds the error and warning counts of a finished generation run
+   * to the global counters.
+   *
+   * @param c  the context of the run
+   */
+  public static synchronized void addCounters(GeneratorContext c) {
+    errors += c.errors;
+    warnings += c.warnings;
+  }
+
 
   /**
    * Switches to GUI mode if <code>text</code> is not <code>null</code>
@@ -70,7 +151,7 @@ public final class Out {
    * @param time     elapsed time
    */
   public static void time(ErrorMessages message, Timer time) {
-    if (Options.time) {
+    if (time()) {
       String msg = ErrorMessages.get(message, time.toString());
       out.println(msg);
     } 
@@ -82,7 +163,7 @@ public final class Out {
    * @param message  the message to be printed
    */
   public static void time(String message) {
-    if (Options.time) {
+    if (time()) {
       out.println(message);
     } 
   }
@@ -93,7 +174,7 @@ public final class Out {
    * @param message  the message to be printed
    */
   public static void println(String message) {
-    if (Options.verbose) 
+    if (verbose()) 
       out.println(message);
   }
 
@@ -104,7 +185,7 @@ public final class Out {
    * @param data     data to be inserted into the message
    */
   public static void println(ErrorMessages message, String data) {
-    if (Options.verbose) {      
+    if (verbose()) {      
       out.println(ErrorMessages.get(message,data));
     }
   }
@@ -116,7 +197,7 @@ public final class Out {
    * @param data     data to be inserted into the message
    */
   public static void println(ErrorMessages message, int data) {
-    if (Options.verbose) {      
+    if (verbose()) {      
       out.println(ErrorMessages.get(message,data));
     }
   }
@@ -127,7 +208,7 @@ public final class Out {
    * @param message  the message to be printed
    */
   public static void print(String message) {
-    if (Options.verbose) out.print(message);
+    if (verbose()) out.print(message);
   }
 
   /**
@@ -152,7 +233,7 @@ public final class Out {
    * @message the message to be printed 
    */
   public static void dump(String message) {
-    if (Options.dump) out.println(message);
+    if (dump()) out.println(message);
   }
 
   
@@ -171,7 +252,7 @@ public final class Out {
    * throws a GeneratorException if there are any errors recorded
    */
   public static void checkErrors() {
-    if (errors > 0) throw new GeneratorException();
+    if (errors() > 0) throw new GeneratorException();
   }
   
 
@@ -179,6 +260,9 @@ public final class Out {
    * print error and warning statistics
    */
   public static void statistics() {    
+    int errors = errors();
+    int warnings = warnings();
+
     StringBuilder line = new StringBuilder(errors+" error");
     if (errors != 1) line.append("s");
 
@@ -191,9 +275,9 @@ public final class Out {
 
 
   /**
-   * reset error and warning counters
+   * reset the global error and warning counters
    */
-  public static void resetCounters() {
+  public static synchronized void resetCounters() {
     errors = 0;
     warnings = 0;
   }
@@ -205,7 +289,7 @@ public final class Out {
    * @param message   the warning message
    */  
   public static void warning(String message) {
-    warnings++;
+    countWarning();
 
     err(NL+"Warning : "+message);
   }
@@ -220,7 +304,7 @@ public final class Out {
    * @see ErrorMessages
    */
   public static void warning(ErrorMessages message, int line) {
-    warnings++;
+    countWarning();
 
     String msg = NL+"Warning";
     if (line > 0) msg = msg+" in line "+(line+1);
@@ -250,7 +334,7 @@ public final class Out {
       err(msg);
     }
 
-    warnings++;
+    countWarning();
 
     if (line >= 0) {
       if (column >= 0)
@@ -267,7 +351,7 @@ public final class Out {
    * @param message  the message to print
    */
   public static void error(String message) {
-    errors++;
+    countError();
     err(NL+message);
   }
 
@@ -280,7 +364,7 @@ public final class Out {
    * @see ErrorMessages   
    */ 
   public static void error(ErrorMessages message) {
-    errors++;
+    countError();
     err(NL+"Error: "+ErrorMessages.get(message) );
   }
 
@@ -294,7 +378,7 @@ public final class Out {
    * @see ErrorMessages   
    */ 
   public static void error(ErrorMessages message, String data) {
-    errors++;    
+    countError();
     err(NL+"Error: "+ ErrorMessages.get(message,data));
   }
 
@@ -307,7 +391,7 @@ public final class Out {
    * @param file     the file it occurred for
    */
   public static void error(ErrorMessages message, File file) {
-    errors++;
+    countError();
     err(NL+"Error: "+ErrorMessages.get(message)+" ("+file+")");
   }
 
@@ -333,7 +417,7 @@ public final class Out {
       err(msg);
     }
 
-    errors++;
+    countError();
 
     if (line >= 0) {
       if (column >= 0)
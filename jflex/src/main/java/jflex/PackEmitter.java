@@ -28,6 +28,9 @@ public abstract class PackEmitter {
 
   /** name of the generated array (mixed case, no yy prefix) */
   protected String name;
+
+  /** the output language */
+  protected Language lang;
     
   /** current UTF8 length of generated string in current chunk */
   private int UTF8Length;
@@ -56,12 +59,23 @@ public abstract class PackEmitter {
   private static final String indent = "    ";
   
   /**
-   * Create new emitter for an array.
+   * Create new emitter for an array in the globally set language.
    * 
    * @param name  the name of the generated array
    */
   public PackEmitter(String name) {
+    this(name, Options.lang);
+  }
+
+  /**
+   * Create new emitter for an array.
+   * 
+   * @param name  the name of the generated array
+   * @param lang  the output language
+   */
+  public PackEmitter(String name, Language lang) {
     this.name = name;
+    this.lang = lang;
   }
   
   /**
@@ -150,8 +164,8 @@ public abstract class PackEmitter {
    * Emit the call to the unpacking code
    */
   public void emitUnpackCall() {
-    out.append("  "+Options.lang.field(false, true, false,
-				       Options.lang.array_type(Options.lang.int_type()),
+    out.append("  "+lang.field(false, true, false,
+				       lang.array_type(lang.int_type()),
 				       constName(), 
 				       "zzUnpack"+name+"()")+";");
     nl();    
@@ -162,7 +176,7 @@ public abstract class PackEmitter {
    */
   private void nextChunk() {
     nl();
-    out.append("  "+Options.lang.field(false, true, false, "String", constName()+"_PACKED_"+chunks, ""));
+    out.append("  "+lang.field(false, true, false, "String", constName()+"_PACKED_"+chunks, ""));
     nl();
     out.append(indent);
     out.append("\"");
@@ -186,7 +200,7 @@ public abstract class PackEmitter {
    * @param c the character to append
    */
   private void printUC(char c) {
-    out.append(Options.lang.char_literal((char)c));
+    out.append(lang.char_literal((char)c));
   } 
 
   /**
@@ -152,9 +152,9 @@ public class RegExps {
     return size;
   }
 
-  public void checkLookAheads() {
+  public void checkLookAheads(SemCheck semCheck) {
     for (int i=0; i < regExps.size(); i++) 
-      lookAheadCase(i);
+      lookAheadCase(i, semCheck);
   }
   
   /**
@@ -168,16 +168,17 @@ public class RegExps {
    * the correct amount of space of lookahead DFA entry points.
    * 
    * @param regExpNum   the number of the regexp in RegExps. 
+   * @param semCheck    computes lengths of the expressions
    */
-  private void lookAheadCase(int regExpNum) {
+  private void lookAheadCase(int regExpNum, SemCheck semCheck) {
     if ( getLookAhead(regExpNum) != null ) {
       RegExp r1 = getRegExp(regExpNum);
       RegExp r2 = getLookAhead(regExpNum);
 
       Action a = getAction(regExpNum);
             
-      int len1 = SemCheck.length(r1);
-      int len2 = SemCheck.length(r2);
+      int len1 = semCheck.length(r1);
+      int len2 = semCheck.length(r2);
       
       if (len1 >= 0) {
         a.setLookAction(Action.FIXED_BASE,len1);
@@ -185,7 +186,7 @@ public class RegExps {
       else if (len2 >= 0) {
         a.setLookAction(Action.FIXED_LOOK,len2);
       }
-      else if (SemCheck.isFiniteChoice(r2)) {
+      else if (semCheck.isFiniteChoice(r2)) {
         a.setLookAction(Action.FINITE_CHOICE,0);
       }
       else {
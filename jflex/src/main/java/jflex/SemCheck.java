@@ -9,6 +9,7 @@
 package jflex;
 
 import java.io.File;
+import java.util.List;
 
 /**
  * Performs simple semantic analysis on regular expressions.
@@ -18,8 +19,28 @@ import java.io.File;
  */
 public final class SemCheck {
 
-  // stored globally since they are used as constants in all checks
-  private static Macros macros;
+  // stored in the instance since they are used as constants in all checks
+  private final Macros macros;
+  private final CharClasses classes;
+  private final LexScan scanner;
+  private final boolean utf8;
+
+  /**
+   * Creates a checker for expressions that may use the given macros.
+   *
+   * @param m        the macro table (in expanded form)
+   * @param classes  the character classes of the scanner; lengths are
+   *                 counted in UTF-16 code units if the scanner reads
+   *                 code points
+   * @param scanner  the scanner of the specification; lengths are
+   *                 counted in bytes if it has <code>%input utf8</code>
+   */
+  public SemCheck(Macros m, CharClasses classes, LexScan scanner) {
+    macros = m;
+    this.classes = classes;
+    this.scanner = scanner;
+    this.utf8 = scanner.utf8Input;
+  }
   
   /**
    * Performs semantic analysis for all expressions.
@@ -27,11 +48,9 @@ public final class SemCheck {
    * Currently checks for empty expressions only.
    *
    * @param rs   the reg exps to be checked
-   * @param m    the macro table (in expanded form)
    * @param f    the spec file containing the rules 
    */
-  public static void check(RegExps rs, Macros m, File f) {
-    macros = m;
+  public void check(RegExps rs, File f) {
     int num = rs.getNum();
     for (int i = 0; i < num; i++) {
       RegExp r = rs.getRegExp(i);
@@ -52,7 +71,7 @@ public final class SemCheck {
    * Checks if the expression potentially matches the empty string.
    *    
    */
-  public static boolean maybeEmtpy(RegExp re) {
+  public boolean maybeEmtpy(RegExp re) {
     RegExp2 r; 
 
     switch (re.type) {      
@@ -106,10 +125,12 @@ public final class SemCheck {
 
   /**
    * Returns length if expression has fixed length, -1 otherwise.
+   * The length is the number of UTF-16 code units (i.e. Java chars) 
+   * the expression matches, or the number of bytes for UTF-8 input.
    * 
    * Negation operators are treated as always variable length.   
    */
-  public static int length(RegExp re) {
+  public int length(RegExp re) {
     RegExp2 r;
 
     switch (re.type) {      
@@ -141,15 +162,29 @@ public final class SemCheck {
       return -1;
 
     case sym.CCLASS:
+      return classLength(false, re);
+
     case sym.CCLASSNOT:
+      return classLength(true, re);
+
     case sym.CHAR:
-    case sym.CHAR_I:
-      return 1;
+    case sym.CHAR_I: {
+      int c = (Integer) ((RegExp1) re).content;
+      return utf8 ? utf8Length(c, re.type == sym.CHAR_I) : Character.charCount(c);
+    }
 
     case sym.STRING: 
     case sym.STRING_I: {
       String content = (String) ((RegExp1) re).content;
-      return content.length();
+      if (!utf8) return content.length();
+
+      int length = 0;
+      for (int i = 0; i < content.length(); i+= Character.charCount(content.codePointAt(i))) {
+        int l = utf8Length(content.codePointAt(i), re.type == sym.STRING_I);
+        if (l < 0) return -1;
+        length+= l;
+      }
+      return length;
     }
 
     case sym.TILDE:
@@ -170,7 +205,7 @@ public final class SemCheck {
    * 
    * Negation operators are treated as always variable length.   
    */
-  public static boolean isFiniteChoice(RegExp re) {
+  public boolean isFiniteChoice(RegExp re) {
     RegExp2 r;
 
     switch (re.type) {      
@@ -195,6 +230,8 @@ public final class SemCheck {
 
     case sym.CCLASS:
     case sym.CCLASSNOT:
+      return length(re) >= 0;
+
     case sym.CHAR:
     case sym.CHAR_I:
       return true;
@@ -214,4 +251,62 @@ public final class SemCheck {
 
     throw new Error("Unkown expression type "+re.type+" in "+re);   //$NON-NLS-1$ //$NON-NLS-2$
   }
+
+  /**
+   * Returns the number of bytes of the UTF-8 encoding of code point c.
+   */
+  private static int utf8Length(int c) {
+    if (c < 0x80) return 1;
+    if (c < 0x800) return 2;
+    if (c <= CharClasses.maxBMPChar) return 3;
+    return 4;
+  }
+
+  /**
+   * Returns the number of bytes of the UTF-8 encoding of code point c,
+   * -1 if c is caseless and its case variants have encodings of
+   * different length (e.g. k and the Kelvin sign).
+   */
+  private int utf8Length(int c, boolean caseless) {
+    if (!caseless) return utf8Length(c);
+    return utf8Length(IntervalSet.of(c).getCaseless(scanner.getUnicodeProperties()));
+  }
+
+  /**
+   * Returns the number of bytes of the UTF-8 encoding of each element of
+   * a (non-empty) set, -1 if they differ.
+   */
+  private static int utf8Length(IntervalSet set) {
+    int first = utf8Length(set.start(0));
+    int last = utf8Length(set.end(set.numIntervals()-1));
+    return first == last ? first : -1;
+  }
+
+  /**
+   * Returns the length of a character class in UTF-16 code units:
+   * 1 if it only contains characters of the Basic Multilingual Plane,
+   * 2 if it only contains supplementary characters, -1 if both.
+   * For UTF-8 input the length in bytes, if it is the same for all
+   * characters of the class.
+   *
+   * @param negate  true if the class matches the complement of its content
+   */
+  @SuppressWarnings("unchecked")
+  private int classLength(boolean negate, RegExp re) {
+    int maxChar = classes.getMaxCharCode();
+    if (maxChar <= CharClasses.maxBMPChar && !utf8) return 1;
+
+    List<Interval> content = (List<Interval>) ((RegExp1) re).content;
+    IntervalSet set = content == null ? IntervalSet.EMPTY : IntervalSet.of(content);
+    if (negate) set = set.complement(maxChar);
+
+    if (set.isEmpty()) return 1;
+    if (utf8) return utf8Length(set);
+
+    int first = set.start(0);
+    int last = set.end(set.numIntervals()-1);
+    if (last <= CharClasses.maxBMPChar) return 1;
+    if (first > CharClasses.maxBMPChar) return 2;
+    return -1;
+  }
 }
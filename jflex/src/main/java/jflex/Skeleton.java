@@ -25,6 +25,9 @@ import java.util.ArrayList;
  * part to this class. The iterator part is used to emit consecutive skeleton
  * sections to some <code>PrintWriter</code>. 
  *
+ * The static skeleton is the default for new generation runs, each run
+ * works on its own copy (see {@link GeneratorContext}).
+ *
  * @see jflex.Emitter
  *
  * @author Gerwin Klein
@@ -33,7 +36,10 @@ import java.util.ArrayList;
 public class Skeleton {
   
   /** location of default skeleton */
-  static final private String DEFAULT_LOC = "jflex/skeleton.default"; //$NON-NLS-1$
+  static final String DEFAULT_LOC = "jflex/skeleton.default"; //$NON-NLS-1$
+
+  /** location of the skeleton for scanners on bytes (<code>%input utf8</code> and <code>latin1</code>) */
+  static final String BYTES_LOC = "jflex/skeleton.bytes"; //$NON-NLS-1$
   
   /** expected number of sections in the skeleton file */
   static final private int size = 21;
@@ -59,13 +65,29 @@ public class Skeleton {
    */
   private PrintWriter out;
 
+  /**
+   * The skeleton sections to emit
+   */
+  private String [] sections;
+
 
   /**
-   * Creates a new skeleton (iterator) instance. 
+   * Creates a new skeleton (iterator) instance for the static skeleton. 
    *
    * @param   out  the writer to write the skeleton-parts to
    */
   public Skeleton(PrintWriter out) {
+    this(line, out);
+  }
+
+  /**
+   * Creates a new skeleton (iterator) instance. 
+   *
+   * @param   sections  the skeleton sections to emit
+   * @param   out       the writer to write the skeleton-parts to
+   */
+  public Skeleton(String [] sections, PrintWriter out) {
+    this.sections = sections;
     this.out = out;
   }
 
@@ -74,7 +96,7 @@ public class Skeleton {
    * Emits the next part of the skeleton
    */
   public void emitNext() {
-    out.print( line[pos++] );
+    out.print( sections[pos++] );
   }
 
 
@@ -84,18 +106,67 @@ public class Skeleton {
    * Replaces all occurences of " public " in the skeleton with " private ". 
    */
   public static void makePrivate() {
-    for (int i=0; i < line.length; i++) {
-      line[i] = replace(" public ", " private ", line[i]);   //$NON-NLS-1$ //$NON-NLS-2$
+    makePrivate(line);
+  } 
+
+
+  /**
+   * Make a skeleton private.
+   *
+   * Replaces all occurences of " public " in <code>sections</code> 
+   * with " private ". 
+   *
+   * @param sections  the skeleton sections to change 
+   */
+  public static void makePrivate(String [] sections) {
+    for (int i=0; i < sections.length; i++) {
+      sections[i] = replace(" public ", " private ", sections[i]);   //$NON-NLS-1$ //$NON-NLS-2$
     }
   } 
 
 
+  /**
+   * Sets the value of an int constant of the skeleton.
+   *
+   * Replaces the initial value in the first declaration
+   * "static final int <code>name</code> = ...;" of <code>sections</code>.
+   *
+   * @param sections  the skeleton sections to change
+   * @param name      the name of the constant
+   * @param value     the new value
+   * @return <code>false</code> iff the skeleton does not declare the constant
+   */
+  public static boolean setConstant(String [] sections, String name, int value) {
+    String decl = "static final int "+name+" = ";  //$NON-NLS-1$ //$NON-NLS-2$
+    for (int i=0; i < sections.length; i++) {
+      int start = sections[i].indexOf(decl);
+      if (start < 0) continue;
+      start += decl.length();
+      int end = sections[i].indexOf(';', start);
+      sections[i] = sections[i].substring(0, start) + value + sections[i].substring(end);
+      return true;
+    }
+    return false;
+  }
+
+
   /**
    * Reads an external skeleton file for later use with this class.
    * 
    * @param skeletonFile  the file to read (must be != null and readable)
    */
   public static void readSkelFile(File skeletonFile) {
+    line = loadSkelFile(skeletonFile);
+  }
+
+
+  /**
+   * Reads the sections of an external skeleton file.
+   * 
+   * @param skeletonFile  the file to read (must be != null and readable)
+   * @return the skeleton sections
+   */
+  static String [] loadSkelFile(File skeletonFile) {
     if (skeletonFile == null)
       throw new IllegalArgumentException("Skeleton file must not be null"); //$NON-NLS-1$
 
@@ -108,7 +179,7 @@ public class Skeleton {
 
     try {
       BufferedReader reader = new BufferedReader(new FileReader(skeletonFile));
-      readSkel(reader);
+      return loadSkel(reader);
     }
     catch (IOException e) {
       Out.error(ErrorMessages.SKEL_IO_ERROR); 
@@ -125,6 +196,19 @@ public class Skeleton {
    * @throws GeneratorException if the number of skeleton sections does not match 
    */
   public static void readSkel(BufferedReader reader) throws IOException {
+    line = loadSkel(reader);
+  }
+
+
+  /**
+   * Reads the sections of a skeleton from a BufferedReader.
+   * 
+   * @param  reader             the reader to read from (must be != null)
+   * @return the skeleton sections
+   * @throws IOException        if an IO error occurs
+   * @throws GeneratorException if the number of skeleton sections does not match 
+   */
+  private static String [] loadSkel(BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<String>();
     StringBuilder section = new StringBuilder();
 
@@ -147,9 +231,7 @@ public class Skeleton {
       throw new GeneratorException();
     }
 
-    line = new String[size];
-    for (int i = 0; i < size; i++)
-      line[i] = lines.get(i);
+    return lines.toArray(new String[size]);
   }
   
   /**
@@ -192,6 +274,17 @@ public class Skeleton {
    * @param systemSkeleton name of skeleton file to read
    */
   public static void readSystemSkeleton(String systemSkeleton) {
+    line = loadSystemSkeleton(systemSkeleton);
+  }
+
+
+  /**
+   * Reads the sections of a skeleton distributed with the system.
+   *
+   * @param systemSkeleton name of skeleton file to read
+   * @return the skeleton sections
+   */
+  static String [] loadSystemSkeleton(String systemSkeleton) {
     ClassLoader l = Skeleton.class.getClassLoader();
     URL url;
     
@@ -215,7 +308,7 @@ public class Skeleton {
     
     try {
       InputStreamReader reader = new InputStreamReader(url.openStream());
-      readSkel(new BufferedReader(reader)); 
+      return loadSkel(new BufferedReader(reader)); 
     } catch (IOException e) {
       e.printStackTrace();
       Out.error(ErrorMessages.SKEL_IO_ERROR_DEFAULT); 
@@ -9,10 +9,18 @@
 package jflex;
 
 /**
- * A set of NFA states (= integers). 
+ * A set of NFA states (= integers).
  *
  * Very similar to java.util.BitSet, but is faster and doesn't crash
  *
+ * Small sets are stored as sorted int arrays (sparse), larger ones as
+ * bit vectors (dense). A sparse set switches to the dense representation
+ * when it grows beyond SPARSE_LIMIT elements; {@link #compact()}
+ * returns a copy in whichever representation needs less memory.
+ *
+ * Size and hash code are maintained incrementally, so
+ * {@link #hashCode()} and {@link #containsElements()} take constant time.
+ *
  * @author Gerwin Klein
  * @version JFlex 1.5, $Revision$, $Date$
  */
@@ -25,26 +33,70 @@ final public class StateSet {
 
   final static int BITS = 6;
   final static int MASK = (1<<BITS)-1;
-  
+
+  /**
+   * max number of elements a sparse set may grow to by
+   * adding elements before it is converted to a bit vector
+   */
+  final static int SPARSE_LIMIT = 64;
+
+  /** the bit vector of a dense set, <code>null</code> if the set is sparse */
   long bits[];
-  
-  
+
+  /**
+   * the elements of a sparse set in ascending order in elems[0..size-1],
+   * <code>null</code> if the set is dense
+   */
+  int elems[];
+
+  /** number of elements in this set */
+  int size;
+
+  /** sum of mix(s) over all elements s */
+  int hash;
+
+
   public StateSet() {
     this(256);
-  }  
+  }
 
-  public StateSet(int size) {    
+  public StateSet(int size) {
     bits = new long[size2nbits(size)];
   }
 
+  /**
+   * Creates the sparse set {state}.
+   *
+   * @param size   ignored (for compatibility with the dense constructor)
+   * @param state  the element of the set
+   */
   public StateSet(int size, int state) {
-    this(size);
-    addState(state);
+    elems = new int[2];
+    elems[0] = state;
+    this.size = 1;
+    hash = mix(state);
   }
 
   public StateSet(StateSet set) {
-    bits = new long[set.bits.length];
-    System.arraycopy(set.bits, 0, bits, 0, set.bits.length);
+    if (set.bits != null) {
+      bits = new long[set.bits.length];
+      System.arraycopy(set.bits, 0, bits, 0, set.bits.length);
+    }
+    else {
+      elems = new int[Math.max(set.size, 2)];
+      System.arraycopy(set.elems, 0, elems, 0, set.size);
+    }
+    size = set.size;
+    hash = set.hash;
+  }
+
+
+  /**
+   * The hash contribution of one state.
+   */
+  private static int mix(int state) {
+    int h = state * 0x9E3779B9;
+    return h ^ (h >>> 16);
   }
 
 
@@ -53,11 +105,41 @@ final public class StateSet {
       Out.dump("StateSet.addState("+state+") start"); //$NON-NLS-1$ //$NON-NLS-2$
       Out.dump("Set is : "+this); //$NON-NLS-1$
     }
-   
+
+    if (elems != null) {
+      int pos = find(state);
+      if (pos >= 0) return;
+
+      if (size >= SPARSE_LIMIT) {
+        toDense(state);
+      }
+      else {
+        pos = -pos-1;
+        if (size == elems.length) {
+          int [] newElems = new int[2*size];
+          System.arraycopy(elems, 0, newElems, 0, pos);
+          System.arraycopy(elems, pos, newElems, pos+1, size-pos);
+          elems = newElems;
+        }
+        else {
+          System.arraycopy(elems, pos, elems, pos+1, size-pos);
+        }
+        elems[pos] = state;
+        size++;
+        hash += mix(state);
+        return;
+      }
+    }
+
     int index = state >> BITS;
     if (index >= bits.length) resize(state);
-    bits[index] |= (1L << (state & MASK));
-    
+    long bit = 1L << (state & MASK);
+    if ((bits[index] & bit) == 0) {
+      bits[index] |= bit;
+      size++;
+      hash += mix(state);
+    }
+
     if (DEBUG) {
       Out.dump("StateSet.addState("+state+") end"); //$NON-NLS-1$ //$NON-NLS-2$
       Out.dump("Set is : "+this); //$NON-NLS-1$
@@ -65,6 +147,42 @@ final public class StateSet {
   }
 
 
+  /**
+   * Binary search for a state in a sparse set.
+   *
+   * @return the index of <code>state</code> in elems, or
+   *         (-(insertion point) - 1) if it is not in the set.
+   */
+  private int find(int state) {
+    int lo = 0;
+    int hi = size-1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      int e = elems[mid];
+      if (e < state) lo = mid+1;
+      else if (e > state) hi = mid-1;
+      else return mid;
+    }
+    return -(lo+1);
+  }
+
+
+  /**
+   * Converts a sparse set into a bit vector large enough to
+   * contain <code>state</code>.
+   */
+  private void toDense(int state) {
+    int max = size > 0 ? Math.max(state, elems[size-1]) : state;
+    long [] newbits = new long[size2nbits(max)];
+    for (int i = 0; i < size; i++) {
+      int e = elems[i];
+      newbits[e >> BITS] |= 1L << (e & MASK);
+    }
+    bits = newbits;
+    elems = null;
+  }
+
+
   private int size2nbits (int size) {
     return ((size >> BITS) + 1);
   }
@@ -74,51 +192,81 @@ final public class StateSet {
     int needed = size2nbits(size);
 
     // if (needed < bits.length) return;
-         
+
     long newbits[] = new long[Math.max(bits.length*4,needed)];
     System.arraycopy(bits, 0, newbits, 0, bits.length);
-    
+
     bits = newbits;
   }
 
 
-  public void clear() {    
-    int l = bits.length;
-    for (int i = 0; i < l; i++) bits[i] = 0;
+  public void clear() {
+    if (bits != null && size > 0) {
+      int l = bits.length;
+      for (int i = 0; i < l; i++) bits[i] = 0;
+    }
+    size = 0;
+    hash = 0;
   }
 
   public boolean isElement(int state) {
+    if (elems != null) return find(state) >= 0;
+
     int index = state >> BITS;
     if (index >= bits.length)  return false;
     return (bits[index] & (1L << (state & MASK))) != 0;
   }
 
   /**
-   * Returns one element of the set and removes it. 
+   * Returns one element of the set and removes it.
    *
    * Precondition: the set is not empty.
    */
   public int getAndRemoveElement() {
+    if (elems != null) {
+      int state = elems[--size];
+      hash -= mix(state);
+      return state;
+    }
+
     int i = 0;
     int o = 0;
     long m = 1;
-    
+
     while (bits[i] == 0) i++;
-    
+
     while ( (bits[i] & m) == 0 ) {
       m<<= 1;
       o++;
     }
-    
+
     bits[i]&= ~m;
-    
-    return (i << BITS) + o;
+
+    int state = (i << BITS) + o;
+    size--;
+    hash -= mix(state);
+
+    return state;
   }
 
   public void remove(int state) {
+    if (elems != null) {
+      int pos = find(state);
+      if (pos < 0) return;
+      System.arraycopy(elems, pos+1, elems, pos, size-pos-1);
+      size--;
+      hash -= mix(state);
+      return;
+    }
+
     int index = state >> BITS;
     if (index >= bits.length) return;
-    bits[index] &= ~(1L << (state & MASK));
+    long bit = 1L << (state & MASK);
+    if ((bits[index] & bit) != 0) {
+      bits[index] &= ~bit;
+      size--;
+      hash -= mix(state);
+    }
   }
 
   /**
@@ -126,34 +274,121 @@ final public class StateSet {
    * but are not contained in this set.
    */
   public StateSet complement(StateSet set) {
-    
+
     if (set == null) return null;
-    
-    StateSet result = new StateSet();
-    
-    result.bits = new long[set.bits.length];
-    
-    int i;
-    int m = Math.min(bits.length, set.bits.length);
-    
-    for (i = 0; i < m; i++) {
-      result.bits[i] = ~bits[i] & set.bits[i];
-    }
-    
-    if (bits.length < set.bits.length) 
-      System.arraycopy(set.bits, m, result.bits, m, result.bits.length-m);
-    
-    if (DEBUG) 
+
+    StateSet result;
+
+    if (bits != null && set.bits != null) {
+      result = new StateSet();
+      result.bits = new long[set.bits.length];
+
+      int i;
+      int m = Math.min(bits.length, set.bits.length);
+
+      for (i = 0; i < m; i++) {
+        result.bits[i] = ~bits[i] & set.bits[i];
+      }
+
+      if (bits.length < set.bits.length)
+        System.arraycopy(set.bits, m, result.bits, m, result.bits.length-m);
+
+      result.recount();
+    }
+    else {
+      int [] e = new int[Math.max(set.size, 2)];
+      int n = 0;
+      StateSetEnumerator en = set.states();
+      while (en.hasMoreElements()) {
+        int s = en.nextElement();
+        if (!isElement(s)) e[n++] = s;
+      }
+      result = sparse(e, n);
+    }
+
+    if (DEBUG)
       Out.dump("Complement of "+this+Out.NL+"and "+set+Out.NL+" is :"+result); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-    
+
     return result;
   }
 
+
+  /**
+   * Creates a sparse set from the first <code>n</code> elements
+   * of a sorted array (the array is not copied).
+   */
+  private static StateSet sparse(int [] e, int n) {
+    StateSet result = new StateSet(0);
+    result.bits = null;
+    result.elems = e;
+    result.size = n;
+    for (int i = 0; i < n; i++) result.hash += mix(e[i]);
+    return result;
+  }
+
+
+  /**
+   * Recomputes size and hash code of a dense set.
+   */
+  private void recount() {
+    size = 0;
+    hash = 0;
+    for (int i = 0; i < bits.length; i++) {
+      long b = bits[i];
+      if (b != 0) {
+        size += Long.bitCount(b);
+        hash += mixWord(b, i);
+      }
+    }
+  }
+
+
+  /**
+   * The sum of mix(s) over all states s in word <code>i</code>
+   * with bits <code>b</code>
+   */
+  private static int mixWord(long b, int i) {
+    int h = 0;
+    int base = i << BITS;
+    while (b != 0) {
+      int o = Long.numberOfTrailingZeros(b);
+      h += mix(base + o);
+      b &= b-1;
+    }
+    return h;
+  }
+
+
   public void add(StateSet set) {
-    
+
     if (DEBUG) Out.dump("StateSet.add("+set+") start"); //$NON-NLS-1$ //$NON-NLS-2$
 
-    if (set == null) return;
+    if (set == null || set.size == 0) return;
+
+    if (elems != null) {
+      if (set.elems != null && size + set.size <= SPARSE_LIMIT) {
+        merge(set);
+        return;
+      }
+      toDense(set.elems != null ? set.elems[set.size-1] : (set.bits.length << BITS) - 1);
+    }
+
+    if (set.elems != null) {
+      int [] e = set.elems;
+      int n = set.size;
+      if (bits.length <= (e[n-1] >> BITS)) resize(e[n-1]);
+      long [] tbits = this.bits;
+      for (int i = 0; i < n; i++) {
+        int s = e[i];
+        long bit = 1L << (s & MASK);
+        if ((tbits[s >> BITS] & bit) == 0) {
+          tbits[s >> BITS] |= bit;
+          size++;
+          hash += mix(s);
+        }
+      }
+      return;
+    }
 
     long tbits[];
     long sbits[] = set.bits;
@@ -166,19 +401,56 @@ final public class StateSet {
     else {
       tbits = this.bits;
     }
-    
+
     for (int i = 0; i < sbitsl; i++) {
-      tbits[i] |= sbits[i];      
+      long nb = sbits[i] & ~tbits[i];
+      if (nb != 0) {
+        tbits[i] |= nb;
+        size += Long.bitCount(nb);
+        hash += mixWord(nb, i);
+      }
     }
 
     this.bits = tbits;
-    
+
     if (DEBUG) {
       Out.dump("StateSet.add("+set+") end"); //$NON-NLS-1$ //$NON-NLS-2$
       Out.dump("Set is : "+this); //$NON-NLS-1$
     }
   }
-  
+
+
+  /**
+   * Adds the elements of sparse set <code>set</code> to sparse set
+   * <code>this</code>.
+   */
+  private void merge(StateSet set) {
+    int [] a = elems;
+    int [] b = set.elems;
+    int na = size;
+    int nb = set.size;
+    int [] r = new int[Math.max(na+nb, 2)];
+    int i = 0, j = 0, n = 0;
+
+    while (i < na && j < nb) {
+      if (a[i] < b[j]) r[n++] = a[i++];
+      else if (a[i] > b[j]) {
+        hash += mix(b[j]);
+        r[n++] = b[j++];
+      }
+      else {
+        r[n++] = a[i++]; j++;
+      }
+    }
+    while (i < na) r[n++] = a[i++];
+    while (j < nb) {
+      hash += mix(b[j]);
+      r[n++] = b[j++];
+    }
+
+    elems = r;
+    size = n;
+  }
 
 
   public boolean containsSet(StateSet set) {
@@ -186,15 +458,24 @@ final public class StateSet {
     if (DEBUG)
       Out.dump("StateSet.containsSet("+set+"), this="+this); //$NON-NLS-1$ //$NON-NLS-2$
 
+    if (set.size > size) return false;
+
+    if (bits == null || set.bits == null) {
+      StateSetEnumerator en = set.states();
+      while (en.hasMoreElements())
+        if (!isElement(en.nextElement())) return false;
+      return true;
+    }
+
     int i;
     int min = Math.min(bits.length, set.bits.length);
-    
-    for (i = 0; i < min; i++) 
+
+    for (i = 0; i < min; i++)
       if ( (bits[i] & set.bits[i]) != set.bits[i] ) return false;
-    
+
     for (i = min; i < set.bits.length; i++)
       if ( set.bits[i] != 0 ) return false;
-    
+
     return true;
   }
 
@@ -212,16 +493,21 @@ final public class StateSet {
 
     if (DEBUG) Out.dump("StateSet.equals("+set+"), this="+this); //$NON-NLS-1$ //$NON-NLS-2$
 
+    if (size != set.size || hash != set.hash) return false;
+
+    if (elems != null) return set.containsSparse(this);
+    if (set.elems != null) return containsSparse(set);
+
     l1 = bits.length;
     l2 = set.bits.length;
 
-    if (l1 <= l2) {      
+    if (l1 <= l2) {
       while (i < l1) {
         if (bits[i] != set.bits[i]) return false;
         i++;
       }
-      
-      while (i < l2) 
+
+      while (i < l2)
         if (set.bits[i++] != 0) return false;
     }
     else {
@@ -229,27 +515,29 @@ final public class StateSet {
         if (bits[i] != set.bits[i]) return false;
         i++;
       }
-      
-      while (i < l1) 
+
+      while (i < l1)
         if (bits[i++] != 0) return false;
     }
 
     return true;
   }
 
-  public int hashCode() {
-    long h = 1234;
-    long [] _bits = bits;
-    int  i = bits.length-1;
 
-    // ignore zero high bits
-    while (i >= 0 && _bits[i] == 0) i--;
+  /**
+   * Returns true iff all elements of sparse set <code>set</code>
+   * are in this set.
+   */
+  private boolean containsSparse(StateSet set) {
+    for (int i = 0; i < set.size; i++)
+      if (!isElement(set.elems[i])) return false;
+    return true;
+  }
 
-    while (i >= 0)
-      h ^= _bits[i--] * i;
 
-    return (int)((h >> 32) ^ h);
-  } 
+  public int hashCode() {
+    return hash;
+  }
 
 
   public StateSetEnumerator states() {
@@ -258,44 +546,92 @@ final public class StateSet {
 
 
   public boolean containsElements() {
-    for (long bit : bits) 
-      if (bit != 0) return true;
-
-    return false;
+    return size > 0;
   }
 
-  
+
   public StateSet copy() {
-    StateSet set = new StateSet();
-    set.bits = new long[bits.length];
-    System.arraycopy(bits, 0, set.bits, 0, bits.length);
-    return set;
+    return new StateSet(this);
+  }
+
+
+  /**
+   * Returns a copy of this set in the representation that
+   * needs less memory. Used for sets that are stored for a
+   * long time and not changed any more.
+   *
+   * @return a new set with the same elements as this set
+   */
+  public StateSet compact() {
+    if (size == 0) return new StateSet(0);
+
+    if (elems != null) {
+      int [] e = new int[size];
+      System.arraycopy(elems, 0, e, 0, size);
+      return sparse(e, size);
+    }
+
+    int words = bits.length;
+    while (bits[words-1] == 0) words--;
+
+    // an int per element vs a long per 64 states
+    if (size <= 2*words) {
+      int [] e = new int[size];
+      int n = 0;
+      StateSetEnumerator en = states();
+      while (en.hasMoreElements()) e[n++] = en.nextElement();
+      return sparse(e, n);
+    }
+
+    StateSet result = new StateSet(0);
+    result.bits = new long[words];
+    System.arraycopy(bits, 0, result.bits, 0, words);
+    result.size = size;
+    result.hash = hash;
+    return result;
   }
 
 
   /**
    * Copy specified StateSet into this.
-   * 
+   *
    * @param set  the state set to copy.
-   */ 
+   */
   public void copy(StateSet set) {
-    
-    if (DEBUG) 
+
+    if (DEBUG)
       Out.dump("StateSet.copy("+set+") start"); //$NON-NLS-1$ //$NON-NLS-2$
 
     if (set == null) {
-      for (int i = 0; i < bits.length; i++) bits[i] = 0;
+      clear();
+      return;
+    }
+
+    if (set.elems != null) {
+      if (bits != null) {
+        clear();
+        add(set);
+      }
+      else {
+        if (elems.length < set.size) elems = new int[set.elems.length];
+        System.arraycopy(set.elems, 0, elems, 0, set.size);
+        size = set.size;
+        hash = set.hash;
+      }
       return;
     }
 
-    if (bits.length < set.bits.length) {
+    if (bits == null || bits.length < set.bits.length) {
       bits = new long[set.bits.length];
+      elems = null;
     }
     else {
       for (int i = set.bits.length; i < bits.length; i++) bits[i] = 0;
     }
 
-    System.arraycopy(set.bits, 0, bits, 0, bits.length);        
+    System.arraycopy(set.bits, 0, bits, 0, set.bits.length);
+    size = set.size;
+    hash = set.hash;
 
     if (DEBUG) {
       Out.dump("StateSet.copy("+set+") end"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -303,7 +639,7 @@ final public class StateSet {
     }
   }
 
-  
+
   public String toString() {
     StateSetEnumerator set = states();
 
@@ -319,5 +655,5 @@ final public class StateSet {
     result.append("}"); //$NON-NLS-1$
 
     return result.toString();
-  }  
+  }
 }
@@ -23,6 +23,11 @@ final public class StateSetEnumerator {
   private long mask;
 
   private long [] bits;
+
+  /** elements of a sparse set (<code>null</code> for dense sets) */
+  private int [] elems;
+  /** number of elements of a sparse set */
+  private int size;
   
   /**
    * creates a new StateSetEnumerator that is not yet associated
@@ -37,6 +42,13 @@ final public class StateSetEnumerator {
   }
 
   public void reset(StateSet states) {
+    elems   = states.elems;
+    if (elems != null) {
+      size  = states.size;
+      index = 0;
+      return;
+    }
+
     bits    = states.bits;
     index   = 0;
     offset  = 0;
@@ -100,11 +112,13 @@ final public class StateSetEnumerator {
 
   public boolean hasMoreElements() {
     if (DEBUG) Out.dump("hasMoreElements, index = "+index+", offset = "+offset); //$NON-NLS-1$ //$NON-NLS-2$
+    if (elems != null) return index < size;
     return index < bits.length;
   }
 
   public int nextElement() {
     if (DEBUG) Out.dump("nextElement, index = "+index+", offset = "+offset); //$NON-NLS-1$ //$NON-NLS-2$
+    if (elems != null) return elems[index++];
     int x = (index << StateSet.BITS) + offset;
     advance();
     return x;
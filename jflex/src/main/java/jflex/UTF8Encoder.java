@@ -0,0 +1,249 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Translates a DFA on character classes into a DFA on the bytes of
+ * the UTF-8 encoding of its input (for <code>%input utf8</code>).
+ *
+ * The states of the character DFA keep their numbers, actions and
+ * entry states. Each of their transitions becomes a path of one to
+ * four byte transitions, through intermediate states that are never
+ * final. An intermediate state reads one continuation byte, it is
+ * determined by its 64 successors, so intermediate states with the same
+ * successors are shared (also between different character states).
+ *
+ * Only valid UTF-8 has transitions: no overlong encodings, no surrogates
+ * and no code points above U+10FFFF or the largest character of the
+ * scanner. The result should be minimized again.
+ *
+ * @author Gerwin Klein
+ * @version JFlex 1.5, $Revision$, $Date$
+ */
+public final class UTF8Encoder {
+
+  /** the largest code point */
+  private static final int MAX_CODE = 0x10FFFF;
+
+  /** the DFA on character classes */
+  private final DFA dfa;
+
+  /** the DFA on bytes */
+  private final DFA result;
+
+  /** the character class intervals of the scanner */
+  private final CharClassInterval [] intervals;
+
+  /** intermediate states by their successors */
+  private final Map<Row,Integer> rows = new HashMap<Row,Integer>();
+
+  /** the next free state number in the result */
+  private int nextState;
+
+  // the transitions of the current character state on code points:
+  // code points runStart[i] to runStart[i+1]-1 (resp. MAX_CODE) go
+  // to runTarget[i]
+  private int [] runStart;
+  private int [] runTarget;
+  private int numRuns;
+
+
+  private UTF8Encoder(DFA dfa, CharClasses classes) {
+    this.dfa = dfa;
+    this.intervals = classes.getIntervals();
+    this.result = new DFA(dfa.context, dfa.entryState.length, 256, dfa.numLexStates);
+    this.runStart = new int [intervals.length+1];
+    this.runTarget = new int [intervals.length+1];
+  }
+
+
+  /**
+   * Returns a DFA that reads the UTF-8 encoding of the input of
+   * <code>dfa</code> byte by byte. Its inputs are the byte values.
+   *
+   * @param dfa      the DFA on character classes
+   * @param classes  the character classes, their codes are the inputs
+   *                 of <code>dfa</code>
+   */
+  public static DFA encode(DFA dfa, CharClasses classes) {
+    return new UTF8Encoder(dfa, classes).encode();
+  }
+
+
+  private DFA encode() {
+    int numStates = dfa.numStates;
+    result.ensureStateCapacity(numStates);
+    result.numStates = numStates;
+    nextState = numStates;
+
+    for (int i = 0; i < dfa.entryState.length; i++)
+      result.setEntryState(i, dfa.entryState[i]);
+
+    int [] lead = new int [256];
+    for (int s = 0; s < numStates; s++) {
+      result.setFinal(s, dfa.isFinal[s]);
+      result.setAction(s, dfa.action[s]);
+
+      if (!dfa.hasTransition(s)) continue;
+
+      computeRuns(s);
+
+      Arrays.fill(lead, DFA.NO_TARGET);
+      for (int b = 0; b < 0x80; b++)
+        lead[b] = targetAt(b);
+      for (int b = 0xC2; b <= 0xDF; b++)
+        lead[b] = node(1, (b & 0x1F) << 6, 0x80);
+      for (int b = 0xE0; b <= 0xEF; b++)
+        lead[b] = node(2, (b & 0x0F) << 12, 0x800);
+      for (int b = 0xF0; b <= 0xF4; b++)
+        lead[b] = node(3, (b & 0x07) << 18, 0x10000);
+
+      // intermediate states have all their transitions by now
+      for (int b = 0; b < 256; b++)
+        if (lead[b] != DFA.NO_TARGET) result.addTransition(s, (char) b, lead[b]);
+    }
+
+    return result;
+  }
+
+
+  /**
+   * Computes the runs of code points of character state <code>s</code>
+   * that have the same target.
+   */
+  private void computeRuns(int s) {
+    numRuns = 0;
+    for (CharClassInterval i : intervals)
+      addRun(i.start, dfa.getTransition(s, i.charClass));
+
+    // characters the scanner does not read
+    int last = intervals[intervals.length-1].end;
+    if (last < MAX_CODE) addRun(last+1, DFA.NO_TARGET);
+  }
+
+  private void addRun(int start, int target) {
+    if (numRuns > 0 && runTarget[numRuns-1] == target) return;
+    runStart[numRuns] = start;
+    runTarget[numRuns] = target;
+    numRuns++;
+  }
+
+  /**
+   * Returns the index of the run that contains code point c.
+   */
+  private int runOf(int c) {
+    int lo = 0;
+    int hi = numRuns-1;
+    while (lo < hi) {
+      int mid = (lo+hi+1) >>> 1;
+      if (runStart[mid] <= c)
+        lo = mid;
+      else
+        hi = mid-1;
+    }
+    return lo;
+  }
+
+  private int targetAt(int c) {
+    return runTarget[runOf(c)];
+  }
+
+
+  /**
+   * Returns the state that reads the last <code>level</code> bytes of
+   * the encodings of the code points <code>base</code> to
+   * <code>base + 64^level - 1</code>, <code>DFA.NO_TARGET</code> if
+   * none of them has a transition.
+   *
+   * @param min  the smallest code point with an encoding of this length,
+   *             smaller ones would be overlong
+   */
+  private int node(int level, int base, int min) {
+    if (level == 0) return targetAt(base);
+
+    int size = 1 << 6*level;
+    int end = base+size-1;
+
+    // blocks are aligned, so they are either completely invalid or
+    // not at all, or they contain smaller blocks that are
+    if (end < min || base > MAX_CODE) return DFA.NO_TARGET;
+    if (base >= 0xD800 && end <= 0xDFFF) return DFA.NO_TARGET;
+
+    int run = runOf(base);
+    boolean uniform =
+      (run+1 == numRuns ? MAX_CODE : runStart[run+1]-1) >= end &&
+      base >= min && (end < 0xD800 || base > 0xDFFF);
+
+    if (uniform) return uniform(level, runTarget[run]);
+
+    int [] next = new int [64];
+    for (int k = 0; k < 64; k++)
+      next[k] = node(level-1, base + (k << 6*(level-1)), min);
+    return intern(next);
+  }
+
+  /**
+   * Returns the state that reads <code>level</code> arbitrary continuation
+   * bytes and then goes to <code>target</code>.
+   */
+  private int uniform(int level, int target) {
+    if (level == 0 || target == DFA.NO_TARGET) return target;
+
+    int [] next = new int [64];
+    Arrays.fill(next, uniform(level-1, target));
+    return intern(next);
+  }
+
+  /**
+   * Returns the intermediate state with successors <code>next</code> on
+   * the continuation bytes 0x80 to 0xBF, adds it to the result if it
+   * is new.
+   */
+  private int intern(int [] next) {
+    boolean empty = true;
+    for (int t : next) empty &= t == DFA.NO_TARGET;
+    if (empty) return DFA.NO_TARGET;
+
+    Row row = new Row(next);
+    Integer state = rows.get(row);
+    if (state != null) return state;
+
+    int s = nextState++;
+    rows.put(row, s);
+    for (int k = 0; k < 64; k++)
+      if (next[k] != DFA.NO_TARGET) result.addTransition(s, (char) (0x80+k), next[k]);
+    return s;
+  }
+
+
+  /** The successors of an intermediate state, as hash key */
+  private static final class Row {
+    final int [] next;
+    final int hash;
+
+    Row(int [] next) {
+      this.next = next;
+      this.hash = Arrays.hashCode(next);
+    }
+
+    public int hashCode() {
+      return hash;
+    }
+
+    public boolean equals(Object o) {
+      return o instanceof Row && Arrays.equals(next, ((Row) o).next);
+    }
+  }
+}
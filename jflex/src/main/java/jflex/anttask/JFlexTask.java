@@ -206,6 +206,22 @@ public class JFlexTask extends Task {
   	Options.no_minimize = b;
   }
 
+  public void setPardfa(boolean b) {
+    Options.parallel_dfa = b;
+  }
+
+  public void setSparsemin(boolean b) {
+    Options.sparse_minimize = b;
+  }
+
+  public void setParmin(boolean b) {
+    Options.parallel_minimize = b;
+  }
+
+  public void setGlushkov(boolean b) {
+    Options.glushkov = b;
+  }
+
   public void setNobak(boolean b) {
     Options.no_backup = b;
   }
@@ -228,6 +244,15 @@ public class JFlexTask extends Task {
     }
   }
 
+  public void setLazy(boolean b) {
+    if (b) {
+      Options.gen_method = Options.LAZY;
+    }
+    else {
+      Options.gen_method = Options.PACK;
+    }
+  }
+
   public void setPack(boolean b) {
     if (b) {
       Options.gen_method = Options.PACK;
@@ -23,9 +23,6 @@ import java.io.File;
  */
 public class GeneratorThread extends Thread {
 
-  /** there must be at most one instance of this Thread running */
-	private static volatile boolean running = false;
-
 	/** input file setting from GUI */
 	String  inputFile;
 
@@ -51,31 +48,21 @@ public class GeneratorThread extends Thread {
 
 
 	/**
-	 * Run the generator thread. Only one instance of it can run at any time.
+	 * Run the generator thread. 
 	 */
   public void run() {
-  	if (running) {
-  		Out.error(ErrorMessages.ALREADY_RUNNING);
-			parent.generationFinished(false);
-  	}
-  	else {
-  		running = true;
-			setPriority(MIN_PRIORITY);    
-			try {
-        if (!outputDir.equals("")) {
-          Options.setDir(outputDir);
-        }
-				Main.generate(new File(inputFile));
-				Out.statistics();
-				parent.generationFinished(true);
-			}
-			catch (GeneratorException e) {
-				Out.statistics();
-				parent.generationFinished(false);
-			}
-      finally {
-        running = false;
+		setPriority(MIN_PRIORITY);    
+		try {
+      if (!outputDir.equals("")) {
+        Options.setDir(outputDir);
       }
-  	}
+			Main.generate(new File(inputFile));
+			Out.statistics();
+			parent.generationFinished(true);
+		}
+		catch (GeneratorException e) {
+			Out.statistics();
+			parent.generationFinished(false);
+		}
   }
 }
@@ -20,14 +20,22 @@
 
 package jflex.unicode;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import jflex.CharClasses;
+import jflex.ErrorMessages;
+import jflex.GeneratorException;
 import jflex.IntCharSet;
-import jflex.Interval;
-import jflex.unicode.data.*;
+import jflex.IntervalSet;
+import jflex.IntervalSetCache;
+import jflex.Out;
 
 
 
@@ -68,12 +76,20 @@ public class UnicodeProperties {
 
   private static final Pattern WORD_SEP_PATTERN = Pattern.compile("[-_\\s()]");
 
+  private String version;
   private int maximumCodePoint;
-  private Map<String,IntCharSet> propertyValueIntervals
-    = new HashMap<String,IntCharSet>();
-  private String caselessMatchPartitions;
-  private int caselessMatchPartitionSize;
-  private IntCharSet caselessMatches[];
+  private UnicodePropertyData data;
+  private IntervalSet[] unpackedIntervals;
+  private Map<String,int[]> propertyValueSources
+    = new HashMap<String,int[]>();
+  private Map<String,IntervalSet> propertyValueIntervals
+    = new HashMap<String,IntervalSet>();
+  private int[] caselessChars;
+  private IntervalSet[] caselessPartitions;
+  private Map<String,IntervalSet> complementIntervals
+    = new HashMap<String,IntervalSet>();
+  private Map<IntervalSet,IntervalSet> caselessClosures
+    = new HashMap<IntervalSet,IntervalSet>();
 
   /**
    * Unpacks the Unicode data corresponding to the default Unicode version:
@@ -107,6 +123,15 @@ public class UnicodeProperties {
     return maximumCodePoint;
   }
 
+  /**
+   * Returns the selected Unicode version, in major.minor form.
+   *
+   * @return the selected Unicode version.
+   */
+  public String getVersion() {
+    return version;
+  }
+
   /**
    * Returns the character interval set associated with the given property value
    * for the selected Unicode version.
@@ -117,7 +142,42 @@ public class UnicodeProperties {
    *  value, if a match exists, and null otherwise.
    */
   public IntCharSet getIntCharSet(String propertyValue) {
-    return propertyValueIntervals.get(normalize(propertyValue));
+    IntervalSet set = getIntervalSet(propertyValue);
+    return null == set ? null : new IntCharSet(set);
+  }
+
+  /**
+   * Returns the immutable character interval set associated with the given
+   * property value for the selected Unicode version. The returned set is
+   * shared, not copied.
+   * <p/>
+   * The intervals of a property value are unpacked on its first lookup.
+   * Unpacked sets are shared between all instances for the same Unicode
+   * version via {@link IntervalSetCache#SHARED}.
+   *
+   * @param propertyValue The Unicode property or property value (or alias for
+   *  one of these) for which to return the corresponding character intervals.
+   * @return The character interval set corresponding to the given property
+   *  value, if a match exists, and null otherwise.
+   */
+  public IntervalSet getIntervalSet(String propertyValue) {
+    String name = normalize(propertyValue);
+    IntervalSet set = propertyValueIntervals.get(name);
+    if (null == set) {
+      int[] sources = propertyValueSources.get(name);
+      if (null == sources)
+        return null;
+      List<Object> key = Arrays.<Object>asList(version, name);
+      set = IntervalSetCache.SHARED.get(key);
+      if (null == set) {
+        set = IntervalSet.EMPTY;
+        for (int n : sources)
+          set = set.union(unpackIntervals(n));
+        IntervalSetCache.SHARED.put(key, set);
+      }
+      propertyValueIntervals.put(name, set);
+    }
+    return set;
   }
 
   /**
@@ -128,7 +188,38 @@ public class UnicodeProperties {
    *  version
    */
   public Set<String> getPropertyValues() {
-    return propertyValueIntervals.keySet();
+    Set<String> propertyValues = new HashSet<String>(propertyValueSources.keySet());
+    propertyValues.addAll(propertyValueIntervals.keySet());
+    return propertyValues;
+  }
+
+  /**
+   * Returns the immutable set of all characters up to U+10FFFF that do not
+   * have the given property value, i.e. the complement of
+   * {@link #getIntervalSet(String)}. Complements are shared like the
+   * property sets themselves.
+   *
+   * @param propertyValue The Unicode property or property value (or alias for
+   *  one of these) for which to return the complement.
+   * @return The characters without the given property value, if the
+   *  property value exists, and null otherwise.
+   */
+  public IntervalSet getComplementIntervalSet(String propertyValue) {
+    String name = normalize(propertyValue);
+    IntervalSet complement = complementIntervals.get(name);
+    if (null == complement) {
+      IntervalSet set = getIntervalSet(propertyValue);
+      if (null == set)
+        return null;
+      List<Object> key = Arrays.<Object>asList(version, "complement", name);
+      complement = IntervalSetCache.SHARED.get(key);
+      if (null == complement) {
+        complement = set.complement(CharClasses.maxChar);
+        IntervalSetCache.SHARED.put(key, complement);
+      }
+      complementIntervals.put(name, complement);
+    }
+    return complement;
   }
 
   /**
@@ -142,37 +233,104 @@ public class UnicodeProperties {
    * @return All case-insensitively equivalent characters, or null
    *  if the given character is case-insensitively equivalent only to itself.
    */
-  public IntCharSet getCaselessMatches(char c) {
-    if (null == caselessMatches)
+  public IntCharSet getCaselessMatches(int c) {
+    IntervalSet set = getCaselessIntervalSet(c);
+    return null == set ? null : new IntCharSet(set);
+  }
+
+  /**
+   * Returns the immutable set of all characters that are case-insensitively
+   * equivalent to the given character, including the given character itself.
+   * <p/>
+   * The first call to this method lazily initializes the backing data.
+   *
+   * @param c The character for which to return case-insensitive equivalents.
+   * @return All case-insensitively equivalent characters, or null
+   *  if the given character is case-insensitively equivalent only to itself.
+   */
+  public IntervalSet getCaselessIntervalSet(int c) {
+    if (null == caselessChars)
       initCaselessMatches();
-    return caselessMatches[c];
+    int i = Arrays.binarySearch(caselessChars, c);
+    return i >= 0 ? caselessPartitions[i] : null;
   }
 
   /**
-   * Unpacks the caseless match data. Called from
-   * {@link #getCaselessMatches(char)} to lazily initialize.
+   * Returns the immutable set of all characters that are case-insensitively
+   * equivalent to some character of the given set, including the characters
+   * of the set itself.
+   * <p/>
+   * Results are cached, also across instances via
+   * {@link IntervalSetCache#SHARED}, so repeated requests for the same set
+   * (e.g. the same property class in a %caseless spec) are computed only once.
+   *
+   * @param set The characters for which to return case-insensitive
+   *  equivalents.
+   * @return The caseless closure of the given set.
    */
-  private void initCaselessMatches() {
-    caselessMatches = new IntCharSet[maximumCodePoint + 1];
-    int[] members = new int[caselessMatchPartitionSize];
-    for (int index = 0 ; index < caselessMatchPartitions.length() ; ) {
-      IntCharSet partition = new IntCharSet();
-      for (int n = 0 ; n < caselessMatchPartitionSize ; ++n) {
-        int c = caselessMatchPartitions.codePointAt(index);
-        index += (c <= 0xFFFF ? 1 : 2);
-        members[n] = c;
-        //TODO: Remove BMP boundary condition
-        if (c > 0 && c <= 0xFFFF)
-          //TODO: Change the character type from char to int
-          partition.add((char)c);
-      }
-      if (partition.containsElements()) {
-        for (int n = 0 ; n < caselessMatchPartitionSize ; ++n) {
-          if (members[n] > 0)
-            caselessMatches[members[n]] = partition;
+  public IntervalSet getCaselessClosure(IntervalSet set) {
+    IntervalSet closure = caselessClosures.get(set);
+    if (null == closure) {
+      List<Object> key = Arrays.<Object>asList(version, "caseless", set);
+      closure = IntervalSetCache.SHARED.get(key);
+      if (null == closure) {
+        if (null == caselessChars)
+          initCaselessMatches();
+        IntervalSet.Builder builder = new IntervalSet.Builder();
+        builder.add(set);
+        for (int i = 0 ; i < set.numIntervals() ; ++i) {
+          int k = Arrays.binarySearch(caselessChars, set.start(i));
+          if (k < 0)
+            k = -k - 1;
+          for ( ; k < caselessChars.length && caselessChars[k] <= set.end(i) ; ++k)
+            builder.add(caselessPartitions[k]);
         }
+        closure = builder.build();
+        IntervalSetCache.SHARED.put(key, closure);
+      }
+      caselessClosures.put(set, closure);
+    }
+    return closure;
+  }
+
+  /**
+   * Unpacks the caseless match data into a sparse index: the sorted array
+   * {@link #caselessChars} of all characters with case-insensitive
+   * equivalents, and their partitions in {@link #caselessPartitions}.
+   * Called from {@link #getCaselessIntervalSet(int)} to lazily initialize.
+   */
+  private void initCaselessMatches() {
+    int[][] partitionMembers = data.getCaselessMatchPartitions();
+    IntervalSet[] partitions = new IntervalSet[partitionMembers.length];
+    int numEntries = 0;
+    for (int[] members : partitionMembers)
+      numEntries += members.length;
+    // (character << 32 | partition index) for all partition members
+    long[] entries = new long[numEntries];
+    numEntries = 0;
+    for (int p = 0 ; p < partitionMembers.length ; ++p) {
+      IntervalSet.Builder builder
+        = new IntervalSet.Builder(partitionMembers[p].length);
+      for (int c : partitionMembers[p]) {
+        builder.add(c);
+        entries[numEntries++] = ((long) c << 32) | p;
       }
+      partitions[p] = builder.build();
+    }
+    Arrays.sort(entries);
+    caselessChars = new int[numEntries];
+    caselessPartitions = new IntervalSet[numEntries];
+    int size = 0;
+    for (int i = 0 ; i < numEntries ; ++i) {
+      int c = (int) (entries[i] >>> 32);
+      // a character listed in several partitions belongs to the last one
+      if (size == 0 || caselessChars[size - 1] != c)
+        ++size;
+      caselessChars[size - 1] = c;
+      caselessPartitions[size - 1] = partitions[(int) entries[i]];
     }
+    caselessChars = Arrays.copyOf(caselessChars, size);
+    caselessPartitions = Arrays.copyOf(caselessPartitions, size);
   }
 
   /**
@@ -186,41 +344,29 @@ public class UnicodeProperties {
   private void init(String version) throws UnsupportedUnicodeVersionException {
 
     if (version.equals("1.1") || version.equals("1.1.5")) {
-      bind(Unicode_1_1.propertyValues, Unicode_1_1.intervals, Unicode_1_1.propertyValueAliases,
-         Unicode_1_1.maximumCodePoint, Unicode_1_1.caselessMatchPartitions, Unicode_1_1.caselessMatchPartitionSize);
+      bindResource("1.1", "Unicode_1_1");
     } else if (version.equals("2") || version.equals("2.0") || version.equals("2.0.14")) {
-      bind(Unicode_2_0.propertyValues, Unicode_2_0.intervals, Unicode_2_0.propertyValueAliases,
-         Unicode_2_0.maximumCodePoint, Unicode_2_0.caselessMatchPartitions, Unicode_2_0.caselessMatchPartitionSize);
+      bindResource("2.0", "Unicode_2_0");
     } else if (version.equals("2.1") || version.equals("2.1.9")) {
-      bind(Unicode_2_1.propertyValues, Unicode_2_1.intervals, Unicode_2_1.propertyValueAliases,
-         Unicode_2_1.maximumCodePoint, Unicode_2_1.caselessMatchPartitions, Unicode_2_1.caselessMatchPartitionSize);
+      bindResource("2.1", "Unicode_2_1");
     } else if (version.equals("3") || version.equals("3.0") || version.equals("3.0.1")) {
-      bind(Unicode_3_0.propertyValues, Unicode_3_0.intervals, Unicode_3_0.propertyValueAliases,
-         Unicode_3_0.maximumCodePoint, Unicode_3_0.caselessMatchPartitions, Unicode_3_0.caselessMatchPartitionSize);
+      bindResource("3.0", "Unicode_3_0");
     } else if (version.equals("3.1") || version.equals("3.1.0")) {
-      bind(Unicode_3_1.propertyValues, Unicode_3_1.intervals, Unicode_3_1.propertyValueAliases,
-         Unicode_3_1.maximumCodePoint, Unicode_3_1.caselessMatchPartitions, Unicode_3_1.caselessMatchPartitionSize);
+      bindResource("3.1", "Unicode_3_1");
     } else if (version.equals("3.2") || version.equals("3.2.0")) {
-      bind(Unicode_3_2.propertyValues, Unicode_3_2.intervals, Unicode_3_2.propertyValueAliases,
-         Unicode_3_2.maximumCodePoint, Unicode_3_2.caselessMatchPartitions, Unicode_3_2.caselessMatchPartitionSize);
+      bindResource("3.2", "Unicode_3_2");
     } else if (version.equals("4") || version.equals("4.0") || version.equals("4.0.1")) {
-      bind(Unicode_4_0.propertyValues, Unicode_4_0.intervals, Unicode_4_0.propertyValueAliases,
-         Unicode_4_0.maximumCodePoint, Unicode_4_0.caselessMatchPartitions, Unicode_4_0.caselessMatchPartitionSize);
+      bindResource("4.0", "Unicode_4_0");
     } else if (version.equals("4.1") || version.equals("4.1.0")) {
-      bind(Unicode_4_1.propertyValues, Unicode_4_1.intervals, Unicode_4_1.propertyValueAliases,
-         Unicode_4_1.maximumCodePoint, Unicode_4_1.caselessMatchPartitions, Unicode_4_1.caselessMatchPartitionSize);
+      bindResource("4.1", "Unicode_4_1");
     } else if (version.equals("5") || version.equals("5.0") || version.equals("5.0.0")) {
-      bind(Unicode_5_0.propertyValues, Unicode_5_0.intervals, Unicode_5_0.propertyValueAliases,
-         Unicode_5_0.maximumCodePoint, Unicode_5_0.caselessMatchPartitions, Unicode_5_0.caselessMatchPartitionSize);
+      bindResource("5.0", "Unicode_5_0");
     } else if (version.equals("5.1") || version.equals("5.1.0")) {
-      bind(Unicode_5_1.propertyValues, Unicode_5_1.intervals, Unicode_5_1.propertyValueAliases,
-         Unicode_5_1.maximumCodePoint, Unicode_5_1.caselessMatchPartitions, Unicode_5_1.caselessMatchPartitionSize);
+      bindResource("5.1", "Unicode_5_1");
     } else if (version.equals("5.2") || version.equals("5.2.0")) {
-      bind(Unicode_5_2.propertyValues, Unicode_5_2.intervals, Unicode_5_2.propertyValueAliases,
-         Unicode_5_2.maximumCodePoint, Unicode_5_2.caselessMatchPartitions, Unicode_5_2.caselessMatchPartitionSize);
+      bindResource("5.2", "Unicode_5_2");
     } else if (version.equals("6") || version.equals("6.0") || version.equals("6.0.0")) {
-      bind(Unicode_6_0.propertyValues, Unicode_6_0.intervals, Unicode_6_0.propertyValueAliases,
-         Unicode_6_0.maximumCodePoint, Unicode_6_0.caselessMatchPartitions, Unicode_6_0.caselessMatchPartitionSize);
+      bindResource("6.0", "Unicode_6_0");
     } else {
       throw new UnsupportedUnicodeVersionException();
     }
@@ -228,80 +374,85 @@ public class UnicodeProperties {
   }
 
   /**
-   * Unpacks data for the selected Unicode version, populating
-   * {@link #propertyValueIntervals}.
+   * Binds data for the selected Unicode version, populating
+   * {@link #propertyValueSources}. Intervals are unpacked on demand by
+   * {@link #unpackIntervals(int)}.
    *
-   * @param propertyValues The list of property values, in same order as the
-   *  packed data corresponding to them, in the given intervals, for the
-   *  selected Unicode version.
-   * @param intervals The packed character intervals corresponding to and in the
-   *  same order as the given propertyValues, for the selected Unicode version.
-   * @param propertyValueAliases Key/value pairs mapping property value aliases
-   *  to property values, for the selected Unicode version.
-   * @param maximumCodePoint The maximum code point for the selected Unicode
-   *  version.
-   * @param caselessMatchPartitions The packed caseless match partition data for
-   *  the selected Unicode version
-   * @param caselessMatchPartitionSize The partition data record length (the
-   *  maximum number of elements in a caseless match partition) for the selected
-   *  Unicode version.
+   * @param version The selected Unicode version, in major.minor form.
+   * @param data The property data for the selected Unicode version.
    */
-  private void bind(String[] propertyValues, String[] intervals,
-                    String[] propertyValueAliases, int maximumCodePoint,
-                    String caselessMatchPartitions, int caselessMatchPartitionSize) {
-    // IntCharSet caselessMatches[] is lazily initialized - don't unpack here
-    this.caselessMatchPartitions = caselessMatchPartitions;
-    this.caselessMatchPartitionSize = caselessMatchPartitionSize;
-    this.maximumCodePoint = maximumCodePoint;
+  private void bind(String version, UnicodePropertyData data) {
+    // intervals and the caseless index are lazily unpacked - not here
+    this.data = data;
+    this.version = version;
+    this.maximumCodePoint = data.maximumCodePoint;
+    String[] propertyValues = data.propertyValues;
+    String[] propertyValueAliases = data.propertyValueAliases;
+    this.unpackedIntervals = new IntervalSet[propertyValues.length];
     for (int n = 0 ; n < propertyValues.length ; ++n) {
       String propertyValue = propertyValues[n];
-      String propertyIntervals = intervals[n];
-      IntCharSet set = new IntCharSet();
-      for (int index = 0 ; index < propertyIntervals.length() ; ) {
-        int start = propertyIntervals.codePointAt(index);
-        index += (start <= 0xFFFF ? 1 : 2);
-        int end = propertyIntervals.codePointAt(index);
-        index += (end <= 0xFFFF ? 1 : 2);
-        //TODO: Remove BMP boundary condition
-        if (start <= 0xFFFF) {
-          //TODO: Change the character type from char to int and remove boundary condition
-          set.add(new Interval((char)start, (char)Math.min(end, 0xFFFF)));
-        }
-      }
-      propertyValueIntervals.put(propertyValue, set);
+      propertyValueSources.put(propertyValue, new int[] { n });
       if (2 == propertyValue.length()) {
         String singleLetter = propertyValue.substring(0, 1);
-        IntCharSet singleLetterPropValueSet
-          = propertyValueIntervals.get(singleLetter);
-        if (null == singleLetterPropValueSet) {
-          singleLetterPropValueSet = new IntCharSet();
-          propertyValueIntervals.put(singleLetter, singleLetterPropValueSet);
+        int[] singleLetterSources = propertyValueSources.get(singleLetter);
+        if (null == singleLetterSources) {
+          singleLetterSources = new int[0];
         }
-        singleLetterPropValueSet.add(set);
+        singleLetterSources
+          = Arrays.copyOf(singleLetterSources, singleLetterSources.length + 1);
+        singleLetterSources[singleLetterSources.length - 1] = n;
+        propertyValueSources.put(singleLetter, singleLetterSources);
       }
     }
     for (int n = 0 ; n < propertyValueAliases.length ; n += 2) {
       String alias = propertyValueAliases[n];
       String propertyValue = propertyValueAliases[n + 1];
-      IntCharSet targetSet = propertyValueIntervals.get(propertyValue);
-      if (null != targetSet) {
-        propertyValueIntervals.put(alias, targetSet);
+      int[] targetSources = propertyValueSources.get(propertyValue);
+      if (null != targetSources) {
+        propertyValueSources.put(alias, targetSources);
       }
     }
     bindInvariantIntervals();
   }
 
+  /**
+   * Reads the binary property data resource for the selected Unicode
+   * version, and binds it.
+   *
+   * @param version The selected Unicode version, in major.minor form.
+   * @param dataName The name of the resource in jflex/unicode/data/,
+   *  without extension.
+   */
+  private void bindResource(String version, String dataName) {
+    try {
+      bind(version, UnicodePropertyData.read(dataName));
+    } catch (IOException e) {
+      Out.error(ErrorMessages.UNICODE_DATA_IO_ERROR, dataName);
+      throw new GeneratorException();
+    }
+  }
+
+  /**
+   * Unpacks the character intervals of the n-th property value of the
+   * selected Unicode version, on first use.
+   *
+   * @param n The index of the property value in the bound data
+   * @return The character intervals of the property value
+   */
+  private IntervalSet unpackIntervals(int n) {
+    if (null == unpackedIntervals[n])
+      unpackedIntervals[n] = data.getIntervals(n);
+    return unpackedIntervals[n];
+  }
+
   /**
    * Adds intervals for \p{ASCII} and \p{Any} to {@link #propertyValueIntervals}.
    */
   private void bindInvariantIntervals() {
-    //TODO: Change the character type from char to int
-    IntCharSet asciiSet = new IntCharSet(new Interval('\000', '\u007F'));
+    IntervalSet asciiSet = IntervalSet.of(0, 0x7F);
     propertyValueIntervals.put(normalize("ASCII"), asciiSet);
 
-    //TODO: Change the character type from char to int
-    //TODO: End of interval should be maximumCodePoint instead of '\uFFFF'
-    IntCharSet anySet = new IntCharSet(new Interval('\000', '\uFFFF'));
+    IntervalSet anySet = IntervalSet.of(0, maximumCodePoint);
     propertyValueIntervals.put(normalize("Any"), anySet);
   }
 
@@ -0,0 +1,276 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex.unicode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import jflex.IntervalSet;
+
+
+/**
+ * The property data of one Unicode version, as bound by
+ * {@link UnicodeProperties}.
+ *
+ * The data comes either from the String constants of a generated class
+ * <code>jflex.unicode.data.Unicode_X_Y</code>, or from a binary resource
+ * <code>jflex/unicode/data/Unicode_X_Y.bin</code>, both written by
+ * jflex-unicode-maven-plugin. The binary form is a fraction of the size
+ * of the class, needs no class loading or verification, and is indexed,
+ * so that the intervals of a property value are decoded on first use only.
+ *
+ * <p>In the binary form, all numbers are unsigned LEB128 varints, and
+ * strings are UTF-8, prefixed with their length in bytes:
+ * <pre>
+ *   "JFUD", format version             (4 bytes, 1 byte)
+ *   digest of the Unicode data files   (string, may be empty)
+ *   maximum code point
+ *   n, n property values               (strings)
+ *   m, m alias/property value pairs    (strings)
+ *   n lengths of the interval records  (in bytes)
+ *   n interval records: number of intervals, then for each interval
+ *     the number of characters between it and the previous interval,
+ *     and its length - 1
+ *   number of caseless match partitions, then for each partition
+ *     its size, and for each member, in ascending order, the number of
+ *     characters between it and the previous member (or -1)
+ * </pre>
+ *
+ * @author Gerwin Klein
+ * @version JFlex 1.5, $Revision$, $Date$
+ */
+final class UnicodePropertyData {
+
+  /** first bytes of the binary form: "JFUD" */
+  static final int MAGIC = 0x4A465544;
+
+  /** the binary format version this class reads */
+  static final int FORMAT_VERSION = 1;
+
+  final int maximumCodePoint;
+  final String[] propertyValues;
+  final String[] propertyValueAliases;
+
+  /* String constant form */
+  private String[] packedIntervals;
+  private String packedCaselessMatchPartitions;
+  private int caselessMatchPartitionSize;
+
+  /* binary form */
+  private byte[] data;
+  /* intervalOffsets[n] is the start of the n-th interval record in data;
+     the caseless match partitions start at intervalOffsets[n+1] */
+  private int[] intervalOffsets;
+
+
+  /**
+   * Wraps the String constants of a generated Unicode data class.
+   *
+   * @param propertyValues The property values, in the same order as the
+   *  given intervals.
+   * @param intervals The packed character intervals of each property value.
+   * @param propertyValueAliases Key/value pairs mapping property value
+   *  aliases to property values.
+   * @param maximumCodePoint The maximum code point.
+   * @param caselessMatchPartitions The packed caseless match partitions,
+   *  padded with \u0000 to the partition size.
+   * @param caselessMatchPartitionSize The size of each partition record.
+   */
+  UnicodePropertyData(String[] propertyValues, String[] intervals,
+                      String[] propertyValueAliases, int maximumCodePoint,
+                      String caselessMatchPartitions,
+                      int caselessMatchPartitionSize) {
+    this.propertyValues = propertyValues;
+    this.packedIntervals = intervals;
+    this.propertyValueAliases = propertyValueAliases;
+    this.maximumCodePoint = maximumCodePoint;
+    this.packedCaselessMatchPartitions = caselessMatchPartitions;
+    this.caselessMatchPartitionSize = caselessMatchPartitionSize;
+  }
+
+  /**
+   * Reads the header and index of the binary form. Interval records are
+   * decoded later, on demand.
+   *
+   * @param data The binary form
+   * @throws IOException if the data is not in the expected format
+   */
+  private UnicodePropertyData(byte[] data) throws IOException {
+    this.data = data;
+    Cursor in = new Cursor(data, 0);
+
+    if (data.length < 5 || MAGIC != ((data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16
+                                     | (data[2] & 0xFF) << 8 | (data[3] & 0xFF)))
+      throw new IOException("not a Unicode property data file");
+    if (FORMAT_VERSION != data[4])
+      throw new IOException("unsupported Unicode property data format " + data[4]);
+    in.pos = 5;
+
+    in.readString(); // digest of the data files, only used by the plugin
+    maximumCodePoint = in.readInt();
+
+    propertyValues = new String[in.readInt()];
+    for (int n = 0 ; n < propertyValues.length ; ++n)
+      propertyValues[n] = in.readString();
+
+    propertyValueAliases = new String[2 * in.readInt()];
+    for (int n = 0 ; n < propertyValueAliases.length ; ++n)
+      propertyValueAliases[n] = in.readString();
+
+    intervalOffsets = new int[propertyValues.length + 1];
+    int[] lengths = new int[propertyValues.length];
+    for (int n = 0 ; n < lengths.length ; ++n)
+      lengths[n] = in.readInt();
+    intervalOffsets[0] = in.pos;
+    for (int n = 0 ; n < lengths.length ; ++n)
+      intervalOffsets[n + 1] = intervalOffsets[n] + lengths[n];
+
+    if (intervalOffsets[lengths.length] > data.length)
+      throw new IOException("truncated Unicode property data");
+  }
+
+  /**
+   * Reads the binary Unicode data resource with the given name from
+   * <code>jflex/unicode/data/</code>.
+   *
+   * @param name The name of the resource, without extension,
+   *  e.g. "Unicode_6_0"
+   * @return The data, with interval records not yet decoded
+   * @throws IOException if the resource is missing or malformed
+   */
+  static UnicodePropertyData read(String name) throws IOException {
+    String resource = "data/" + name + ".bin";
+    InputStream stream = UnicodePropertyData.class.getResourceAsStream(resource);
+    if (null == stream)
+      throw new FileNotFoundException(resource);
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 16);
+      byte[] buf = new byte[1 << 14];
+      int bytesRead;
+      while ((bytesRead = stream.read(buf)) > 0)
+        out.write(buf, 0, bytesRead);
+      return new UnicodePropertyData(out.toByteArray());
+    } finally {
+      stream.close();
+    }
+  }
+
+  /**
+   * Decodes the character intervals of the n-th property value.
+   *
+   * @param n The index of the property value in {@link #propertyValues}
+   * @return The character intervals of the property value
+   */
+  IntervalSet getIntervals(int n) {
+    if (null == data) {
+      String propertyIntervals = packedIntervals[n];
+      IntervalSet.Builder builder = new IntervalSet.Builder();
+      for (int index = 0 ; index < propertyIntervals.length() ; ) {
+        int start = propertyIntervals.codePointAt(index);
+        index += Character.charCount(start);
+        int end = propertyIntervals.codePointAt(index);
+        index += Character.charCount(end);
+        builder.add(start, end);
+      }
+      return builder.build();
+    }
+
+    Cursor in = new Cursor(data, intervalOffsets[n]);
+    int numIntervals = in.readInt();
+    IntervalSet.Builder builder = new IntervalSet.Builder(numIntervals);
+    int end = -1;
+    for (int i = 0 ; i < numIntervals ; ++i) {
+      int start = end + 1 + in.readInt();
+      end = start + in.readInt();
+      builder.add(start, end);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Decodes the caseless match partitions: sets of at least two
+   * characters that are case-insensitively equivalent to each other.
+   *
+   * @return The members of each partition, in ascending order
+   */
+  int[][] getCaselessMatchPartitions() {
+    List<int[]> partitions = new ArrayList<int[]>();
+
+    if (null == data) {
+      String packed = packedCaselessMatchPartitions;
+      int[] members = new int[caselessMatchPartitionSize];
+      for (int index = 0 ; index < packed.length() ; ) {
+        int size = 0;
+        for (int n = 0 ; n < caselessMatchPartitionSize ; ++n) {
+          int c = packed.codePointAt(index);
+          index += Character.charCount(c);
+          if (c > 0)  // \u0000 pads partitions to the record size
+            members[size++] = c;
+        }
+        if (size > 0) {
+          int[] partition = new int[size];
+          System.arraycopy(members, 0, partition, 0, size);
+          partitions.add(partition);
+        }
+      }
+    } else {
+      Cursor in = new Cursor(data, intervalOffsets[propertyValues.length]);
+      int numPartitions = in.readInt();
+      for (int p = 0 ; p < numPartitions ; ++p) {
+        int[] partition = new int[in.readInt()];
+        int c = -1;
+        for (int n = 0 ; n < partition.length ; ++n) {
+          c += 1 + in.readInt();
+          partition[n] = c;
+        }
+        partitions.add(partition);
+      }
+    }
+
+    return partitions.toArray(new int[partitions.size()][]);
+  }
+
+
+  /**
+   * Reads varints and strings from the binary form.
+   */
+  private static final class Cursor {
+    private final byte[] data;
+    int pos;
+
+    Cursor(byte[] data, int pos) {
+      this.data = data;
+      this.pos = pos;
+    }
+
+    int readInt() {
+      int result = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[pos++];
+        result |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      return result;
+    }
+
+    String readString() throws IOException {
+      int length = readInt();
+      String result = new String(data, pos, length, "UTF-8");
+      pos += length;
+      return result;
+    }
+  }
+}
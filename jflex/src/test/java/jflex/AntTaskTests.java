@@ -102,6 +102,30 @@ public class AntTaskTests extends TestCase {
     assertTrue(Options.no_minimize);
   }
 
+  public void testPardfa() {
+    assertTrue(!Options.parallel_dfa);
+    task.setPardfa(true);
+    assertTrue(Options.parallel_dfa);
+  }
+
+  public void testSparsemin() {
+    assertTrue(!Options.sparse_minimize);
+    task.setSparsemin(true);
+    assertTrue(Options.sparse_minimize);
+  }
+
+  public void testParmin() {
+    assertTrue(!Options.parallel_minimize);
+    task.setParmin(true);
+    assertTrue(Options.parallel_minimize);
+  }
+
+  public void testGlushkov() {
+    assertTrue(!Options.glushkov);
+    task.setGlushkov(true);
+    assertTrue(Options.glushkov);
+  }
+
   public void testNobak() {
     assertTrue(!Options.no_backup);
     task.setNobak(true);
@@ -113,6 +137,8 @@ public class AntTaskTests extends TestCase {
     assertEquals(Options.SWITCH, Options.gen_method);
     task.setTable(true);
     assertEquals(Options.TABLE, Options.gen_method);
+    task.setLazy(true);
+    assertEquals(Options.LAZY, Options.gen_method);
     task.setPack(true);
     assertEquals(Options.PACK, Options.gen_method);
   }
@@ -106,4 +106,49 @@ public class CharClassesTest extends TestCase {
     assertEquals("{ ['A'-'C']['H'-'O']['a'-'c']['h'-'o'][304-305][8490] }",
                  set.getCaseless(unicodeProperties).toString());
   }
+  public void testPartition() {
+    CharClasses classes = new CharClasses(127, null);
+    classes.makeClass(new IntCharSet(new Interval('a','z')), false);
+    classes.makeClass(new IntCharSet(new Interval('0','9')), false);
+    classes.makeClass(new IntCharSet(new Interval('x','z')), false);
+    classes.check();
+    assertEquals(4, classes.getNumClasses());
+
+    CharClassInterval [] intervals = classes.getIntervals();
+    assertEquals(6, intervals.length);
+    assertEquals('x', intervals[4].start);
+    assertEquals('z', intervals[4].end);
+    assertEquals(classes.getClassCode('y'), intervals[4].charClass);
+    assertEquals(classes.getClassCode('!'), classes.getClassCode('~'));
+
+    int [] codes = classes.getClassCodes(new IntCharSet(new Interval('a','z')).getIntervals());
+    assertEquals(2, codes.length);
+    assertEquals(classes.getClassCode('a'), codes[0]);
+    assertEquals(classes.getClassCode('z'), codes[1]);
+  }
+
+  public void testMergeClasses() {
+    CharClasses classes = new CharClasses(127, null);
+    classes.makeClass(new IntCharSet(new Interval('a','z')), false);
+    classes.makeClass(new IntCharSet(new Interval('0','9')), false);
+    classes.makeClass(new IntCharSet(new Interval('x','z')), false);
+    int x = classes.getClassCode('x');
+    int a = classes.getClassCode('a');
+    int zero = classes.getClassCode('0');
+
+    // merge x-z back into a-z
+    int [] map = new int [4];
+    for (int c = 0, n = 0; c < 4; c++)
+      map[c] = c == x ? map[a] : n++;
+    classes.mergeClasses(map, 3);
+    classes.check();
+
+    assertEquals(3, classes.getNumClasses());
+    assertEquals(classes.getClassCode('a'), classes.getClassCode('y'));
+    assertEquals(map[zero], classes.getClassCode('5'));
+    CharClassInterval [] intervals = classes.getIntervals();
+    assertEquals(5, intervals.length);
+    assertEquals('a', intervals[3].start);
+    assertEquals('z', intervals[3].end);
+  }
 }
@@ -0,0 +1,151 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for the compressed transition rows of the DFA.
+ *
+ * @author Gerwin Klein
+ * @version $Revision$, $Date$
+ */
+public class DFATest extends TestCase {
+
+  /**
+   * Constructor for DFATest.
+   * @param name  the test name
+   */
+  public DFATest(String name) {
+    super(name);
+  }
+
+  private DFA makeDFA() {
+    GeneratorContext c = new GeneratorContext();
+    c.verbose = false;
+    return new DFA(c, 2, 10, 1);
+  }
+
+  public void testCompressedRows() {
+    DFA dfa = makeDFA();
+
+    // state 0 goes to 1 with all inputs except 3
+    for (int c = 0; c < 10; c++)
+      if (c != 3) dfa.addTransition(0, (char) c, 1);
+    dfa.addTransition(1, (char) 5, 0);
+    dfa.addTransition(1, (char) 5, 1);
+
+    int [] row = new int [10];
+    dfa.expandRow(0, row);
+    for (int c = 0; c < 10; c++) {
+      int t = c == 3 ? DFA.NO_TARGET : 1;
+      assertEquals(t, row[c]);
+      assertEquals(t, dfa.getTransition(0, c));
+    }
+    assertEquals(1, dfa.defaultTarget[0]);
+    assertEquals(1, dfa.numExceptions[0]);
+
+    assertEquals(1, dfa.getTransition(1, 5));
+    assertEquals(DFA.NO_TARGET, dfa.getTransition(1, 4));
+    assertTrue(dfa.hasTransition(0));
+    assertTrue(dfa.hasTransition(1));
+    assertTrue(!dfa.hasTransition(2));
+  }
+
+  public void testSameTransitions() {
+    DFA dfa = makeDFA();
+
+    // same transitions, different representation before compression
+    for (int c = 0; c < 10; c++) dfa.addTransition(0, (char) c, 2);
+    dfa.addTransition(1, (char) 0, 0);
+    for (int c = 0; c < 10; c++) dfa.addTransition(2, (char) c, 2);
+    for (int c = 0; c < 10; c++) dfa.addTransition(1, (char) c, 2);
+
+    assertTrue(dfa.sameTransitions(0, 1, null));
+    assertEquals(dfa.hashTransitions(0, null), dfa.hashTransitions(1, null));
+
+    // 0 and 2 only differ in targets that are mapped to the same block
+    dfa.addTransition(3, (char) 4, 1);
+    assertTrue(!dfa.sameTransitions(0, 3, null));
+    int [] block = { 0, 0, 0, 0 };
+    assertTrue(!dfa.sameTransitions(0, 3, block));
+    dfa.addTransition(0, (char) 4, 0);
+    assertTrue(!dfa.sameTransitions(0, 2, null));
+    assertTrue(dfa.sameTransitions(0, 2, block));
+    assertEquals(dfa.hashTransitions(0, block), dfa.hashTransitions(2, block));
+  }
+
+  public void testReduceInputs() {
+    DFA dfa = makeDFA();
+
+    // inputs 0-4 and 7 behave the same, as do 5 and 8
+    for (int c = 0; c < 10; c++) dfa.addTransition(0, (char) c, 1);
+    dfa.addTransition(0, (char) 5, 0);
+    dfa.addTransition(0, (char) 8, 0);
+    dfa.addTransition(0, (char) 6, DFA.NO_TARGET);
+    dfa.addTransition(1, (char) 9, 0);
+
+    int [] map = dfa.reduceInputs();
+    assertEquals(4, dfa.numInput);
+    int [] expected = { 0, 0, 0, 0, 0, 1, 2, 0, 1, 3 };
+    for (int c = 0; c < 10; c++) {
+      assertEquals(expected[c], map[c]);
+      assertEquals(dfa.getTransition(0, map[c]), c == 6 ? DFA.NO_TARGET :
+                   c == 5 || c == 8 ? 0 : 1);
+    }
+    assertEquals(0, dfa.getTransition(1, 3));
+    assertEquals(DFA.NO_TARGET, dfa.getTransition(1, 0));
+  }
+
+  /** runs the DFA from state s on some bytes, returns the last state */
+  private static int run(DFA dfa, int s, int... bytes) {
+    for (int b : bytes) {
+      if (s == DFA.NO_TARGET) return s;
+      s = dfa.getTransition(s, b);
+    }
+    return s;
+  }
+
+  public void testUTF8Encode() {
+    GeneratorContext c = new GeneratorContext();
+    c.verbose = false;
+    CharClasses classes = new CharClasses(CharClasses.maxChar, null);
+    classes.makeClass(0xE9, false);     // e acute
+    classes.makeClass(0x1F600, false);  // grinning face
+
+    DFA dfa = new DFA(c, 2, classes.getNumClasses(), 1);
+    dfa.addTransition(0, (char) classes.getClassCode(0xE9), 1);
+    dfa.addTransition(1, (char) classes.getClassCode(0x1F600), 0);
+    dfa.setFinal(1, true);
+
+    DFA bytes = UTF8Encoder.encode(dfa, classes);
+    assertEquals(256, bytes.numInput);
+    assertTrue(bytes.isFinal[1]);
+
+    assertEquals(1, run(bytes, 0, 0xC3, 0xA9));
+    assertEquals(0, run(bytes, 1, 0xF0, 0x9F, 0x98, 0x80));
+
+    // incomplete sequences end in intermediate states
+    int half = run(bytes, 0, 0xC3);
+    assertTrue(half > 1);
+    assertFalse(bytes.isFinal[half]);
+
+    // no overlong encodings, no other characters
+    assertEquals(DFA.NO_TARGET, run(bytes, 0, 0xE0, 0x83, 0xA9));
+    assertEquals(DFA.NO_TARGET, run(bytes, 0, 0xC3, 0xA8));
+    assertEquals(DFA.NO_TARGET, run(bytes, 0, 'e'));
+    assertEquals(DFA.NO_TARGET, run(bytes, 1, 0xF0, 0x9F, 0x98, 0x81));
+
+    classes.setByteClasses();
+    assertEquals(255, classes.getMaxCharCode());
+    assertEquals(256, classes.getNumClasses());
+    assertEquals(0xA9, classes.getClassCode(0xA9));
+  }
+}
@@ -0,0 +1,93 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex;
+
+import java.io.File;
+import java.io.FileReader;
+
+
+/**
+ * Measures the epsilon closure phase of the NFA to DFA conversion.
+ *
+ * For each specification, compares one traversal per NFA state
+ * (<code>closure(i)</code> for every state i, the former
+ * <code>epsilonFill</code>) with the traversal of the strongly connected
+ * components in <code>NFA.epsilonFill</code>, and checks that both
+ * compute the same closures. Reports the best time of several runs.
+ *
+ * Usage: <code>java jflex.EpsilonClosureBenchmark [-runs n] file.flex ...</code>,
+ * e.g. on <code>src/main/jflex/LexScan.flex</code> and the specifications
+ * of the <code>unicode-*</code> testcases.
+ *
+ * @author Gerwin Klein
+ * @version JFlex 1.5, $Revision$, $Date$
+ */
+public class EpsilonClosureBenchmark {
+
+  public static void main(String [] argv) throws Exception {
+    int runs = 30;
+    int i = 0;
+    if (argv.length > 1 && argv[0].equals("-runs")) {
+      runs = Integer.parseInt(argv[1]);
+      i = 2;
+    }
+
+    for (; i < argv.length; i++) {
+      File file = new File(argv[i]);
+
+      long perState = Long.MAX_VALUE;
+      long components = Long.MAX_VALUE;
+      int states = 0;
+
+      for (int r = 0; r < runs; r++) {
+        NFA nfa = parse(file);
+        states = nfa.numStates;
+
+        long start = System.nanoTime();
+        StateSet [] closures = new StateSet [nfa.numStates];
+        for (int s = 0; s < nfa.numStates; s++)
+          closures[s] = nfa.closure(s);
+        perState = Math.min(perState, System.nanoTime()-start);
+
+        start = System.nanoTime();
+        nfa.epsilonFill();
+        components = Math.min(components, System.nanoTime()-start);
+
+        for (int s = 0; s < nfa.numStates; s++)
+          if (!closures[s].equals(nfa.epsilon[s]))
+            throw new IllegalStateException(file+": closures of state "+s+" differ");
+      }
+
+      System.out.println(file+" ("+states+" NFA states): "+
+                         millis(perState)+" ms per state, "+
+                         millis(components)+" ms by components");
+    }
+  }
+
+  private static NFA parse(File file) throws Exception {
+    GeneratorContext context = new GeneratorContext();
+    context.verbose = false;
+    Out.setContext(context);
+    FileReader reader = new FileReader(file);
+    try {
+      LexScan scanner = new LexScan(reader, context);
+      scanner.setFile(file);
+      return (NFA) new LexParse(scanner).parse().value;
+    }
+    finally {
+      reader.close();
+      Out.setContext(null);
+    }
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.2f", nanos / 1e6);
+  }
+}
@@ -0,0 +1,116 @@
+/* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * JFlex 1.5                                                               *
+ * Copyright (C) 1998-2009  Gerwin Klein <lsf@jflex.de>                    *
+ * All rights reserved.                                                    *
+ *                                                                         *
+ * License: BSD                                                            *
+ *                                                                         *
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * */
+
+package jflex;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for per run generator settings.
+ *
+ * @author Gerwin Klein
+ * @version $Revision$, $Date$
+ */
+public class GeneratorContextTest extends TestCase {
+
+  private final String SPEC = "src/test/resources/jflex/simple.flex";
+  private final String OUT_DIR = "target/generator-context-test";
+
+  /**
+   * Constructor for GeneratorContextTest.
+   * @param name test name
+   */
+  public GeneratorContextTest(String name) {
+    super(name);
+  }
+
+  protected void tearDown() throws Exception {
+    Options.setDefaults();
+    super.tearDown();
+  }
+
+  public void testFromOptions() {
+    Options.no_minimize = true;
+    GeneratorContext c = GeneratorContext.fromOptions();
+    assertTrue(c.no_minimize);
+    Options.no_minimize = false;
+    assertTrue(c.no_minimize);
+    assertTrue(!new GeneratorContext().no_minimize);
+  }
+
+  public void testPrivateSkeleton() {
+    GeneratorContext c = GeneratorContext.fromOptions();
+    Skeleton.makePrivate(c.skeleton);
+    for (int i=0; i < c.skeleton.length; i++)
+      assertEquals(c.skeleton[i].indexOf(" public "), -1);
+    boolean publicLeft = false;
+    for (int i=0; i < Skeleton.line.length; i++)
+      publicLeft |= Skeleton.line[i].indexOf(" public ") >= 0;
+    assertTrue(publicLeft);
+  }
+
+  /**
+   * Generates the same spec with different options on two threads
+   */
+  public void testConcurrentRuns() throws Exception {
+    final GeneratorContext pack = new GeneratorContext();
+    pack.verbose = false;
+    pack.setDir(new File(OUT_DIR, "pack"));
+
+    final GeneratorContext sw = new GeneratorContext();
+    sw.verbose = false;
+    sw.gen_method = Options.SWITCH;
+    sw.setDir(new File(OUT_DIR, "switch"));
+
+    final Throwable [] failure = new Throwable[2];
+    Thread [] threads = new Thread[2];
+    for (int i = 0; i < 2; i++) {
+      final int n = i;
+      threads[i] = new Thread() {
+        public void run() {
+          try {
+            for (int k = 0; k < 5; k++)
+              Main.generate(new File(SPEC), n == 0 ? pack : sw);
+          }
+          catch (Throwable e) {
+            failure[n] = e;
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (int i = 0; i < 2; i++) {
+      threads[i].join();
+      assertNull(failure[i]);
+    }
+
+    assertEquals(0, pack.getErrors());
+    assertEquals(0, sw.getErrors());
+    assertTrue(contains(new File(pack.getDir(), "Yylex.java"), "ZZ_TRANS"));
+    assertTrue(!contains(new File(sw.getDir(), "Yylex.java"), "ZZ_TRANS"));
+  }
+
+  private boolean contains(File f, String s) throws IOException {
+    BufferedReader r = new BufferedReader(new FileReader(f));
+    try {
+      String line;
+      while ((line = r.readLine()) != null)
+        if (line.indexOf(s) >= 0) return true;
+      return false;
+    }
+    finally {
+      r.close();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package jflex;
+
+import junit.framework.TestCase;
+
+public class IntervalSetCacheTest extends TestCase {
+  /**
+   * Constructor for IntervalSetCacheTest.
+   * @param name  the test name
+   */
+  public IntervalSetCacheTest(String name) {
+    super(name);
+  }
+
+  public void testHitsAndMisses() {
+    IntervalSetCache cache = new IntervalSetCache(4);
+    IntervalSet digits = IntervalSet.of('0','9');
+    assertNull(cache.get("digit"));
+    cache.put("digit", digits);
+    assertSame(digits, cache.get("digit"));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHits());
+  }
+
+  public void testThreadCounts() throws InterruptedException {
+    final IntervalSetCache cache = new IntervalSetCache(4);
+    int [] start = cache.getThreadCounts();
+    cache.put("digit", IntervalSet.of('0','9'));
+    cache.get("digit");
+
+    // lookups of other threads don't count for this one
+    Thread other = new Thread() {
+      public void run() {
+        cache.get("digit");
+        cache.get("letter");
+      }
+    };
+    other.start();
+    other.join();
+
+    int [] end = cache.getThreadCounts();
+    assertEquals(1, end[0]-start[0]);
+    assertEquals(0, end[1]-start[1]);
+    assertEquals(2, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  public void testEvictsLeastRecentlyUsed() {
+    IntervalSetCache cache = new IntervalSetCache(2);
+    cache.put("a", IntervalSet.of('a'));
+    cache.put("b", IntervalSet.of('b'));
+    cache.get("a");
+    cache.put("c", IntervalSet.of('c'));
+    assertEquals(2, cache.size());
+    assertNotNull(cache.get("a"));
+    assertNull(cache.get("b"));
+    assertNotNull(cache.get("c"));
+  }
+}
@@ -0,0 +1,63 @@
+package jflex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+public class IntervalSetTest extends TestCase {
+  /**
+   * Constructor for IntervalSetTest.
+   * @param name  the test name
+   */
+  public IntervalSetTest(String name) {
+    super(name);
+  }
+
+  public void testOfList() {
+    List<Interval> list = new ArrayList<Interval>();
+    list.add(new Interval('o','z'));
+    list.add(new Interval('A','Z'));
+    list.add(new Interval('a','h'));
+    list.add(new Interval('i','n'));
+    list.add(new Interval('+','*'));
+    assertEquals("{ ['A'-'Z']['a'-'z'] }", IntervalSet.of(list).toString());
+  }
+
+  public void testUnion() {
+    IntervalSet a = IntervalSet.of('a','h').union(IntervalSet.of('x','z'));
+    IntervalSet b = IntervalSet.of('i','k').union(IntervalSet.of('0','9'));
+    assertEquals("{ ['0'-'9']['a'-'k']['x'-'z'] }", a.union(b).toString());
+    assertSame(a, a.union(IntervalSet.EMPTY));
+  }
+
+  public void testIntersect() {
+    IntervalSet a = IntervalSet.of('a','h').union(IntervalSet.of('x','z'));
+    IntervalSet b = IntervalSet.of('f','y');
+    assertEquals("{ ['f'-'h']['x'-'y'] }", a.intersect(b).toString());
+    assertTrue(a.intersect(IntervalSet.of('0','9')).isEmpty());
+  }
+
+  public void testSubtract() {
+    IntervalSet a = IntervalSet.of('a','z');
+    IntervalSet b = IntervalSet.of('c','d').union(IntervalSet.of('f'))
+      .union(IntervalSet.of('x','~'));
+    assertEquals("{ ['a'-'b']['e']['g'-'w'] }", a.subtract(b).toString());
+    assertEquals(IntervalSet.of('e').union(IntervalSet.of('g','w')),
+                 IntervalSet.of('c','w').subtract(b));
+  }
+
+  public void testComplement() {
+    IntervalSet a = IntervalSet.of(0,'9').union(IntervalSet.of('a','z'));
+    assertEquals("{ [':'-'`']['{'-'~'] }", a.complement('~').toString());
+    assertEquals(a, a.complement(0xFFFF).complement(0xFFFF));
+  }
+
+  public void testContains() {
+    IntervalSet a = IntervalSet.of('a','c').union(IntervalSet.of('x'));
+    assertTrue(a.contains('b'));
+    assertTrue(a.contains('x'));
+    assertFalse(a.contains('d'));
+    assertFalse(a.contains('y'));
+  }
+}
@@ -0,0 +1,78 @@
+package jflex;
+
+import junit.framework.TestCase;
+
+public class StateSetTest extends TestCase {
+  /**
+   * Constructor for StateSetTest.
+   * @param name  the test name
+   */
+  public StateSetTest(String name) {
+    super(name);
+  }
+
+  private StateSet dense(int [] states) {
+    StateSet s = new StateSet(1000);
+    for (int state : states) s.addState(state);
+    return s;
+  }
+
+  private StateSet sparse(int [] states) {
+    StateSet s = new StateSet(1000, states[0]);
+    for (int state : states) s.addState(state);
+    return s;
+  }
+
+  public void testSparseEqualsDense() {
+    int [] states = { 700, 3, 64, 65, 0, 999 };
+    StateSet d = dense(states);
+    StateSet s = sparse(states);
+    assertNull(s.bits);
+    assertEquals(d, s);
+    assertEquals(s, d);
+    assertEquals(d.hashCode(), s.hashCode());
+    assertEquals(d.toString(), s.toString());
+    assertEquals(d, d.compact());
+    assertEquals(s, s.compact());
+
+    s.remove(64);
+    assertTrue(!d.equals(s));
+    d.remove(64);
+    assertEquals(d, s);
+    assertEquals(d.hashCode(), s.hashCode());
+  }
+
+  public void testGrowToDense() {
+    StateSet s = new StateSet(10, 0);
+    StateSet d = new StateSet(10);
+    for (int i = 0; i <= 3*StateSet.SPARSE_LIMIT; i+= 3) {
+      s.addState(i);
+      d.addState(i);
+    }
+    d.addState(0);
+    assertNotNull(s.bits);
+    assertEquals(d, s);
+    assertEquals(d.hashCode(), s.hashCode());
+  }
+
+  public void testAddAndComplement() {
+    StateSet a = sparse(new int [] { 1, 5, 9 });
+    StateSet b = dense(new int [] { 5, 6, 300 });
+
+    StateSet c = a.complement(b);
+    assertEquals(dense(new int [] { 6, 300 }), c);
+
+    a.add(b);
+    assertEquals(dense(new int [] { 1, 5, 6, 9, 300 }), a);
+    assertTrue(a.containsSet(b));
+    assertTrue(!b.containsSet(a));
+
+    StateSet e = new StateSet(10);
+    e.copy(a);
+    assertEquals(a, e);
+    e.clear();
+    assertTrue(!e.containsElements());
+    assertEquals(new StateSet(), e);
+    assertEquals(new StateSet().hashCode(), e.hashCode());
+  }
+}
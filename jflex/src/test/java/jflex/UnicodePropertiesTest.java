@@ -100,6 +100,69 @@ public class UnicodePropertiesTest extends TestCase {
     }
   }
 
+  public void testUnpackOnLookup() {
+    try {
+      UnicodeProperties properties = new UnicodeProperties("6.0");
+      IntervalSet set = properties.getIntervalSet("Lo");
+      assertNotNull("Null interval set returned for \\p{Lo}", set);
+      assertSame("\\p{Lo} should be unpacked only once",
+                 set, properties.getIntervalSet("Lo"));
+      assertSame("\\p{Other Letter} and \\p{Lo} should share their intervals",
+                 set, properties.getIntervalSet("Other Letter"));
+      assertTrue("\\p{L} should contain \\p{Lo}",
+                 set.subtract(properties.getIntervalSet("L")).isEmpty());
+      assertTrue("Property values should include aliases",
+                 properties.getPropertyValues().contains("otherletter"));
+    } catch (UnicodeProperties.UnsupportedUnicodeVersionException e) {
+      assertTrue("Version '6.0' not supported: " + e, false);
+    }
+  }
+
+  public void testComplementOnLookup() {
+    try {
+      UnicodeProperties properties = new UnicodeProperties("6.0");
+      IntervalSet complement = properties.getComplementIntervalSet("Lu");
+      assertNotNull("Null complement returned for \\P{Lu}", complement);
+      assertTrue("\\P{Lu} should be the complement of \\p{Lu}",
+                 complement.union(properties.getIntervalSet("Lu"))
+                   .equals(IntervalSet.of(0, CharClasses.maxChar)));
+      assertFalse("\\P{Lu} should not contain 'A'", complement.contains('A'));
+      assertSame("\\P{Lu} should be computed only once",
+                 complement, properties.getComplementIntervalSet("Lu"));
+      assertEquals("\\P{Uppercase Letter} and \\P{Lu} should be equal",
+                   complement, properties.getComplementIntervalSet("Uppercase Letter"));
+      assertSame("\\P{Lu} should be shared with other instances", complement,
+                 new UnicodeProperties("6.0").getComplementIntervalSet("Lu"));
+      assertNull("Unknown properties have no complement",
+                 properties.getComplementIntervalSet("NoSuchProperty"));
+    } catch (UnicodeProperties.UnsupportedUnicodeVersionException e) {
+      assertTrue("Version '6.0' not supported: " + e, false);
+    }
+  }
+
+  public void testCaselessClosure() {
+    try {
+      UnicodeProperties properties = new UnicodeProperties("6.0");
+      IntervalSet set = IntervalSet.of('a', 'z');
+      IntervalSet closure = properties.getCaselessClosure(set);
+      assertTrue("Caseless closure of [a-z] should contain 'K'",
+                 closure.contains('K'));
+      assertTrue("Caseless closure of [a-z] should contain KELVIN SIGN",
+                 closure.contains('\u212A'));
+      assertFalse("Caseless closure of [a-z] should not contain '0'",
+                  closure.contains('0'));
+      assertSame("Caseless closure should be computed only once",
+                 closure, properties.getCaselessClosure(IntervalSet.of('a', 'z')));
+      assertNull("'0' has no caseless matches except itself",
+                 properties.getCaselessIntervalSet('0'));
+      // 10400;DESERET CAPITAL LETTER LONG I;Lu;...;10428;
+      assertTrue("Caseless matches of U+10400 should contain U+10428",
+                 properties.getCaselessIntervalSet(0x10400).contains(0x10428));
+    } catch (UnicodeProperties.UnsupportedUnicodeVersionException e) {
+      assertTrue("Version '6.0' not supported: " + e, false);
+    }
+  }
+
   public void testCaselessMatches_1_1() {
     try {
       UnicodeProperties properties = new UnicodeProperties("1.1");
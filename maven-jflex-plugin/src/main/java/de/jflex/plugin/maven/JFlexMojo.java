@@ -33,6 +33,7 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.project.MavenProject;
 
+import jflex.GeneratorContext;
 import jflex.Main;
 import jflex.Options;
 
@@ -119,7 +120,7 @@ public class JFlexMojo extends AbstractMojo {
 
 	/**
 	 * The generation method to use for the scanner. Valid values are
-	 * <code>switch</code>, <code>table</code> and <code>pack</code>.
+	 * <code>switch</code>, <code>table</code>, <code>pack</code> and <code>lazy</code>.
 	 * Please see the <a href="http://jflex.de/manual.html#CodeGeneration">JFlex
 	 * manual</a> for more details about the various methods.
 	 * 
@@ -143,6 +144,36 @@ public class JFlexMojo extends AbstractMojo {
 	 */
 	private boolean backup = true; // NOPMD
 
+	/**
+	 * A flag whether to use multiple threads for the NFA to DFA conversion.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean parallelDfa = false; // NOPMD
+
+	/**
+	 * A flag whether to minimize on the existing transitions only. Needs
+	 * less memory for DFAs with many states and character classes.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean sparseMinimize = false; // NOPMD
+
+	/**
+	 * A flag whether to use multiple threads for the DFA minimization.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean parallelMinimize = false; // NOPMD
+
+	/**
+	 * A flag whether to build position automata (Glushkov construction)
+	 * instead of NFAs with epsilon transitions.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean glushkov = false; // NOPMD
+
 	/**
 	 * Generate java parsers from lexer definition files.
 	 * 
@@ -246,33 +277,39 @@ public class JFlexMojo extends AbstractMojo {
 		}
 
 		/*
-		 * set options. Very strange that JFlex expects this in a static way.
+		 * set options for this run only, other executions may run concurrently
 		 */
-		Options.setDefaults();
-		Options.setDir(generatedFile.getParentFile());
-		Options.dump = verbose;
-		Options.verbose = verbose;
-		Options.dot = dot;
+		GeneratorContext context = new GeneratorContext();
+		context.setDir(generatedFile.getParentFile());
+		context.dump = verbose;
+		context.verbose = verbose;
+		context.dot = dot;
 		if (skeleton != null) {
-			Options.setSkeleton(skeleton);
+			context.setSkeleton(skeleton);
 		}
-		Options.jlex = jlex;
-
-		Options.no_minimize = !minimize; // NOPMD
-		Options.no_backup = !backup;     // NOPMD
+		context.jlex = jlex;
+
+		context.no_minimize = !minimize; // NOPMD
+		context.no_backup = !backup;     // NOPMD
+		context.parallel_dfa = parallelDfa;
+		context.sparse_minimize = sparseMinimize;
+		context.parallel_minimize = parallelMinimize;
+		context.glushkov = glushkov;
 		if ("switch".equals(generationMethod)) {
-			Options.gen_method = Options.SWITCH;
+			context.gen_method = Options.SWITCH;
 		} else if ("table".equals(generationMethod)) {
-			Options.gen_method = Options.TABLE;
+			context.gen_method = Options.TABLE;
 		} else if ("pack".equals(generationMethod)) {
-			Options.gen_method = Options.PACK;
+			context.gen_method = Options.PACK;
+		} else if ("lazy".equals(generationMethod)) {
+			context.gen_method = Options.LAZY;
 		} else {
 			throw new MojoExecutionException("Illegal generation method: "
 					+ generationMethod);
 		}
 
 		try {
-			Main.generate(lexFile);
+			Main.generate(lexFile, context);
 			getLog().info("  generated " + generatedFile);
 		} catch (Exception e) {
 			throw new MojoExecutionException(e.getMessage());